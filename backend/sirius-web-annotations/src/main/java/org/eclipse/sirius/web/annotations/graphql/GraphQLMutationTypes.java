@@ -31,4 +31,11 @@ public @interface GraphQLMutationTypes {
     Class<?> input();
 
     Class<?>[] payloads();
+
+    /**
+     * The additional input types referenced by the input of the mutation.
+     *
+     * @return The classes of the additional input types
+     */
+    Class<?>[] additionalInputs() default {};
 }
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.services.api.dto.IInput;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+
+/**
+ * An input used to perform several operations on a project at once.
+ * <p>
+ * The inputs of the batch are handled one after the other by the project event processor without letting any other
+ * input of the project run in the middle. The representations are only refreshed once and the editing context is only
+ * persisted once, after the last input of the batch.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class BatchInput implements IProjectInput {
+
+    private final UUID projectId;
+
+    private final List<IInput> inputs;
+
+    public BatchInput(UUID projectId, List<IInput> inputs) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.inputs = List.copyOf(Objects.requireNonNull(inputs));
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    public List<IInput> getInputs() {
+        return this.inputs;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, inputs: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.inputs.size());
+    }
+}
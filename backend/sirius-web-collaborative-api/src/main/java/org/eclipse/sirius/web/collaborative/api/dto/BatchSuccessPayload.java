@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+
+/**
+ * The payload of the batch mutation.
+ * <p>
+ * It contains the payload of each input of the batch, in the order of the inputs. In the GraphQL schema, these
+ * payloads are exposed as a list of the IPayload union, which contains the payloads of the operations supported in a
+ * batch.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class BatchSuccessPayload implements IPayload {
+
+    private final List<IPayload> payloads;
+
+    public BatchSuccessPayload(List<IPayload> payloads) {
+        this.payloads = List.copyOf(Objects.requireNonNull(payloads));
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull IPayload> getPayloads() {
+        return this.payloads;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getOperationCount() {
+        return this.payloads.size();
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull String> getErrorMessages() {
+        // @formatter:off
+        return this.payloads.stream()
+                .filter(ErrorPayload.class::isInstance)
+                .map(ErrorPayload.class::cast)
+                .map(ErrorPayload::getMessage)
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'operationCount: {1}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.payloads.size());
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Handles all of the input events and emit output events of a specific project.
@@ -37,7 +38,17 @@ public interface IProjectEventProcessor {
 
     void release(SubscriptionDescription subscriptionDescription, Context context);
 
-    Optional<IPayload> handle(IInput input, Context context);
+    /**
+     * Handles the given input after all the inputs previously received by the processor.
+     *
+     * @param input
+     *            The input to handle
+     * @param context
+     *            The context of the input
+     * @return A mono emitting the payload computed once the input has been handled, or completing empty if the input
+     *         could not be handled
+     */
+    Mono<IPayload> handle(IInput input, Context context);
 
     void dispose();
 
@@ -20,6 +20,8 @@ import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Registry of all the project event handlers.
  *
@@ -30,6 +32,20 @@ public interface IProjectEventProcessorRegistry {
 
     Optional<IPayload> dispatchEvent(UUID projectId, IInput input, Context context);
 
+    /**
+     * Dispatches the given input to the processor of the project without waiting for the input to be handled.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param input
+     *            The input to handle
+     * @param context
+     *            The context of the input
+     * @return A mono emitting the payload once the input has been handled, or completing empty if the input could not
+     *         be handled
+     */
+    Mono<IPayload> dispatchEventAsync(UUID projectId, IInput input, Context context);
+
     Optional<IProjectEventProcessor> getOrCreateProjectEventProcessor(UUID projectId);
 
     void dispose(UUID projectId);
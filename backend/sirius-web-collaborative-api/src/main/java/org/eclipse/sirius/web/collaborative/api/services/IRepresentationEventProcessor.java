@@ -34,6 +34,21 @@ public interface IRepresentationEventProcessor {
 
     void refresh(IStopWatch stopWatch);
 
+    /**
+     * Indicates that the representation has not been refreshed after the latest changes since they have not impacted
+     * any of its dependencies.
+     */
+    void skipRefresh();
+
+    /**
+     * Returns the semantic objects used by the last rendering of the representation. The representation does not need
+     * to be refreshed after some changes which have not impacted any of those objects.
+     *
+     * @return The semantic objects used by the representation or an empty optional if they are not known, in which case
+     *         the representation should be refreshed after any change
+     */
+    Optional<RepresentationDependencies> getDependencies();
+
     ISubscriptionManager getSubscriptionManager();
 
     Flux<IPayload> getOutputEvents();
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The semantic objects used by the last rendering of a representation.
+ * <p>
+ * Only the objects read through the semantic elements of the representation are known. Since any other object may have
+ * been read by an expression, the modification of an object outside of the containment subtree of the target object
+ * of the representation has to be considered as impacting the representation.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDependencies {
+    private final Object targetObject;
+
+    private final Set<Object> readObjects;
+
+    public RepresentationDependencies(Object targetObject, Set<Object> readObjects) {
+        this.targetObject = Objects.requireNonNull(targetObject);
+        this.readObjects = Objects.requireNonNull(readObjects);
+    }
+
+    public Object getTargetObject() {
+        return this.targetObject;
+    }
+
+    public Set<Object> getReadObjects() {
+        return this.readObjects;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'targetObject: {1}, readObjectCount: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.targetObject, this.readObjects.size());
+    }
+}
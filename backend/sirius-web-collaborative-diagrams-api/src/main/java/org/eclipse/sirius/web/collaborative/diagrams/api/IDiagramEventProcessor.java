@@ -13,6 +13,9 @@
 package org.eclipse.sirius.web.collaborative.diagrams.api;
 
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+
+import reactor.core.publisher.Flux;
 
 /**
  * Interface implemented by the diagram event processor.
@@ -21,4 +24,12 @@ import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventPro
  */
 public interface IDiagramEventProcessor extends IRepresentationEventProcessor {
 
+    /**
+     * Returns the output events of the diagram, the refreshes of the diagram may be sent as deltas.
+     *
+     * @param deltaEnabled
+     *            <code>true</code> if the subscriber supports the delta payloads, <code>false</code> otherwise
+     * @return The output events
+     */
+    Flux<IPayload> getOutputEvents(boolean deltaEnabled);
 }
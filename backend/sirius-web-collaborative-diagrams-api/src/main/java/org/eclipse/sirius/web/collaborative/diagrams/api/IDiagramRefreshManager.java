@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.collaborative.diagrams.api;
 
 import java.util.UUID;
 
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 
@@ -29,10 +30,37 @@ public interface IDiagramRefreshManager {
 
     void refresh(UUID projectId, DiagramCreationParameters diagramCreationParameters);
 
+    /**
+     * Indicates that the diagram has not been refreshed after the latest changes since they have not impacted it. The
+     * next refresh can thus still reuse the previous rendering.
+     *
+     * @param diagramCreationParameters
+     *            The parameters of the diagram
+     */
+    void skipRefresh(DiagramCreationParameters diagramCreationParameters);
+
     Diagram getDiagram();
 
+    /**
+     * Returns the semantic objects used by the last rendering of the diagram, that is to say its target object along
+     * with all the semantic candidates computed for its nodes and edges.
+     *
+     * @return The semantic objects used by the diagram
+     */
+    RepresentationDependencies getDependencies();
+
     Flux<IPayload> getFlux();
 
+    /**
+     * Returns the flux of events of the diagram.
+     *
+     * @param deltaEnabled
+     *            <code>true</code> to receive the differences between two versions of the diagram after the first one,
+     *            <code>false</code> to receive the whole diagram after each refresh
+     * @return The flux of events
+     */
+    Flux<IPayload> getFlux(boolean deltaEnabled);
+
     void dispose();
 
     void preDestroy();
@@ -17,6 +17,8 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 
 /**
  * Interface used to manipulate diagrams.
@@ -26,6 +28,20 @@ import org.eclipse.sirius.web.diagrams.Node;
 public interface IDiagramService {
     Diagram create(DiagramCreationParameters parameters);
 
+    /**
+     * Creates the diagram while reusing the unchanged nodes of a previous rendering.
+     *
+     * @param parameters
+     *            The parameters of the diagram
+     * @param cache
+     *            The cache which will be populated during the rendering
+     * @param incrementalRenderingContext
+     *            The information used to reuse the nodes of the previous rendering or <code>null</code> to render the
+     *            whole diagram
+     * @return The diagram
+     */
+    Diagram create(DiagramCreationParameters parameters, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext);
+
     Optional<Diagram> findById(UUID diagramId);
 
     Optional<Node> findNodeById(Diagram diagram, String nodeId);
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * A node added in a diagram with the identifier of its parent node.
+ * <p>
+ * The parent identifier is <code>null</code> if the node has been added directly in the diagram.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class AddedNode {
+    private final String parentId;
+
+    private final Node node;
+
+    public AddedNode(String parentId, Node node) {
+        this.parentId = parentId;
+        this.node = Objects.requireNonNull(node);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    public String getParentId() {
+        return this.parentId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public Node getNode() {
+        return this.node;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'parentId: {1}, node: '{'id: {2}'}''}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.parentId, this.node.getId());
+    }
+}
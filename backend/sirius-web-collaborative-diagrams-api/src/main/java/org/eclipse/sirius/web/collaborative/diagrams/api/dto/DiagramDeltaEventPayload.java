@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+
+/**
+ * Payload used to indicate the differences between the previous version of the diagram and the refreshed one.
+ * <p>
+ * The label, the position and the size of the diagram are the same in both versions of the diagram, the whole diagram
+ * is sent instead of a delta if they have changed. A delta is thus empty if it does not contain any node or edge.
+ * </p>
+ * <p>
+ * The added nodes contain their whole subtree while the updated nodes only contain their own properties, without their
+ * border and child nodes which have their own delta. The labels are part of the nodes and edges which own them. A delta
+ * can be applied more than once on the same diagram with the same result: the added elements replace the existing
+ * elements with the same identifier and the removed elements may not exist anymore.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class DiagramDeltaEventPayload implements IPayload {
+
+    private final Diagram diagram;
+
+    private final List<AddedNode> addedNodes;
+
+    private final List<Node> updatedNodes;
+
+    private final List<String> removedNodeIds;
+
+    private final List<Edge> addedEdges;
+
+    private final List<Edge> updatedEdges;
+
+    private final List<String> removedEdgeIds;
+
+    public DiagramDeltaEventPayload(Diagram diagram, List<AddedNode> addedNodes, List<Node> updatedNodes, List<String> removedNodeIds, List<Edge> addedEdges, List<Edge> updatedEdges,
+            List<String> removedEdgeIds) {
+        this.diagram = Objects.requireNonNull(diagram);
+        this.addedNodes = Objects.requireNonNull(addedNodes);
+        this.updatedNodes = Objects.requireNonNull(updatedNodes);
+        this.removedNodeIds = Objects.requireNonNull(removedNodeIds);
+        this.addedEdges = Objects.requireNonNull(addedEdges);
+        this.updatedEdges = Objects.requireNonNull(updatedEdges);
+        this.removedEdgeIds = Objects.requireNonNull(removedEdgeIds);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getDiagramId() {
+        return this.diagram.getId();
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public Position getPosition() {
+        return this.diagram.getPosition();
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public Size getSize() {
+        return this.diagram.getSize();
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull AddedNode> getAddedNodes() {
+        return this.addedNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Node> getUpdatedNodes() {
+        return this.updatedNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull String> getRemovedNodeIds() {
+        return this.removedNodeIds;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getAddedEdges() {
+        return this.addedEdges;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getUpdatedEdges() {
+        return this.updatedEdges;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull String> getRemovedEdgeIds() {
+        return this.removedEdgeIds;
+    }
+
+    public boolean isEmpty() {
+        boolean isEmpty = this.addedNodes.isEmpty() && this.updatedNodes.isEmpty() && this.removedNodeIds.isEmpty();
+        return isEmpty && this.addedEdges.isEmpty() && this.updatedEdges.isEmpty() && this.removedEdgeIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'diagramId: {1}, addedNodes: {2}, updatedNodes: {3}, removedNodes: {4}, addedEdges: {5}, updatedEdges: {6}, removedEdges: {7}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.diagram.getId(), this.addedNodes.size(), this.updatedNodes.size(), this.removedNodeIds.size(), this.addedEdges.size(),
+                this.updatedEdges.size(), this.removedEdgeIds.size());
+    }
+}
@@ -32,6 +32,8 @@ public final class DiagramEventInput implements IInput {
 
     private UUID diagramId;
 
+    private boolean deltaEnabled;
+
     @GraphQLID
     @GraphQLField
     @GraphQLNonNull
@@ -46,9 +48,20 @@ public final class DiagramEventInput implements IInput {
         return this.diagramId;
     }
 
+    /**
+     * Indicates if the subscriber can receive the differences between two versions of the diagram instead of the whole
+     * diagram after each refresh. The whole diagram is always sent first.
+     *
+     * @return <code>true</code> if the subscriber supports the delta payloads, <code>false</code> otherwise
+     */
+    @GraphQLField
+    public boolean getDeltaEnabled() {
+        return this.deltaEnabled;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'projectId: {1}, diagramId: {2}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.diagramId);
+        String pattern = "{0} '{'projectId: {1}, diagramId: {2}, deltaEnabled: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.diagramId, this.deltaEnabled);
     }
 }
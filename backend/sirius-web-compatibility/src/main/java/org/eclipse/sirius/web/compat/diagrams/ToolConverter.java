@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.compat.diagrams;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,7 +53,7 @@ public class ToolConverter {
         if (optionalInitialOperation.isPresent()) {
             InitialOperation initialOperation = optionalInitialOperation.get();
             return (variableManager, newText) -> {
-                Map<String, Object> variables = variableManager.getVariables();
+                Map<String, Object> variables = new HashMap<>(variableManager.getVariables());
                 variables.put("arg0", newText); //$NON-NLS-1$
                 return this.childModelOperationHandler.handle(this.interpreter, variables, List.of(initialOperation.getFirstModelOperations()));
             };
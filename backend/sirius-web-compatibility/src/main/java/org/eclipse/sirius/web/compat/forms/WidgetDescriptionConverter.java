@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.compat.forms;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -223,7 +224,7 @@ public class WidgetDescriptionConverter {
         };
 
         BiFunction<VariableManager, String, Status> newValueHandler = (variableManager, newValue) -> {
-            Map<String, Object> variables = variableManager.getVariables();
+            Map<String, Object> variables = new HashMap<>(variableManager.getVariables());
             variables.put(NEW_VALUE, newValue);
 
             InitialOperation initialOperation = selectDescription.getInitialOperation();
@@ -253,7 +254,7 @@ public class WidgetDescriptionConverter {
         StringValueProvider labelProvider = new StringValueProvider(this.interpreter, checkboxDescription.getLabelExpression());
 
         BiFunction<VariableManager, Boolean, Status> newValueHandler = (variableManager, newValue) -> {
-            Map<String, Object> variables = variableManager.getVariables();
+            Map<String, Object> variables = new HashMap<>(variableManager.getVariables());
             variables.put(NEW_VALUE, newValue);
 
             InitialOperation initialOperation = checkboxDescription.getInitialOperation();
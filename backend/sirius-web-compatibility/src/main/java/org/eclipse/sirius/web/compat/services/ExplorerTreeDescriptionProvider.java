@@ -29,7 +29,7 @@ import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationDescriptionService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
-import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 import org.eclipse.sirius.web.trees.description.TreeDescription;
 import org.eclipse.sirius.web.trees.renderer.TreeRenderer;
 import org.springframework.stereotype.Service;
@@ -72,8 +72,8 @@ public class ExplorerTreeDescriptionProvider {
         Object self = variableManager.getVariables().get(VariableManager.SELF);
 
         String id = null;
-        if (self instanceof RepresentationDescriptor) {
-            id = ((RepresentationDescriptor) self).getId().toString();
+        if (self instanceof RepresentationMetadata) {
+            id = ((RepresentationMetadata) self).getId().toString();
         } else if (self instanceof Resource) {
             Resource resource = (Resource) self;
             id = resource.getURI().toString();
@@ -92,8 +92,8 @@ public class ExplorerTreeDescriptionProvider {
         Object self = variableManager.getVariables().get(VariableManager.SELF);
 
         String label = ""; //$NON-NLS-1$
-        if (self instanceof RepresentationDescriptor) {
-            label = ((RepresentationDescriptor) self).getLabel();
+        if (self instanceof RepresentationMetadata) {
+            label = ((RepresentationMetadata) self).getLabel();
         } else if (self instanceof Resource) {
             Resource resource = (Resource) self;
             // @formatter:off
@@ -114,7 +114,7 @@ public class ExplorerTreeDescriptionProvider {
         Object self = variableManager.getVariables().get(VariableManager.SELF);
 
         boolean editable = false;
-        if (self instanceof RepresentationDescriptor) {
+        if (self instanceof RepresentationMetadata) {
             editable = true;
         } else if (self instanceof Resource) {
             editable = true;
@@ -132,7 +132,7 @@ public class ExplorerTreeDescriptionProvider {
         if (self instanceof EObject) {
             String imagePath = this.objectService.getImagePath(self);
             imageURL = imagePath;
-        } else if (self instanceof RepresentationDescriptor) {
+        } else if (self instanceof RepresentationMetadata) {
             imageURL = DiagramImages.DIAGRAM_SVG;
         } else if (self instanceof Resource) {
             imageURL = ImageConstants.RESOURCE_SVG;
@@ -200,7 +200,7 @@ public class ExplorerTreeDescriptionProvider {
                     Resource resource = (Resource) self;
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    result.addAll(this.representationService.getRepresentationDescriptorsForObjectId(id));
+                    result.addAll(this.representationService.getRepresentationMetadataForObjectId(id));
                     List<Object> contents = this.objectService.getContents(context, id);
                     result.addAll(contents);
                 }
@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.diagram.description.DiagramDescription;
@@ -26,20 +28,53 @@ import org.eclipse.sirius.viewpoint.description.Group;
 import org.eclipse.sirius.viewpoint.description.JavaExtension;
 import org.eclipse.sirius.viewpoint.description.Viewpoint;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
+import org.eclipse.sirius.web.representations.LRUCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * This class is used to create a new AQL interpreter using all the Java classes defined in a viewpoint.
  *
+ * <p>
+ * The interpreters are shared by all the descriptions using the same Java classes and the same metamodels, the services
+ * of these classes are thus only registered once and the expressions parsed by an interpreter are reused by all the
+ * representations of a viewpoint. The least recently used interpreters are forgotten once the maximum number of
+ * interpreters has been reached, the descriptions still using them keep working but will not share them anymore.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class AQLInterpreterFactory {
 
+    /**
+     * The default maximum number of interpreters kept by the factory.
+     */
+    public static final int DEFAULT_MAX_INTERPRETER_COUNT = 100;
+
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreterFactory.class);
 
+    private final int expressionCacheMaxSize;
+
+    private final boolean statisticsEnabled;
+
+    private final LRUCache<List<Object>, AQLInterpreter> interpreters;
+
+    public AQLInterpreterFactory() {
+        this(AQLInterpreter.DEFAULT_MAX_CACHE_SIZE, false, DEFAULT_MAX_INTERPRETER_COUNT);
+    }
+
+    @Autowired
+    public AQLInterpreterFactory(@Value("${sirius.web.interpreter.expressionCache.maxSize:500}") int expressionCacheMaxSize,
+            @Value("${sirius.web.interpreter.statistics.enabled:false}") boolean statisticsEnabled, @Value("${sirius.web.interpreter.maxCount:100}") int maxInterpreterCount) {
+        this.expressionCacheMaxSize = expressionCacheMaxSize;
+        this.statisticsEnabled = statisticsEnabled;
+        this.interpreters = new LRUCache<>(maxInterpreterCount);
+    }
+
     public AQLInterpreter create(DiagramDescription diagramDescription) {
         // @formatter:off
         var javaClasses = Optional.of(diagramDescription.eContainer())
@@ -50,7 +85,7 @@ public class AQLInterpreterFactory {
         // @formatter:on
 
         List<EPackage> ePackages = diagramDescription.getMetamodel();
-        return new AQLInterpreter(javaClasses, ePackages);
+        return this.getInterpreter(javaClasses, ePackages);
     }
 
     public AQLInterpreter create(ViewExtensionDescription viewExtensionDescription) {
@@ -69,7 +104,34 @@ public class AQLInterpreterFactory {
 
         List<EPackage> ePackages = viewExtensionDescription.getMetamodels();
 
-        return new AQLInterpreter(javaClasses, ePackages);
+        return this.getInterpreter(javaClasses, ePackages);
+    }
+
+    private AQLInterpreter getInterpreter(List<Class<?>> javaClasses, List<EPackage> ePackages) {
+        List<Object> key = List.of(List.copyOf(javaClasses), List.copyOf(ePackages));
+        return this.interpreters.computeIfAbsent(key, interpreterKey -> {
+            this.logger.info("Creating a new AQL interpreter, {} interpreters already exist", Integer.valueOf(this.interpreters.size())); //$NON-NLS-1$
+            return new AQLInterpreter(javaClasses, ePackages, this.expressionCacheMaxSize, this.statisticsEnabled);
+        });
+    }
+
+    /**
+     * Returns the number of interpreters currently shared by the descriptions.
+     *
+     * @return The number of interpreters
+     */
+    public int getInterpreterCount() {
+        return this.interpreters.size();
+    }
+
+    /**
+     * Logs the number of interpreters and their statistics, those of the slowest expressions are only available if the
+     * statistics are enabled.
+     */
+    @PreDestroy
+    public void preDestroy() {
+        this.logger.info("{} AQL interpreters shared by the descriptions, {} created in total", this.getInterpreterCount(), this.interpreters.getMissCount()); //$NON-NLS-1$
+        this.interpreters.values().forEach(AQLInterpreter::logStatistics);
     }
 
     private List<Class<?>> getJavaServices(Viewpoint viewpoint) {
@@ -38,6 +38,7 @@ import org.eclipse.sirius.web.compat.operations.RemoveElementOperationHandlerTes
 import org.eclipse.sirius.web.compat.operations.SetValueOperationHandlerTestCases;
 import org.eclipse.sirius.web.compat.operations.SwitchOperationHandlerTestCases;
 import org.eclipse.sirius.web.compat.operations.UnsetOperationHandlerTestCases;
+import org.eclipse.sirius.web.compat.services.representations.AQLInterpreterFactoryTestCases;
 import org.eclipse.sirius.web.compat.utils.DomainClassPredicateTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -81,6 +82,8 @@ import org.junit.runners.Suite.SuiteClasses;
     SwitchOperationHandlerTestCases.class,
     UnsetOperationHandlerTestCases.class,
 
+    AQLInterpreterFactoryTestCases.class,
+
     DomainClassPredicateTestCases.class,
 })
 // @formatter:on
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.compat.services.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.diagram.description.DescriptionFactory;
+import org.eclipse.sirius.diagram.description.DiagramDescription;
+import org.eclipse.sirius.viewpoint.description.Viewpoint;
+import org.eclipse.sirius.web.interpreter.AQLInterpreter;
+import org.junit.Test;
+
+/**
+ * Unit tests of the creation of the interpreters of the descriptions.
+ *
+ * @author sbegaudeau
+ */
+public class AQLInterpreterFactoryTestCases {
+
+    @Test
+    public void testInterpreterSharedByDescriptions() {
+        Viewpoint viewpoint = org.eclipse.sirius.viewpoint.description.DescriptionFactory.eINSTANCE.createViewpoint();
+
+        DiagramDescription firstDiagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        firstDiagramDescription.getMetamodel().add(EcorePackage.eINSTANCE);
+        viewpoint.getOwnedRepresentations().add(firstDiagramDescription);
+
+        DiagramDescription secondDiagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        secondDiagramDescription.getMetamodel().add(EcorePackage.eINSTANCE);
+        viewpoint.getOwnedRepresentations().add(secondDiagramDescription);
+
+        DiagramDescription otherDiagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        viewpoint.getOwnedRepresentations().add(otherDiagramDescription);
+
+        AQLInterpreterFactory interpreterFactory = new AQLInterpreterFactory();
+        AQLInterpreter interpreter = interpreterFactory.create(firstDiagramDescription);
+        assertThat(interpreterFactory.create(firstDiagramDescription)).isSameAs(interpreter);
+        assertThat(interpreterFactory.create(secondDiagramDescription)).isSameAs(interpreter);
+        assertThat(interpreterFactory.getInterpreterCount()).isEqualTo(1);
+
+        assertThat(interpreterFactory.create(otherDiagramDescription)).isNotSameAs(interpreter);
+        assertThat(interpreterFactory.getInterpreterCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedInterpreterForgotten() {
+        Viewpoint viewpoint = org.eclipse.sirius.viewpoint.description.DescriptionFactory.eINSTANCE.createViewpoint();
+
+        DiagramDescription firstDiagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        firstDiagramDescription.getMetamodel().add(EcorePackage.eINSTANCE);
+        viewpoint.getOwnedRepresentations().add(firstDiagramDescription);
+
+        DiagramDescription otherDiagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        viewpoint.getOwnedRepresentations().add(otherDiagramDescription);
+
+        AQLInterpreterFactory interpreterFactory = new AQLInterpreterFactory(AQLInterpreter.DEFAULT_MAX_CACHE_SIZE, false, 1);
+        AQLInterpreter interpreter = interpreterFactory.create(firstDiagramDescription);
+        interpreterFactory.create(otherDiagramDescription);
+        assertThat(interpreterFactory.getInterpreterCount()).isEqualTo(1);
+        assertThat(interpreterFactory.create(firstDiagramDescription)).isNotSameAs(interpreter);
+    }
+
+}
@@ -21,4 +21,15 @@ import org.eclipse.sirius.web.diagrams.Diagram;
  */
 public interface ILayoutService {
     Diagram layout(Diagram diagram);
+
+    /**
+     * Layouts the given diagram by trying to preserve the layout of its previous version.
+     *
+     * @param previousDiagram
+     *            The previous version of the diagram with its layout or <code>null</code> if there is none
+     * @param diagram
+     *            The diagram to layout
+     * @return The layouted diagram
+     */
+    Diagram incrementalLayout(Diagram previousDiagram, Diagram diagram);
 }
@@ -29,9 +29,12 @@ public class ConvertedDiagram {
 
     private final Map<String, ElkGraphElement> id2ElkGraphElements;
 
-    public ConvertedDiagram(ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
+    private final String fingerprint;
+
+    public ConvertedDiagram(ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements, String fingerprint) {
         this.elkDiagram = Objects.requireNonNull(elkDiagram);
         this.id2ElkGraphElements = Objects.requireNonNull(id2ElkGraphElements);
+        this.fingerprint = Objects.requireNonNull(fingerprint);
     }
 
     public ElkNode getElkDiagram() {
@@ -41,4 +44,14 @@ public class ConvertedDiagram {
     public Map<String, ElkGraphElement> getId2ElkGraphElements() {
         return this.id2ElkGraphElements;
     }
+
+    /**
+     * Returns the fingerprint of everything taken into account by the layout in the ELK diagram before its layout.
+     * Two diagrams with the same fingerprint have the same layout.
+     *
+     * @return The fingerprint of the ELK diagram or an empty string if it could not be computed
+     */
+    public String getFingerprint() {
+        return this.fingerprint;
+    }
 }
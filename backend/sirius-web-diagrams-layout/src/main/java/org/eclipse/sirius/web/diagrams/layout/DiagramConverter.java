@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.layout;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -28,6 +32,7 @@ import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkLabel;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
 import org.eclipse.elk.graph.properties.IProperty;
 import org.eclipse.elk.graph.properties.Property;
 import org.eclipse.elk.graph.util.ElkGraphUtil;
@@ -43,7 +48,8 @@ import org.springframework.stereotype.Service;
 
 /**
  * Used to convert the diagram into a graph of ELK objects. During the transformation, it will also pre-compute some
- * default sizes to help ELK perform the layout afterward.
+ * default sizes to help ELK perform the layout afterward. The layout options configured for the type of each element are
+ * also applied while the element is created.
  *
  * @author hmarchadour
  * @author sbegaudeau
@@ -61,11 +67,14 @@ public class DiagramConverter {
 
     private final ImageNodeStyleSizeService imageNodeStyleSizeService;
 
+    private final SiriusWebLayoutConfigurator layoutConfigurator;
+
     private final Logger logger = LoggerFactory.getLogger(DiagramConverter.class);
 
-    public DiagramConverter(TextBoundsService textBoundsService, ImageNodeStyleSizeService imageNodeStyleSizeService) {
+    public DiagramConverter(TextBoundsService textBoundsService, ImageNodeStyleSizeService imageNodeStyleSizeService, LayoutConfiguratorRegistry layoutConfiguratorRegistry) {
         this.textBoundsService = Objects.requireNonNull(textBoundsService);
         this.imageNodeStyleSizeService = Objects.requireNonNull(imageNodeStyleSizeService);
+        this.layoutConfigurator = layoutConfiguratorRegistry.getLayoutConfigurator();
     }
 
     public ConvertedDiagram convert(Diagram diagram) {
@@ -76,13 +85,69 @@ public class DiagramConverter {
         diagram.getNodes().stream().forEach(node -> this.convertNode(node, elkDiagram, connectableShapeIndex, id2ElkGraphElements));
         diagram.getEdges().stream().forEach(edge -> this.convertEdge(edge, elkDiagram, connectableShapeIndex, id2ElkGraphElements));
 
-        return new ConvertedDiagram(elkDiagram, id2ElkGraphElements);
+        return new ConvertedDiagram(elkDiagram, id2ElkGraphElements, this.getFingerprint(elkDiagram));
+    }
+
+    /**
+     * Computes a hash of the identifiers, types, sizes and hierarchy of the elements of the ELK diagram along with the
+     * ends of its edges. The positions are not taken into account since they are computed by the layout.
+     */
+    private String getFingerprint(ElkNode elkDiagram) {
+        String fingerprint = ""; //$NON-NLS-1$
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+            StringBuilder builder = new StringBuilder();
+            this.appendFingerprint(elkDiagram, builder);
+            messageDigest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+            fingerprint = Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return fingerprint;
+    }
+
+    private void appendFingerprint(ElkNode elkNode, StringBuilder builder) {
+        this.appendShapeFingerprint("N", elkNode, builder); //$NON-NLS-1$
+        elkNode.getLabels().forEach(elkLabel -> this.appendLabelFingerprint(elkLabel, builder));
+        for (ElkPort elkPort : elkNode.getPorts()) {
+            this.appendShapeFingerprint("P", elkPort, builder); //$NON-NLS-1$
+            elkPort.getLabels().forEach(elkLabel -> this.appendLabelFingerprint(elkLabel, builder));
+        }
+        for (ElkEdge elkEdge : elkNode.getContainedEdges()) {
+            builder.append("E|").append(elkEdge.getIdentifier()); //$NON-NLS-1$
+            elkEdge.getSources().forEach(source -> builder.append("|s:").append(source.getIdentifier())); //$NON-NLS-1$
+            elkEdge.getTargets().forEach(target -> builder.append("|t:").append(target.getIdentifier())); //$NON-NLS-1$
+            builder.append('\n');
+            elkEdge.getLabels().forEach(elkLabel -> this.appendLabelFingerprint(elkLabel, builder));
+        }
+        builder.append("(\n"); //$NON-NLS-1$
+        elkNode.getChildren().forEach(elkChild -> this.appendFingerprint(elkChild, builder));
+        builder.append(")\n"); //$NON-NLS-1$
+    }
+
+    private void appendShapeFingerprint(String kind, ElkShape elkShape, StringBuilder builder) {
+        builder.append(kind).append('|').append(elkShape.getIdentifier()).append('|').append(elkShape.getProperty(PROPERTY_TYPE));
+        builder.append('|').append(elkShape.getWidth()).append('|').append(elkShape.getHeight()).append('\n');
+    }
+
+    private void appendLabelFingerprint(ElkLabel elkLabel, StringBuilder builder) {
+        this.appendShapeFingerprint("L", elkLabel, builder); //$NON-NLS-1$
+        builder.append(elkLabel.getProperty(CoreOptions.EDGE_LABELS_PLACEMENT));
+        // @formatter:off
+        elkLabel.eAdapters().stream()
+            .filter(AlignmentHolder.class::isInstance)
+            .map(AlignmentHolder.class::cast)
+            .map(AlignmentHolder::getAlignment)
+            .forEach(alignment -> builder.append('|').append(alignment.getX()).append('|').append(alignment.getY()));
+        // @formatter:on
+        builder.append('\n');
     }
 
     private ElkNode convertDiagram(Diagram diagram) {
         ElkNode elkDiagram = ElkGraphFactory.eINSTANCE.createElkNode();
         elkDiagram.setIdentifier(diagram.getId().toString());
         elkDiagram.setProperty(PROPERTY_TYPE, DEFAULT_DIAGRAM_TYPE);
+        this.layoutConfigurator.applyLayoutOptions(elkDiagram);
         return elkDiagram;
     }
 
@@ -90,6 +155,7 @@ public class DiagramConverter {
         ElkNode elkNode = ElkGraphFactory.eINSTANCE.createElkNode();
         elkNode.setIdentifier(node.getId());
         elkNode.setProperty(PROPERTY_TYPE, node.getType());
+        this.layoutConfigurator.applyLayoutOptions(elkNode);
 
         TextBounds textBounds = this.textBoundsService.getBounds(node.getLabel());
         elkNode.setDimensions(textBounds.getSize().getWidth(), textBounds.getSize().getHeight());
@@ -103,6 +169,7 @@ public class DiagramConverter {
             ElkNode elkImage = ElkGraphFactory.eINSTANCE.createElkNode();
             elkImage.setIdentifier(node.getId() + "_image"); //$NON-NLS-1$
             elkImage.setProperty(PROPERTY_TYPE, DEFAULT_IMAGE_TYPE);
+            this.layoutConfigurator.applyLayoutOptions(elkImage);
 
             Size imageSize = this.imageNodeStyleSizeService.getSize(imageNodeStyle);
             elkImage.setDimensions(imageSize.getWidth(), imageSize.getHeight());
@@ -122,6 +189,7 @@ public class DiagramConverter {
         ElkPort elkPort = ElkGraphFactory.eINSTANCE.createElkPort();
         elkPort.setIdentifier(borderNode.getId());
         elkPort.setProperty(PROPERTY_TYPE, borderNode.getType());
+        this.layoutConfigurator.applyLayoutOptions(elkPort);
 
 
         TextBounds textBounds = this.textBoundsService.getBounds(borderNode.getLabel());
@@ -144,6 +212,7 @@ public class DiagramConverter {
         ElkLabel elkLabel = ElkGraphFactory.eINSTANCE.createElkLabel();
         elkLabel.setIdentifier(label.getId());
         elkLabel.setProperty(PROPERTY_TYPE, label.getType());
+        this.layoutConfigurator.applyLayoutOptions(elkLabel);
         elkLabel.setDimensions(textBounds.getSize().getWidth(), textBounds.getSize().getHeight());
 
         if (label.getText().isEmpty() && !label.getStyle().getIconURL().isEmpty()) {
@@ -166,6 +235,7 @@ public class DiagramConverter {
     private void convertEdge(Edge edge, ElkNode elkDiagram, Map<String, ElkConnectableShape> connectableShapeIndex, Map<String, ElkGraphElement> id2ElkGraphElements) {
         ElkEdge elkEdge = ElkGraphFactory.eINSTANCE.createElkEdge();
         elkEdge.setIdentifier(edge.getId());
+        this.layoutConfigurator.applyLayoutOptions(elkEdge);
 
         ElkConnectableShape source = connectableShapeIndex.get(edge.getSourceId());
         ElkConnectableShape target = connectableShapeIndex.get(edge.getTargetId());
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.CycleBreakingStrategy;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.LayeringStrategy;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to reuse the layout of the previous version of a diagram.
+ *
+ * <p>
+ * If none of the elements which are taken into account by the layout has changed (same nodes in the same containers,
+ * same edges between the same ends, same sizes of labels and images), the layout of the previous diagram is applied
+ * as is on the new diagram. Otherwise, the previous positions are used to initialize the graph given to ELK along with
+ * interactive strategies in order to keep the existing elements in the same order while the new ones are appended after
+ * them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class IncrementalLayoutProvider {
+
+    private static final double EPSILON = 0.0001;
+
+    private static final String BORDER_NODE_CONTAINER_SUFFIX = "#borderNodes"; //$NON-NLS-1$
+
+    /**
+     * Returns the new diagram with the layout of the previous diagram if none of the elements which are taken into
+     * account by the layout has changed.
+     *
+     * @param previousDiagram
+     *            The previous version of the diagram, with its layout
+     * @param diagram
+     *            The new version of the diagram, without layout
+     * @param convertedDiagram
+     *            The ELK graph of the new diagram, used to retrieve the size of its labels
+     * @return The new diagram with the previous layout or an empty optional if it has to be laid out again
+     */
+    public Optional<Diagram> reusePreviousLayout(Diagram previousDiagram, Diagram diagram, ConvertedDiagram convertedDiagram) {
+        Map<String, Node> previousIdToNode = new HashMap<>();
+        Map<String, String> previousIdToContainerId = new HashMap<>();
+        this.indexNodes(previousDiagram.getId().toString(), previousDiagram.getNodes(), previousIdToNode, previousIdToContainerId);
+
+        Map<String, Node> idToNode = new HashMap<>();
+        Map<String, String> idToContainerId = new HashMap<>();
+        this.indexNodes(diagram.getId().toString(), diagram.getNodes(), idToNode, idToContainerId);
+
+        Map<String, Edge> previousIdToEdge = previousDiagram.getEdges().stream().collect(Collectors.toMap(Edge::getId, edge -> edge, (edge1, edge2) -> edge1));
+
+        Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
+
+        boolean canReuse = Objects.equals(previousDiagram.getId(), diagram.getId());
+        canReuse = canReuse && idToNode.size() == previousIdToNode.size() && diagram.getEdges().size() == previousIdToEdge.size();
+        // @formatter:off
+        canReuse = canReuse && idToNode.values().stream()
+                .allMatch(node -> Objects.equals(idToContainerId.get(node.getId()), previousIdToContainerId.get(node.getId()))
+                        && this.isNodeUnchanged(node, previousIdToNode.get(node.getId()), id2ElkGraphElements));
+        canReuse = canReuse && diagram.getEdges().stream()
+                .allMatch(edge -> this.isEdgeUnchanged(edge, previousIdToEdge.get(edge.getId()), id2ElkGraphElements));
+        // @formatter:on
+
+        Optional<Diagram> optionalDiagram = Optional.empty();
+        if (canReuse) {
+            // @formatter:off
+            List<Node> nodes = this.getNodesWithPreviousLayout(diagram.getNodes(), previousIdToNode);
+            List<Edge> edges = diagram.getEdges().stream()
+                    .map(edge -> this.getEdgeWithPreviousLayout(edge, previousIdToEdge.get(edge.getId())))
+                    .collect(Collectors.toUnmodifiableList());
+
+            Diagram diagramWithPreviousLayout = Diagram.newDiagram(diagram)
+                    .position(previousDiagram.getPosition())
+                    .size(previousDiagram.getSize())
+                    .nodes(nodes)
+                    .edges(edges)
+                    .build();
+            // @formatter:on
+            optionalDiagram = Optional.of(diagramWithPreviousLayout);
+        }
+        return optionalDiagram;
+    }
+
+    /**
+     * Initializes the given ELK graph with the positions of the previous diagram and configures ELK to keep the existing
+     * elements in the same order. The new elements are placed after the existing ones.
+     *
+     * @param previousDiagram
+     *            The previous version of the diagram, with its layout
+     * @param convertedDiagram
+     *            The ELK graph of the new diagram, already configured
+     */
+    public void applyPreviousLayout(Diagram previousDiagram, ConvertedDiagram convertedDiagram) {
+        Map<String, Node> previousIdToNode = new HashMap<>();
+        this.indexNodes(previousDiagram.getId().toString(), previousDiagram.getNodes(), previousIdToNode, new HashMap<>());
+
+        ElkNode elkDiagram = convertedDiagram.getElkDiagram();
+        elkDiagram.setProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY, CycleBreakingStrategy.INTERACTIVE);
+        elkDiagram.setProperty(LayeredOptions.LAYERING_STRATEGY, LayeringStrategy.INTERACTIVE);
+        elkDiagram.setProperty(LayeredOptions.CROSSING_MINIMIZATION_STRATEGY, CrossingMinimizationStrategy.INTERACTIVE);
+
+        this.applyPreviousPositions(elkDiagram, previousIdToNode);
+    }
+
+    private void applyPreviousPositions(ElkNode elkParent, Map<String, Node> previousIdToNode) {
+        double nextX = 0;
+        List<ElkNode> newElkNodes = new ArrayList<>();
+        for (ElkNode elkNode : elkParent.getChildren()) {
+            Node previousNode = previousIdToNode.get(elkNode.getIdentifier());
+            if (previousNode != null) {
+                elkNode.setLocation(previousNode.getPosition().getX(), previousNode.getPosition().getY());
+                nextX = Math.max(nextX, previousNode.getPosition().getX() + previousNode.getSize().getWidth());
+            } else {
+                newElkNodes.add(elkNode);
+            }
+
+            for (ElkPort elkPort : elkNode.getPorts()) {
+                Node previousBorderNode = previousIdToNode.get(elkPort.getIdentifier());
+                if (previousBorderNode != null) {
+                    elkPort.setLocation(previousBorderNode.getPosition().getX(), previousBorderNode.getPosition().getY());
+                }
+            }
+
+            this.applyPreviousPositions(elkNode, previousIdToNode);
+        }
+
+        for (ElkNode newElkNode : newElkNodes) {
+            newElkNode.setX(nextX);
+        }
+    }
+
+    private void indexNodes(String containerId, List<Node> nodes, Map<String, Node> idToNode, Map<String, String> idToContainerId) {
+        for (Node node : nodes) {
+            idToNode.put(node.getId(), node);
+            idToContainerId.put(node.getId(), containerId);
+
+            this.indexNodes(node.getId() + BORDER_NODE_CONTAINER_SUFFIX, node.getBorderNodes(), idToNode, idToContainerId);
+            this.indexNodes(node.getId(), node.getChildNodes(), idToNode, idToContainerId);
+        }
+    }
+
+    private boolean isNodeUnchanged(Node node, Node previousNode, Map<String, ElkGraphElement> id2ElkGraphElements) {
+        boolean isUnchanged = previousNode != null && Objects.equals(node.getType(), previousNode.getType());
+        isUnchanged = isUnchanged && this.isStyleUnchanged(node.getStyle(), previousNode.getStyle());
+        isUnchanged = isUnchanged && this.isLabelUnchanged(node.getLabel(), previousNode.getLabel(), id2ElkGraphElements);
+        return isUnchanged;
+    }
+
+    private boolean isStyleUnchanged(INodeStyle style, INodeStyle previousStyle) {
+        boolean isUnchanged = !(previousStyle instanceof ImageNodeStyle);
+        if (style instanceof ImageNodeStyle) {
+            ImageNodeStyle imageNodeStyle = (ImageNodeStyle) style;
+            // @formatter:off
+            isUnchanged = Optional.ofNullable(previousStyle)
+                    .filter(ImageNodeStyle.class::isInstance)
+                    .map(ImageNodeStyle.class::cast)
+                    .filter(previousImageNodeStyle -> Objects.equals(imageNodeStyle.getImageURL(), previousImageNodeStyle.getImageURL()))
+                    .filter(previousImageNodeStyle -> imageNodeStyle.getScalingFactor() == previousImageNodeStyle.getScalingFactor())
+                    .isPresent();
+            // @formatter:on
+        }
+        return isUnchanged;
+    }
+
+    private boolean isEdgeUnchanged(Edge edge, Edge previousEdge, Map<String, ElkGraphElement> id2ElkGraphElements) {
+        boolean isUnchanged = previousEdge != null && Objects.equals(edge.getSourceId(), previousEdge.getSourceId()) && Objects.equals(edge.getTargetId(), previousEdge.getTargetId());
+        isUnchanged = isUnchanged && this.isLabelUnchanged(edge.getBeginLabel(), previousEdge.getBeginLabel(), id2ElkGraphElements);
+        isUnchanged = isUnchanged && this.isLabelUnchanged(edge.getCenterLabel(), previousEdge.getCenterLabel(), id2ElkGraphElements);
+        isUnchanged = isUnchanged && this.isLabelUnchanged(edge.getEndLabel(), previousEdge.getEndLabel(), id2ElkGraphElements);
+        return isUnchanged;
+    }
+
+    /**
+     * Indicates if the label would have the same size as the previous one. The size of the new label has been computed
+     * during the conversion of the diagram and the layout does not change the size of the labels.
+     */
+    private boolean isLabelUnchanged(Label label, Label previousLabel, Map<String, ElkGraphElement> id2ElkGraphElements) {
+        boolean isUnchanged = label == null && previousLabel == null;
+        if (label != null && previousLabel != null && Objects.equals(label.getId(), previousLabel.getId())) {
+            // @formatter:off
+            isUnchanged = Optional.ofNullable(id2ElkGraphElements.get(label.getId()))
+                    .filter(ElkLabel.class::isInstance)
+                    .map(ElkLabel.class::cast)
+                    .filter(elkLabel -> this.hasSize(elkLabel.getWidth(), elkLabel.getHeight(), previousLabel.getSize()))
+                    .isPresent();
+            // @formatter:on
+        }
+        return isUnchanged;
+    }
+
+    private boolean hasSize(double width, double height, Size size) {
+        return Math.abs(width - size.getWidth()) < EPSILON && Math.abs(height - size.getHeight()) < EPSILON;
+    }
+
+    private List<Node> getNodesWithPreviousLayout(List<Node> nodes, Map<String, Node> previousIdToNode) {
+        List<Node> nodesWithPreviousLayout = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            Node previousNode = previousIdToNode.get(node.getId());
+
+            // @formatter:off
+            Node nodeWithPreviousLayout = Node.newNode(node)
+                    .position(previousNode.getPosition())
+                    .size(previousNode.getSize())
+                    .label(this.getLabelWithPreviousLayout(node.getLabel(), previousNode.getLabel()))
+                    .borderNodes(this.getNodesWithPreviousLayout(node.getBorderNodes(), previousIdToNode))
+                    .childNodes(this.getNodesWithPreviousLayout(node.getChildNodes(), previousIdToNode))
+                    .build();
+            // @formatter:on
+            nodesWithPreviousLayout.add(nodeWithPreviousLayout);
+        }
+        return nodesWithPreviousLayout;
+    }
+
+    private Edge getEdgeWithPreviousLayout(Edge edge, Edge previousEdge) {
+        // @formatter:off
+        return Edge.newEdge(edge)
+                .beginLabel(this.getLabelWithPreviousLayout(edge.getBeginLabel(), previousEdge.getBeginLabel()))
+                .centerLabel(this.getLabelWithPreviousLayout(edge.getCenterLabel(), previousEdge.getCenterLabel()))
+                .endLabel(this.getLabelWithPreviousLayout(edge.getEndLabel(), previousEdge.getEndLabel()))
+                .routingPoints(previousEdge.getRoutingPoints())
+                .build();
+        // @formatter:on
+    }
+
+    private Label getLabelWithPreviousLayout(Label label, Label previousLabel) {
+        Label labelWithPreviousLayout = label;
+        if (label != null && previousLabel != null) {
+            // @formatter:off
+            labelWithPreviousLayout = Label.newLabel(label)
+                    .position(previousLabel.getPosition())
+                    .size(previousLabel.getSize())
+                    .alignment(previousLabel.getAlignment())
+                    .build();
+            // @formatter:on
+        }
+        return labelWithPreviousLayout;
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.web.representations.LRUCache;
+
+/**
+ * Bounded cache of the ELK diagrams already laid out, indexed by the fingerprint of their content before the layout.
+ *
+ * <p>
+ * The cached ELK diagrams are only read once they have been laid out. The least recently used ones are evicted once
+ * the maximum size of the cache has been reached. A maximum size lower or equal to zero disables the cache.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LayoutCache {
+
+    private final LRUCache<String, ConvertedDiagram> fingerprintToLayoutedDiagram;
+
+    public LayoutCache(int maxSize) {
+        this.fingerprintToLayoutedDiagram = new LRUCache<>(maxSize);
+    }
+
+    public boolean isEnabled() {
+        return this.fingerprintToLayoutedDiagram.isEnabled();
+    }
+
+    /**
+     * Returns the ELK diagram laid out for the given fingerprint and updates the statistics of the cache.
+     *
+     * @param fingerprint
+     *            The fingerprint of an ELK diagram before its layout
+     * @return The laid out ELK diagram or an empty optional if there is none in the cache
+     */
+    public Optional<ConvertedDiagram> get(String fingerprint) {
+        return this.fingerprintToLayoutedDiagram.get(fingerprint);
+    }
+
+    public void put(ConvertedDiagram layoutedDiagram) {
+        if (!layoutedDiagram.getFingerprint().isEmpty()) {
+            this.fingerprintToLayoutedDiagram.put(layoutedDiagram.getFingerprint(), layoutedDiagram);
+        }
+    }
+
+    public int size() {
+        return this.fingerprintToLayoutedDiagram.size();
+    }
+
+    public long getHitCount() {
+        return this.fingerprintToLayoutedDiagram.getHitCount();
+    }
+
+    public long getMissCount() {
+        return this.fingerprintToLayoutedDiagram.getMissCount();
+    }
+}
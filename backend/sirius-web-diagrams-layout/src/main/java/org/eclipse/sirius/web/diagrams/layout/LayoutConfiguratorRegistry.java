@@ -14,7 +14,7 @@ package org.eclipse.sirius.web.diagrams.layout;
 
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.alg.layered.options.LayeringStrategy;
-import org.eclipse.elk.core.LayoutConfigurator;
+import org.eclipse.elk.core.data.LayoutMetaDataService;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.options.CoreOptions;
 import org.eclipse.elk.core.options.HierarchyHandling;
@@ -28,6 +28,10 @@ import org.springframework.stereotype.Service;
  * allows us to extract it from the rest of the code. It will be quite easy from now on to allow the registration or
  * customization of layout configurator now that this concern has been extracted from the rest of the code. Major
  * changes will happen to this class but not much to the rest of the layouting code.
+ * <p>
+ * The metadata of the layered algorithm is registered and the layout configurator is created only once, when the
+ * registry is created. The layout configurator is thus shared by all the layouts and should not be modified.
+ * </p>
  *
  * @author sbegaudeau
  * @author hmarchadour
@@ -55,7 +59,18 @@ public class LayoutConfiguratorRegistry {
      */
     private static final Double SPACING_NODE_EDGE = Double.valueOf(30.0);
 
-    public LayoutConfigurator getLayoutConfigurator() {
+    private final SiriusWebLayoutConfigurator layoutConfigurator;
+
+    public LayoutConfiguratorRegistry() {
+        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new LayeredOptions());
+        this.layoutConfigurator = this.createLayoutConfigurator();
+    }
+
+    public SiriusWebLayoutConfigurator getLayoutConfigurator() {
+        return this.layoutConfigurator;
+    }
+
+    private SiriusWebLayoutConfigurator createLayoutConfigurator() {
         // @formatter:off
         SiriusWebLayoutConfigurator configurator = new SiriusWebLayoutConfigurator();
         configurator.configureByType(DiagramConverter.DEFAULT_DIAGRAM_TYPE)
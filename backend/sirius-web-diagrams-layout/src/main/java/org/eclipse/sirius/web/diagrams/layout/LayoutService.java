@@ -14,57 +14,142 @@ package org.eclipse.sirius.web.diagrams.layout;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.PreDestroy;
 
-import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.IGraphLayoutEngine;
-import org.eclipse.elk.core.LayoutConfigurator;
 import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
-import org.eclipse.elk.core.data.LayoutMetaDataService;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
-import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Perform the layouting of the given diagram.
+ * <p>
+ * When the incremental layout is enabled, the layout of the previous version of the diagram is reused as is if the
+ * elements taken into account by the layout have not changed and it is used as a starting point for ELK otherwise.
+ * </p>
+ * <p>
+ * When the layout cache is enabled, the ELK diagrams laid out are kept and reused for the diagrams with the same
+ * fingerprint.
+ * </p>
+ * <p>
+ * When the layout parallelism is greater than one, the independent subgraphs of the diagrams are laid out concurrently
+ * by a {@link ParallelLayoutEngine}.
+ * </p>
  *
  * @author sbegaudeau
  */
 @Service
 public class LayoutService implements ILayoutService {
 
-    private final DiagramConverter diagramConverter;
+    private final Logger logger = LoggerFactory.getLogger(LayoutService.class);
 
-    private final LayoutConfiguratorRegistry layoutConfiguratorRegistry;
+    private final DiagramConverter diagramConverter;
 
     private final LayoutedDiagramProvider layoutedDiagramProvider;
 
-    public LayoutService(DiagramConverter diagramConverter, LayoutConfiguratorRegistry layoutConfiguratorRegistry, LayoutedDiagramProvider layoutedDiagramProvider) {
+    private final IncrementalLayoutProvider incrementalLayoutProvider;
+
+    private final boolean incrementalLayoutEnabled;
+
+    private final LayoutCache layoutCache;
+
+    private final ParallelLayoutEngine parallelLayoutEngine;
+
+    public LayoutService(DiagramConverter diagramConverter, LayoutedDiagramProvider layoutedDiagramProvider, IncrementalLayoutProvider incrementalLayoutProvider,
+            @Value("${sirius.web.diagrams.layout.incremental.enabled:false}") boolean incrementalLayoutEnabled,
+            @Value("${sirius.web.diagrams.layout.cache.maxSize:0}") int layoutCacheMaxSize, @Value("${sirius.web.diagrams.layout.parallelism:1}") int layoutParallelism) {
         this.diagramConverter = Objects.requireNonNull(diagramConverter);
-        this.layoutConfiguratorRegistry = Objects.requireNonNull(layoutConfiguratorRegistry);
         this.layoutedDiagramProvider = Objects.requireNonNull(layoutedDiagramProvider);
+        this.incrementalLayoutProvider = Objects.requireNonNull(incrementalLayoutProvider);
+        this.incrementalLayoutEnabled = incrementalLayoutEnabled;
+        this.layoutCache = new LayoutCache(layoutCacheMaxSize);
+        if (layoutParallelism > 1) {
+            this.parallelLayoutEngine = new ParallelLayoutEngine(layoutParallelism);
+        } else {
+            this.parallelLayoutEngine = null;
+        }
     }
 
     @Override
     public Diagram layout(Diagram diagram) {
-        ConvertedDiagram convertedDiagram = this.diagramConverter.convert(diagram);
+        return this.layout(diagram, this.diagramConverter.convert(diagram), null);
+    }
 
-        ElkNode elkDiagram = convertedDiagram.getElkDiagram();
-        LayoutConfigurator layoutConfigurator = this.layoutConfiguratorRegistry.getLayoutConfigurator();
+    @Override
+    public Diagram incrementalLayout(Diagram previousDiagram, Diagram diagram) {
+        Diagram layoutedDiagram;
+        if (this.incrementalLayoutEnabled && previousDiagram != null) {
+            ConvertedDiagram convertedDiagram = this.diagramConverter.convert(diagram);
+            var optionalDiagram = this.incrementalLayoutProvider.reusePreviousLayout(previousDiagram, diagram, convertedDiagram);
+            if (optionalDiagram.isPresent()) {
+                this.logger.debug("Layout of the diagram {} reused", diagram.getId()); //$NON-NLS-1$
+                layoutedDiagram = optionalDiagram.get();
+            } else {
+                layoutedDiagram = this.layout(diagram, convertedDiagram, previousDiagram);
+            }
+        } else {
+            layoutedDiagram = this.layout(diagram);
+        }
+        return layoutedDiagram;
+    }
 
-        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new LayeredOptions());
+    /**
+     * Layouts the given diagram thanks to ELK. The layout of a diagram without previous version only depends on the
+     * content of its ELK diagram, it can thus be retrieved from the cache using the fingerprint of this ELK diagram.
+     */
+    private Diagram layout(Diagram diagram, ConvertedDiagram convertedDiagram, Diagram previousDiagram) {
+        Optional<ConvertedDiagram> optionalCachedDiagram = Optional.empty();
+        if (previousDiagram == null && this.layoutCache.isEnabled()) {
+            optionalCachedDiagram = this.layoutCache.get(convertedDiagram.getFingerprint());
+        }
 
-        ElkUtil.applyVisitors(elkDiagram, layoutConfigurator);
-        IGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
-        engine.layout(elkDiagram, new BasicProgressMonitor());
+        ConvertedDiagram layoutedDiagram = convertedDiagram;
+        if (optionalCachedDiagram.isPresent()) {
+            this.logger.debug("Layout of the diagram {} found in the cache", diagram.getId()); //$NON-NLS-1$
+            layoutedDiagram = optionalCachedDiagram.get();
+        } else {
+            ElkNode elkDiagram = convertedDiagram.getElkDiagram();
+            if (previousDiagram != null) {
+                this.incrementalLayoutProvider.applyPreviousLayout(previousDiagram, convertedDiagram);
+            }
 
-        Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
-        Diagram layoutedDiagram = this.layoutedDiagramProvider.getLayoutedDiagram(diagram, elkDiagram, id2ElkGraphElements);
+            IGraphLayoutEngine engine = this.parallelLayoutEngine;
+            if (engine == null) {
+                engine = new RecursiveGraphLayoutEngine();
+            }
+            engine.layout(elkDiagram, new BasicProgressMonitor());
 
-        return layoutedDiagram;
+            if (previousDiagram == null) {
+                this.layoutCache.put(convertedDiagram);
+            }
+        }
+
+        Map<String, ElkGraphElement> id2ElkGraphElements = layoutedDiagram.getId2ElkGraphElements();
+        return this.layoutedDiagramProvider.getLayoutedDiagram(diagram, layoutedDiagram.getElkDiagram(), id2ElkGraphElements);
+    }
+
+    public long getLayoutCacheHitCount() {
+        return this.layoutCache.getHitCount();
+    }
+
+    public long getLayoutCacheMissCount() {
+        return this.layoutCache.getMissCount();
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        if (this.parallelLayoutEngine != null) {
+            this.parallelLayoutEngine.shutdown();
+        }
     }
 
 }
@@ -13,10 +13,9 @@
 package org.eclipse.sirius.web.diagrams.layout;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.eclipse.elk.graph.ElkBendPoint;
 import org.eclipse.elk.graph.ElkConnectableShape;
@@ -68,15 +67,14 @@ public class LayoutedDiagramProvider {
     }
 
     private List<Node> getLayoutedNodes(List<Node> nodes, Map<String, ElkGraphElement> id2ElkGraphElements) {
-        // @formatter:off
-        return nodes.stream().flatMap(node -> {
-            return Optional.ofNullable(id2ElkGraphElements.get(node.getId()))
-                    .filter(ElkConnectableShape.class::isInstance)
-                    .map(ElkConnectableShape.class::cast)
-                    .map(elkNode -> this.getLayoutedNode(node, elkNode, id2ElkGraphElements))
-                    .stream();
-        }).collect(Collectors.toUnmodifiableList());
-        // @formatter:on
+        List<Node> layoutedNodes = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            ElkGraphElement elkGraphElement = id2ElkGraphElements.get(node.getId());
+            if (elkGraphElement instanceof ElkConnectableShape) {
+                layoutedNodes.add(this.getLayoutedNode(node, (ElkConnectableShape) elkGraphElement, id2ElkGraphElements));
+            }
+        }
+        return Collections.unmodifiableList(layoutedNodes);
     }
 
     private Node getLayoutedNode(Node node, ElkConnectableShape elkConnectableShape, Map<String, ElkGraphElement> id2ElkGraphElements) {
@@ -106,20 +104,17 @@ public class LayoutedDiagramProvider {
     }
 
     private List<Edge> getLayoutedEdges(List<Edge> edges, Map<String, ElkGraphElement> id2ElkGraphElements) {
-        // @formatter:off
-        return edges.stream().flatMap(edge -> {
-            return Optional.ofNullable(id2ElkGraphElements.get(edge.getId()))
-                    .filter(ElkEdge.class::isInstance)
-                    .map(ElkEdge.class::cast)
-                    .map(elkEdge -> this.getLayoutedEdge(edge, elkEdge, id2ElkGraphElements))
-                    .stream();
-        }).collect(Collectors.toUnmodifiableList());
-        // @formatter:on
+        List<Edge> layoutedEdges = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            ElkGraphElement elkGraphElement = id2ElkGraphElements.get(edge.getId());
+            if (elkGraphElement instanceof ElkEdge) {
+                layoutedEdges.add(this.getLayoutedEdge(edge, (ElkEdge) elkGraphElement, id2ElkGraphElements));
+            }
+        }
+        return Collections.unmodifiableList(layoutedEdges);
     }
 
     private Edge getLayoutedEdge(Edge edge, ElkEdge elkEdge, Map<String, ElkGraphElement> id2ElkGraphElements) {
-        List<Position> routingPoints = new ArrayList<>();
-
         ElkNode containingNode = elkEdge.getContainingNode();
         double xOffset = containingNode.getX();
         double yOffset = containingNode.getY();
@@ -131,8 +126,11 @@ public class LayoutedDiagramProvider {
             parent = parent.getParent();
         }
 
+        List<Position> routingPoints = List.of();
         if (!elkEdge.getSections().isEmpty()) {
             ElkEdgeSection section = elkEdge.getSections().get(0);
+            List<ElkBendPoint> bendPoints = section.getBendPoints();
+            routingPoints = new ArrayList<>(bendPoints.size() + 2);
 
             // @formatter:off
             Position startPosition = Position.newPosition()
@@ -141,7 +139,7 @@ public class LayoutedDiagramProvider {
                     .build();
             routingPoints.add(startPosition);
 
-            for (ElkBendPoint bendPoint : section.getBendPoints()) {
+            for (ElkBendPoint bendPoint : bendPoints) {
                 Position position = Position.newPosition()
                         .x(xOffset + bendPoint.getX())
                         .y(yOffset + bendPoint.getY())
@@ -182,9 +180,9 @@ public class LayoutedDiagramProvider {
 
     private Label getLayoutedLabel(Label label, Map<String, ElkGraphElement> id2ElkGraphElements, double xOffset, double yOffset) {
         Label layoutedLabel = label;
-        var optionalElkBeginLabel = Optional.of(id2ElkGraphElements.get(label.getId())).filter(ElkLabel.class::isInstance).map(ElkLabel.class::cast);
-        if (optionalElkBeginLabel.isPresent()) {
-            ElkLabel elkLabel = optionalElkBeginLabel.get();
+        ElkGraphElement elkGraphElement = id2ElkGraphElements.get(label.getId());
+        if (elkGraphElement instanceof ElkLabel) {
+            ElkLabel elkLabel = (ElkLabel) elkGraphElement;
 
             // @formatter:off
             Size size = Size.newSize()
@@ -196,14 +194,14 @@ public class LayoutedDiagramProvider {
                     .x(xOffset + elkLabel.getX())
                     .y(yOffset + elkLabel.getY())
                     .build();
+            // @formatter:on
 
-            Position alignment = elkLabel.eAdapters().stream()
-                    .findFirst()
-                    .filter(AlignmentHolder.class::isInstance)
-                    .map(AlignmentHolder.class::cast)
-                    .map(AlignmentHolder::getAlignment)
-                    .orElse(Position.UNDEFINED);
+            Position alignment = Position.UNDEFINED;
+            if (!elkLabel.eAdapters().isEmpty() && elkLabel.eAdapters().get(0) instanceof AlignmentHolder) {
+                alignment = ((AlignmentHolder) elkLabel.eAdapters().get(0)).getAlignment();
+            }
 
+            // @formatter:off
             layoutedLabel = Label.newLabel(label)
                     .size(size)
                     .position(position)
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+/**
+ * A font along with the advance of each printable ASCII character.
+ *
+ * <p>
+ * Without kerning nor ligatures, the logical bounds of a piece of text made of printable ASCII characters have the
+ * height of a line of the font and the sum of the advances of the characters as width. They can thus be computed
+ * without creating the glyphs of the text. The bounds of any other text are computed by AWT.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class MeasuredFont {
+
+    private static final char FIRST_ASCII_CHARACTER = ' ';
+
+    private static final char LAST_ASCII_CHARACTER = '\u007E';
+
+    private final Font font;
+
+    private final FontRenderContext fontRenderContext;
+
+    private final double[] asciiAdvances;
+
+    private final Rectangle2D lineBounds;
+
+    public MeasuredFont(Font font, FontRenderContext fontRenderContext) {
+        this.font = Objects.requireNonNull(font);
+        this.fontRenderContext = Objects.requireNonNull(fontRenderContext);
+
+        this.asciiAdvances = new double[LAST_ASCII_CHARACTER - FIRST_ASCII_CHARACTER + 1];
+        for (char character = FIRST_ASCII_CHARACTER; character <= LAST_ASCII_CHARACTER; character++) {
+            this.asciiAdvances[character - FIRST_ASCII_CHARACTER] = font.getStringBounds(String.valueOf(character), fontRenderContext).getWidth();
+        }
+        this.lineBounds = font.getStringBounds(String.valueOf(FIRST_ASCII_CHARACTER), fontRenderContext);
+    }
+
+    public Font getFont() {
+        return this.font;
+    }
+
+    /**
+     * Returns the logical bounds of the given text.
+     *
+     * @param text
+     *            The text
+     * @return The logical bounds of the text
+     */
+    public Rectangle2D getStringBounds(String text) {
+        boolean isAscii = !text.isEmpty();
+        double width = 0;
+        int index = 0;
+        while (isAscii && index < text.length()) {
+            char character = text.charAt(index);
+            isAscii = character >= FIRST_ASCII_CHARACTER && character <= LAST_ASCII_CHARACTER;
+            if (isAscii) {
+                width = width + this.asciiAdvances[character - FIRST_ASCII_CHARACTER];
+            }
+            index++;
+        }
+
+        Rectangle2D stringBounds;
+        if (isAscii) {
+            stringBounds = new Rectangle2D.Double(this.lineBounds.getX(), this.lineBounds.getY(), width, this.lineBounds.getHeight());
+        } else {
+            stringBounds = this.font.getStringBounds(text, this.fontRenderContext);
+        }
+        return stringBounds;
+    }
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.elk.core.IGraphLayoutEngine;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.PortConstraints;
+import org.eclipse.elk.core.options.SizeConstraint;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+/**
+ * Layout engine which lays out the independent subgraphs of a diagram concurrently.
+ *
+ * <p>
+ * A top level node with some children is independent if none of the edges connected to this node, to its descendants
+ * or to their ports is connected to an element outside of this node. Each independent node is laid out with its content
+ * in a temporary graph configured like the diagram, on a pool of threads. Once all of them have been laid out, a final
+ * pass lays out the top level arrangement of the diagram with the content of the independent nodes temporarily removed
+ * and their size and ports fixed. Since the coordinates of the ELK elements are relative to their parent, the content
+ * of the independent nodes can then be put back as is.
+ * </p>
+ * <p>
+ * The diagrams with less than two independent subgraphs are laid out as usual in the calling thread.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ParallelLayoutEngine implements IGraphLayoutEngine {
+
+    private final ForkJoinPool forkJoinPool;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public ParallelLayoutEngine(int parallelism) {
+        this.forkJoinPool = new ForkJoinPool(parallelism, (ForkJoinPool pool) -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Diagram Subgraph Layout " + this.threadCount.incrementAndGet()); //$NON-NLS-1$
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public void layout(ElkNode elkDiagram, IElkProgressMonitor progressMonitor) {
+        // @formatter:off
+        List<ElkNode> independentNodes = elkDiagram.getChildren().stream()
+                .filter(this::isIndependent)
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        if (independentNodes.size() > 1) {
+            this.layoutIndependentNodes(elkDiagram, independentNodes);
+            this.layoutTopLevelArrangement(elkDiagram, independentNodes, progressMonitor);
+        } else {
+            new RecursiveGraphLayoutEngine().layout(elkDiagram, progressMonitor);
+        }
+    }
+
+    /**
+     * Indicates if the given top level node has some children and is not connected to any element outside of itself.
+     * The edges of its content must also be contained in the node itself or in one of its descendants since they will
+     * be removed from the diagram with the content of the node during the final pass.
+     */
+    private boolean isIndependent(ElkNode topLevelNode) {
+        boolean isIndependent = !topLevelNode.getChildren().isEmpty();
+
+        Set<ElkNode> subgraphNodes = new HashSet<>();
+        this.collectNodes(topLevelNode, subgraphNodes);
+
+        var iterator = subgraphNodes.iterator();
+        while (isIndependent && iterator.hasNext()) {
+            ElkNode subgraphNode = iterator.next();
+            isIndependent = this.areInternalEdges(ElkGraphUtil.allIncidentEdges(subgraphNode), subgraphNodes);
+            var portIterator = subgraphNode.getPorts().iterator();
+            while (isIndependent && portIterator.hasNext()) {
+                isIndependent = this.areInternalEdges(ElkGraphUtil.allIncidentEdges(portIterator.next()), subgraphNodes);
+            }
+        }
+        return isIndependent;
+    }
+
+    private void collectNodes(ElkNode elkNode, Set<ElkNode> elkNodes) {
+        elkNodes.add(elkNode);
+        elkNode.getChildren().forEach(elkChild -> this.collectNodes(elkChild, elkNodes));
+    }
+
+    private boolean areInternalEdges(Iterable<ElkEdge> elkEdges, Set<ElkNode> subgraphNodes) {
+        boolean areInternalEdges = true;
+        var iterator = elkEdges.iterator();
+        while (areInternalEdges && iterator.hasNext()) {
+            ElkEdge elkEdge = iterator.next();
+            areInternalEdges = subgraphNodes.contains(elkEdge.getContainingNode());
+            areInternalEdges = areInternalEdges && elkEdge.getSources().stream().allMatch(source -> this.isInSubgraph(source, subgraphNodes));
+            areInternalEdges = areInternalEdges && elkEdge.getTargets().stream().allMatch(target -> this.isInSubgraph(target, subgraphNodes));
+        }
+        return areInternalEdges;
+    }
+
+    private boolean isInSubgraph(ElkConnectableShape elkConnectableShape, Set<ElkNode> subgraphNodes) {
+        boolean isInSubgraph = false;
+        if (elkConnectableShape instanceof ElkPort) {
+            isInSubgraph = subgraphNodes.contains(((ElkPort) elkConnectableShape).getParent());
+        } else if (elkConnectableShape instanceof ElkNode) {
+            isInSubgraph = subgraphNodes.contains(elkConnectableShape);
+        }
+        return isInSubgraph;
+    }
+
+    /**
+     * Moves each independent node in its own temporary graph, lays out these graphs concurrently and then puts the
+     * independent nodes back in the diagram at their original index.
+     */
+    private void layoutIndependentNodes(ElkNode elkDiagram, List<ElkNode> independentNodes) {
+        Map<ElkNode, Integer> independentNodeToIndex = new LinkedHashMap<>();
+        independentNodes.forEach(independentNode -> independentNodeToIndex.put(independentNode, elkDiagram.getChildren().indexOf(independentNode)));
+
+        List<ElkNode> subgraphs = new ArrayList<>();
+        for (ElkNode independentNode : independentNodes) {
+            ElkNode subgraph = ElkGraphUtil.createGraph();
+            subgraph.copyProperties(elkDiagram);
+            independentNode.setParent(subgraph);
+            subgraphs.add(subgraph);
+        }
+
+        try {
+            // @formatter:off
+            List<ForkJoinTask<?>> tasks = subgraphs.stream()
+                    .map(subgraph -> this.forkJoinPool.submit(() -> new RecursiveGraphLayoutEngine().layout(subgraph, new BasicProgressMonitor())))
+                    .collect(Collectors.toList());
+            // @formatter:on
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            for (Map.Entry<ElkNode, Integer> entry : independentNodeToIndex.entrySet()) {
+                entry.getKey().setParent(elkDiagram);
+                elkDiagram.getChildren().move(entry.getValue().intValue(), entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Lays out the diagram with the content of the independent nodes removed. The size and the ports of the
+     * independent nodes are fixed since they have already been computed with their content. Their content and their
+     * previous constraints are restored afterwards, even if the layout fails.
+     */
+    private void layoutTopLevelArrangement(ElkNode elkDiagram, List<ElkNode> independentNodes, IElkProgressMonitor progressMonitor) {
+        Map<ElkNode, List<ElkNode>> independentNodeToChildren = new LinkedHashMap<>();
+        Map<ElkNode, List<ElkEdge>> independentNodeToContainedEdges = new LinkedHashMap<>();
+        Map<ElkNode, Map<IProperty<?>, Object>> independentNodeToConstraints = new LinkedHashMap<>();
+        for (ElkNode independentNode : independentNodes) {
+            independentNodeToChildren.put(independentNode, new ArrayList<>(independentNode.getChildren()));
+            independentNodeToContainedEdges.put(independentNode, new ArrayList<>(independentNode.getContainedEdges()));
+            independentNode.getChildren().clear();
+            independentNode.getContainedEdges().clear();
+
+            Map<IProperty<?>, Object> constraints = new HashMap<>();
+            constraints.put(CoreOptions.NODE_SIZE_CONSTRAINTS, independentNode.getProperties().get(CoreOptions.NODE_SIZE_CONSTRAINTS));
+            constraints.put(CoreOptions.PORT_CONSTRAINTS, independentNode.getProperties().get(CoreOptions.PORT_CONSTRAINTS));
+            independentNodeToConstraints.put(independentNode, constraints);
+
+            independentNode.setProperty(CoreOptions.NODE_SIZE_CONSTRAINTS, SizeConstraint.fixed());
+            independentNode.setProperty(CoreOptions.PORT_CONSTRAINTS, PortConstraints.FIXED_POS);
+        }
+
+        try {
+            new RecursiveGraphLayoutEngine().layout(elkDiagram, progressMonitor);
+        } finally {
+            for (ElkNode independentNode : independentNodes) {
+                independentNode.getChildren().addAll(independentNodeToChildren.get(independentNode));
+                independentNode.getContainedEdges().addAll(independentNodeToContainedEdges.get(independentNode));
+                independentNodeToConstraints.get(independentNode).forEach((property, value) -> this.restoreProperty(independentNode, property, value));
+            }
+        }
+    }
+
+    /**
+     * Restores the value of the given property as it was before the final pass, removing it if it was not set.
+     */
+    private void restoreProperty(ElkNode elkNode, IProperty<?> property, Object value) {
+        if (value != null) {
+            elkNode.getProperties().put(property, value);
+        } else {
+            elkNode.getProperties().removeKey(property);
+        }
+    }
+
+    public void shutdown() {
+        this.forkJoinPool.shutdown();
+    }
+
+}
@@ -47,12 +47,27 @@ public class SiriusWebLayoutConfigurator extends LayoutConfigurator {
     @Override
     public void visit(final ElkGraphElement element) {
         super.visit(element);
+        this.applyLayoutOptions(element);
+    }
 
+    /**
+     * Applies the layout options configured for the type and the identifier of the given element. It lets the
+     * {@link DiagramConverter} configure the elements while they are created instead of visiting the whole ELK graph
+     * afterward.
+     *
+     * @param element
+     *            An ELK element whose type and identifier have already been set
+     */
+    public void applyLayoutOptions(ElkGraphElement element) {
         IPropertyHolder typeProperties = this.getPropertiesByType(element.getProperty(DiagramConverter.PROPERTY_TYPE));
-        this.applyProperties(element, typeProperties);
+        if (typeProperties != null) {
+            this.applyProperties(element, typeProperties);
+        }
 
         IPropertyHolder idProperties = this.getPropertiesById(element.getIdentifier());
-        this.applyProperties(element, idProperties);
+        if (idProperties != null) {
+            this.applyProperties(element, idProperties);
+        }
     }
 
     @Override
@@ -16,6 +16,12 @@ import java.awt.Font;
 import java.awt.font.FontRenderContext;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -26,12 +32,19 @@ import org.eclipse.sirius.web.diagrams.Label;
 import org.eclipse.sirius.web.diagrams.LabelStyle;
 import org.eclipse.sirius.web.diagrams.Position;
 import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.representations.LRUCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 /**
  * Utility class used to compute the size of a piece of text.
+ * <p>
+ * The fonts are created once for each style and size, the bounds of the texts made of printable ASCII characters are
+ * computed from the advance of each character and the bounds of the texts already measured are kept in a bounded
+ * cache since the same labels are measured again during each layout. This cache is split in stripes, each with its
+ * own lock, since the labels of several diagrams can be measured concurrently.
+ * </p>
  *
  * @author sbegaudeau
  * @author hmarchadour
@@ -49,10 +62,38 @@ public class TextBoundsService {
 
     private static final int SPACE_FOR_ICON = 20;
 
+    /**
+     * The number of combinations of {@link Font#BOLD} and {@link Font#ITALIC}.
+     */
+    private static final int FONT_STYLE_COUNT = 4;
+
+    private static final int TEXT_BOUNDS_CACHE_MAX_SIZE = 10_000;
+
+    private static final int TEXT_BOUNDS_CACHE_STRIPE_COUNT = 16;
+
+    private static final String TEXT_BOUNDS_KEY_SEPARATOR = ":"; //$NON-NLS-1$
+
     private final Logger logger = LoggerFactory.getLogger(TextBoundsService.class);
 
     private ExecutorService executorService;
 
+    private final Map<Integer, MeasuredFont> fontKeyToMeasuredFont = new ConcurrentHashMap<>();
+
+    /**
+     * The bounds of the texts already measured, indexed by font style, font size, presence of an icon and text. Each
+     * text is kept in the stripe selected by the hash of its key, the least recently used ones of a stripe are evicted
+     * once the maximum size of the stripe has been reached.
+     */
+    private final List<LRUCache<String, TextBounds>> textBoundsCacheStripes;
+
+    public TextBoundsService() {
+        List<LRUCache<String, TextBounds>> stripes = new ArrayList<>(TEXT_BOUNDS_CACHE_STRIPE_COUNT);
+        for (int i = 0; i < TEXT_BOUNDS_CACHE_STRIPE_COUNT; i++) {
+            stripes.add(new LRUCache<>(TEXT_BOUNDS_CACHE_MAX_SIZE / TEXT_BOUNDS_CACHE_STRIPE_COUNT));
+        }
+        this.textBoundsCacheStripes = Collections.unmodifiableList(stripes);
+    }
+
     @PostConstruct
     public void initialize() {
         this.logger.debug("AWT initialization starting"); //$NON-NLS-1$
@@ -100,14 +141,37 @@ public class TextBoundsService {
         if (labelStyle.isItalic()) {
             fontStyle = fontStyle | Font.ITALIC;
         }
-        Font font = new Font(DEFAULT_LABEL_FONT_NAME, fontStyle, label.getStyle().getFontSize());
-        Rectangle2D stringBounds = font.getStringBounds(label.getText(), FONT_RENDER_CONTEXT);
+        int fontSize = labelStyle.getFontSize();
+        boolean hasIcon = !labelStyle.getIconURL().isEmpty();
+        String text = label.getText();
+
+        String textBoundsKey = fontStyle + TEXT_BOUNDS_KEY_SEPARATOR + fontSize + TEXT_BOUNDS_KEY_SEPARATOR + hasIcon + TEXT_BOUNDS_KEY_SEPARATOR + text;
+        LRUCache<String, TextBounds> textBoundsCache = this.textBoundsCacheStripes.get(Math.floorMod(textBoundsKey.hashCode(), TEXT_BOUNDS_CACHE_STRIPE_COUNT));
+
+        Optional<TextBounds> optionalTextBounds = textBoundsCache.get(textBoundsKey);
+        if (optionalTextBounds.isPresent()) {
+            return optionalTextBounds.get();
+        }
+
+        // The bounds are computed outside of the lock of the stripe, two threads may thus compute the same bounds
+        TextBounds textBounds = this.computeBounds(text, this.getMeasuredFont(fontStyle, fontSize), hasIcon);
+        textBoundsCache.put(textBoundsKey, textBounds);
+        return textBounds;
+    }
+
+    private MeasuredFont getMeasuredFont(int fontStyle, int fontSize) {
+        int fontKey = fontSize * FONT_STYLE_COUNT + fontStyle;
+        return this.fontKeyToMeasuredFont.computeIfAbsent(fontKey, key -> new MeasuredFont(new Font(DEFAULT_LABEL_FONT_NAME, fontStyle, fontSize), FONT_RENDER_CONTEXT));
+    }
+
+    private TextBounds computeBounds(String text, MeasuredFont measuredFont, boolean hasIcon) {
+        Rectangle2D stringBounds = measuredFont.getStringBounds(text);
         double width = stringBounds.getWidth();
         double height = stringBounds.getHeight();
 
         double iconWidth = 0;
         double iconHeight = 0;
-        if (!label.getStyle().getIconURL().isEmpty()) {
+        if (hasIcon) {
             iconWidth = SPACE_FOR_ICON;
             if (height < iconWidth / 2) {
                 iconHeight = iconWidth / 2;
@@ -17,7 +17,10 @@ import org.eclipse.sirius.web.diagrams.layout.architecture.ImmutableTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.DiagramConverterTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.ImageNodeStyleSizeServiceTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.ImageSizeServiceTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.IncrementalLayoutProviderTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.LayoutCacheTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.LayoutedDiagramProviderTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.ParallelLayoutEngineTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.TextBoundsServiceTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -30,7 +33,8 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramConverterTestCases.class, ImageNodeStyleSizeServiceTestCases.class, ImageSizeServiceTestCases.class,
-        LayoutedDiagramProviderTestCases.class, TextBoundsServiceTestCases.class })
+        IncrementalLayoutProviderTestCases.class, LayoutCacheTestCases.class, LayoutedDiagramProviderTestCases.class, ParallelLayoutEngineTestCases.class,
+        TextBoundsServiceTestCases.class })
 public final class AllSiriusWebDiagramsLayoutTests {
     private AllSiriusWebDiagramsLayoutTests() {
         // Prevent
@@ -20,6 +20,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.assertj.core.data.Offset;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.HierarchyHandling;
 import org.eclipse.elk.graph.ElkEdge;
 import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkLabel;
@@ -37,6 +40,7 @@ import org.eclipse.sirius.web.diagrams.layout.ConvertedDiagram;
 import org.eclipse.sirius.web.diagrams.layout.DiagramConverter;
 import org.eclipse.sirius.web.diagrams.layout.ImageNodeStyleSizeService;
 import org.eclipse.sirius.web.diagrams.layout.ImageSizeService;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
 import org.eclipse.sirius.web.diagrams.layout.TextBounds;
 import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
 import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
@@ -96,7 +100,7 @@ public class DiagramConverterTestCases {
 
     @Test
     public void testDiagramOneRectangularNode() {
-        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService);
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
 
         // @formatter:off
         TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
@@ -111,6 +115,8 @@ public class DiagramConverterTestCases {
 
         ElkNode elkDiagram = convertedDiagram.getElkDiagram();
         assertThat(elkDiagram.getChildren().size()).isEqualTo(1);
+        assertThat(elkDiagram.getProperty(CoreOptions.ALGORITHM)).isEqualTo(LayeredOptions.ALGORITHM_ID);
+        assertThat(elkDiagram.getProperty(CoreOptions.HIERARCHY_HANDLING)).isEqualTo(HierarchyHandling.INCLUDE_CHILDREN);
 
         Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
         assertThat(id2ElkGraphElements.get(node.getId())).isInstanceOf(ElkNode.class);
@@ -126,7 +132,7 @@ public class DiagramConverterTestCases {
 
     @Test
     public void testDiagramOneImageNode() {
-        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService);
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
 
         // @formatter:off
         TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
@@ -162,7 +168,7 @@ public class DiagramConverterTestCases {
 
     @Test
     public void testDiagramOneNodeAndOneEdge() {
-        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService);
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
 
         // @formatter:off
         TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
@@ -190,7 +196,7 @@ public class DiagramConverterTestCases {
 
     @Test
     public void testDiagramOneNodeAndOneBorderNode() {
-        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService);
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
 
         // @formatter:off
         TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
@@ -223,7 +229,7 @@ public class DiagramConverterTestCases {
 
     @Test
     public void testDiagramOneEdgeBetweenTwoBorderNodes() {
-        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService);
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
 
         // @formatter:off
         TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
@@ -262,4 +268,41 @@ public class DiagramConverterTestCases {
         assertThat(elkEdge.getTargets().size()).isEqualTo(1);
         assertThat(elkEdge.getTargets().get(0).getIdentifier()).isEqualTo(secondBorderNode.getId());
     }
+
+    @Test
+    public void testFingerprint() {
+        DiagramConverter diagramConverter = new DiagramConverter(this.textSizeService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry());
+
+        // @formatter:off
+        TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+        Node firstNode = diagramBuilder.getNode(FIRST_NODE_ID);
+        Node secondNode = diagramBuilder.getNode(SECOND_NODE_ID);
+        Node imageNode = Node.newNode(secondNode)
+                .style(diagramBuilder.getImageNodeStyle())
+                .build();
+
+        Edge edge = diagramBuilder.getEdge(FIRST_EDGE_ID, firstNode.getId(), secondNode.getId());
+        Edge reversedEdge = diagramBuilder.getEdge(FIRST_EDGE_ID, secondNode.getId(), firstNode.getId());
+
+        Diagram diagram = Diagram.newDiagram(diagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(firstNode, secondNode))
+                .edges(List.of(edge))
+                .build();
+        Diagram restyledDiagram = Diagram.newDiagram(diagram)
+                .label("Another label") //$NON-NLS-1$
+                .build();
+        Diagram diagramWithReversedEdge = Diagram.newDiagram(diagram)
+                .edges(List.of(reversedEdge))
+                .build();
+        Diagram diagramWithImageNode = Diagram.newDiagram(diagram)
+                .nodes(List.of(firstNode, imageNode))
+                .build();
+        // @formatter:on
+
+        String fingerprint = diagramConverter.convert(diagram).getFingerprint();
+        assertThat(fingerprint).isNotEmpty();
+        assertThat(diagramConverter.convert(restyledDiagram).getFingerprint()).isEqualTo(fingerprint);
+        assertThat(diagramConverter.convert(diagramWithReversedEdge).getFingerprint()).isNotEqualTo(fingerprint);
+        assertThat(diagramConverter.convert(diagramWithImageNode).getFingerprint()).isNotEqualTo(fingerprint);
+    }
 }
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.ConvertedDiagram;
+import org.eclipse.sirius.web.diagrams.layout.DiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.ImageNodeStyleSizeService;
+import org.eclipse.sirius.web.diagrams.layout.ImageSizeService;
+import org.eclipse.sirius.web.diagrams.layout.IncrementalLayoutProvider;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
+import org.eclipse.sirius.web.diagrams.layout.TextBounds;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Test;
+
+/**
+ * Unit tests of the incremental layout provider.
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalLayoutProviderTestCases {
+
+    private static final double TEXT_WIDTH = 100;
+
+    private static final double TEXT_HEIGHT = 10;
+
+    private static final double NODE_WIDTH = 150;
+
+    private static final double NODE_HEIGHT = 70;
+
+    private static final double FIRST_NODE_X = 10;
+
+    private static final double SECOND_NODE_X = 300;
+
+    private static final double NODE_Y = 20;
+
+    private static final double LOWER_NODE_Y = 400;
+
+    private static final UUID DIAGRAM_ID = UUID.randomUUID();
+
+    private static final String FIRST_NODE_ID = "firstNodeId"; //$NON-NLS-1$
+
+    private static final String SECOND_NODE_ID = "secondNodeId"; //$NON-NLS-1$
+
+    private static final String THIRD_NODE_ID = "thirdNodeId"; //$NON-NLS-1$
+
+    private static final String FIRST_EDGE_ID = "firstEdgeId"; //$NON-NLS-1$
+
+    private static final String SECOND_EDGE_ID = "secondEdgeId"; //$NON-NLS-1$
+
+    private TextBoundsService textBoundsService = new TextBoundsService() {
+        @Override
+        public TextBounds getBounds(Label label) {
+            Size size = Size.newSize().width(TEXT_WIDTH).height(TEXT_HEIGHT).build();
+            return new TextBounds(size, Position.UNDEFINED);
+        }
+    };
+
+    private ImageNodeStyleSizeService imageNodeStyleSizeService = new ImageNodeStyleSizeService(new ImageSizeService()) {
+        @Override
+        public Size getSize(ImageNodeStyle imageNodeStyle) {
+            return Size.newSize().width(TEXT_WIDTH).height(TEXT_WIDTH).build();
+        }
+    };
+
+    private Node getNode(String id, double x, boolean layouted) {
+        TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+        Node node = diagramBuilder.getNode(id);
+
+        // @formatter:off
+        Label label = Label.newLabel(id + "_label") //$NON-NLS-1$
+                .type(node.getLabel().getType())
+                .text(node.getLabel().getText())
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .style(node.getLabel().getStyle())
+                .build();
+
+        Node.Builder builder = Node.newNode(node)
+                .label(label);
+        if (layouted) {
+            builder.position(Position.newPosition().x(x).y(NODE_Y).build())
+                    .size(Size.newSize().width(NODE_WIDTH).height(NODE_HEIGHT).build())
+                    .label(Label.newLabel(label).size(Size.newSize().width(TEXT_WIDTH).height(TEXT_HEIGHT).build()).build());
+        }
+        // @formatter:on
+        return builder.build();
+    }
+
+    private Diagram getDiagram(List<Node> nodes) {
+        return Diagram.newDiagram(new TestDiagramBuilder().getDiagram(DIAGRAM_ID)).nodes(nodes).build();
+    }
+
+    @Test
+    public void testLayoutReusedWhenOnlyStylesChanged() {
+        Diagram previousDiagram = this.getDiagram(List.of(this.getNode(FIRST_NODE_ID, FIRST_NODE_X, true), this.getNode(SECOND_NODE_ID, SECOND_NODE_X, true)));
+
+        // @formatter:off
+        RectangularNodeStyle style = RectangularNodeStyle.newRectangularNodeStyle()
+                .borderColor("#FF0000") //$NON-NLS-1$
+                .borderSize(2)
+                .borderStyle(LineStyle.Solid)
+                .color("#00FF00") //$NON-NLS-1$
+                .build();
+        Node restyledNode = Node.newNode(this.getNode(SECOND_NODE_ID, 0, false))
+                .style(style)
+                .build();
+        // @formatter:on
+        Diagram diagram = this.getDiagram(List.of(this.getNode(FIRST_NODE_ID, 0, false), restyledNode));
+
+        ConvertedDiagram convertedDiagram = new DiagramConverter(this.textBoundsService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry()).convert(diagram);
+        Optional<Diagram> optionalDiagram = new IncrementalLayoutProvider().reusePreviousLayout(previousDiagram, diagram, convertedDiagram);
+        assertThat(optionalDiagram).isPresent();
+
+        Diagram layoutedDiagram = optionalDiagram.get();
+        assertThat(layoutedDiagram.getNodes()).hasSize(2);
+        assertThat(layoutedDiagram.getNodes().get(0).getPosition().getX()).isEqualTo(FIRST_NODE_X);
+        assertThat(layoutedDiagram.getNodes().get(1).getPosition().getX()).isEqualTo(SECOND_NODE_X);
+        assertThat(layoutedDiagram.getNodes().get(1).getSize().getWidth()).isEqualTo(NODE_WIDTH);
+        assertThat(layoutedDiagram.getNodes().get(1).getStyle()).isEqualTo(style);
+    }
+
+    @Test
+    public void testLayoutNotReusedWhenNodeAdded() {
+        Diagram previousDiagram = this.getDiagram(List.of(this.getNode(FIRST_NODE_ID, FIRST_NODE_X, true), this.getNode(SECOND_NODE_ID, SECOND_NODE_X, true)));
+        Diagram diagram = this.getDiagram(List.of(this.getNode(FIRST_NODE_ID, 0, false), this.getNode(SECOND_NODE_ID, 0, false), this.getNode(THIRD_NODE_ID, 0, false)));
+
+        ConvertedDiagram convertedDiagram = new DiagramConverter(this.textBoundsService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry()).convert(diagram);
+        IncrementalLayoutProvider incrementalLayoutProvider = new IncrementalLayoutProvider();
+        assertThat(incrementalLayoutProvider.reusePreviousLayout(previousDiagram, diagram, convertedDiagram)).isEmpty();
+
+        incrementalLayoutProvider.applyPreviousLayout(previousDiagram, convertedDiagram);
+        ElkNode firstElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(FIRST_NODE_ID);
+        ElkNode secondElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(SECOND_NODE_ID);
+        ElkNode thirdElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(THIRD_NODE_ID);
+        assertThat(firstElkNode.getX()).isEqualTo(FIRST_NODE_X);
+        assertThat(secondElkNode.getX()).isEqualTo(SECOND_NODE_X);
+        assertThat(secondElkNode.getY()).isEqualTo(NODE_Y);
+        assertThat(thirdElkNode.getX()).isEqualTo(SECOND_NODE_X + NODE_WIDTH);
+    }
+
+    @Test
+    public void testExistingNodesOrderKeptByLayout() {
+        // The first node was below the second one, the reverse of the order of the nodes in the diagram
+        Node previousFirstNode = Node.newNode(this.getNode(FIRST_NODE_ID, FIRST_NODE_X, true)).position(Position.newPosition().x(FIRST_NODE_X).y(LOWER_NODE_Y).build()).build();
+        Diagram previousDiagram = this.getDiagram(List.of(previousFirstNode, this.getNode(SECOND_NODE_ID, FIRST_NODE_X, true)));
+
+        TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+        List<Edge> edges = List.of(diagramBuilder.getEdge(FIRST_EDGE_ID, FIRST_NODE_ID, THIRD_NODE_ID), diagramBuilder.getEdge(SECOND_EDGE_ID, SECOND_NODE_ID, THIRD_NODE_ID));
+        List<Node> nodes = List.of(this.getNode(FIRST_NODE_ID, 0, false), this.getNode(SECOND_NODE_ID, 0, false), this.getNode(THIRD_NODE_ID, 0, false));
+        Diagram diagram = Diagram.newDiagram(this.getDiagram(nodes)).edges(edges).build();
+
+        ConvertedDiagram convertedDiagram = new DiagramConverter(this.textBoundsService, this.imageNodeStyleSizeService, new LayoutConfiguratorRegistry()).convert(diagram);
+        new IncrementalLayoutProvider().applyPreviousLayout(previousDiagram, convertedDiagram);
+        new RecursiveGraphLayoutEngine().layout(convertedDiagram.getElkDiagram(), new BasicProgressMonitor());
+
+        ElkNode firstElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(FIRST_NODE_ID);
+        ElkNode secondElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(SECOND_NODE_ID);
+        ElkNode thirdElkNode = (ElkNode) convertedDiagram.getId2ElkGraphElements().get(THIRD_NODE_ID);
+        assertThat(secondElkNode.getY()).isLessThan(firstElkNode.getY());
+        assertThat(thirdElkNode.getX()).isGreaterThan(firstElkNode.getX() + firstElkNode.getWidth());
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+
+import org.eclipse.elk.graph.ElkGraphFactory;
+import org.eclipse.sirius.web.diagrams.layout.ConvertedDiagram;
+import org.eclipse.sirius.web.diagrams.layout.LayoutCache;
+import org.junit.Test;
+
+/**
+ * Unit tests of the layout cache.
+ *
+ * @author sbegaudeau
+ */
+public class LayoutCacheTestCases {
+
+    private static final String FIRST_FINGERPRINT = "firstFingerprint"; //$NON-NLS-1$
+
+    private static final String SECOND_FINGERPRINT = "secondFingerprint"; //$NON-NLS-1$
+
+    private static final String THIRD_FINGERPRINT = "thirdFingerprint"; //$NON-NLS-1$
+
+    private ConvertedDiagram createConvertedDiagram(String fingerprint) {
+        return new ConvertedDiagram(ElkGraphFactory.eINSTANCE.createElkNode(), new HashMap<>(), fingerprint);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedLayoutEvicted() {
+        LayoutCache layoutCache = new LayoutCache(2);
+
+        ConvertedDiagram first = this.createConvertedDiagram(FIRST_FINGERPRINT);
+        layoutCache.put(first);
+        layoutCache.put(this.createConvertedDiagram(SECOND_FINGERPRINT));
+        assertThat(layoutCache.get(FIRST_FINGERPRINT)).contains(first);
+
+        layoutCache.put(this.createConvertedDiagram(THIRD_FINGERPRINT));
+        assertThat(layoutCache.size()).isEqualTo(2);
+        assertThat(layoutCache.get(FIRST_FINGERPRINT)).contains(first);
+        assertThat(layoutCache.get(SECOND_FINGERPRINT)).isEmpty();
+
+        assertThat(layoutCache.getHitCount()).isEqualTo(2);
+        assertThat(layoutCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        LayoutCache layoutCache = new LayoutCache(0);
+        assertThat(layoutCache.isEnabled()).isFalse();
+
+        layoutCache.put(this.createConvertedDiagram(FIRST_FINGERPRINT));
+        layoutCache.put(this.createConvertedDiagram("")); //$NON-NLS-1$
+        assertThat(layoutCache.size()).isEqualTo(0);
+        assertThat(layoutCache.get(FIRST_FINGERPRINT)).isEmpty();
+    }
+}
@@ -15,10 +15,15 @@ package org.eclipse.sirius.web.diagrams.layout.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.sirius.web.diagrams.tests.DiagramAssertions.assertThat;
 
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.elk.graph.ElkBendPoint;
 import org.eclipse.elk.graph.ElkEdge;
@@ -27,15 +32,28 @@ import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkLabel;
 import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
 import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
 import org.eclipse.sirius.web.diagrams.layout.ConvertedDiagram;
+import org.eclipse.sirius.web.diagrams.layout.DiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.ImageNodeStyleSizeService;
+import org.eclipse.sirius.web.diagrams.layout.ImageSizeService;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
 import org.eclipse.sirius.web.diagrams.layout.LayoutedDiagramProvider;
+import org.eclipse.sirius.web.diagrams.layout.TextBounds;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
 import org.eclipse.sirius.web.diagrams.tests.IdPolicy;
 import org.eclipse.sirius.web.diagrams.tests.LayoutPolicy;
 import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Ignore;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Unit tests for the layouted diagram provider.
@@ -93,9 +111,99 @@ public class LayoutedDiagramProviderTestCases {
         assertThat(layoutedDiagram).hasBounds(0, 0, 0, 0);
         assertThat(layoutedDiagram.getNodes()).hasSizeGreaterThan(0);
         assertThat(layoutedDiagram.getNodes().get(0)).hasBounds(NODE_X, NODE_Y, NODE_WIDTH, NODE_HEIGHT);
+        assertThat(layoutedDiagram.getNodes().get(0).getLabel()).hasBounds(LABEL_X, LABEL_Y, LABEL_WIDTH, LABEL_HEIGHT, Position.UNDEFINED.getX(), Position.UNDEFINED.getY());
+        assertThat(layoutedDiagram.getEdges().get(0).getRoutingPoints()).hasSize(3);
         assertThat(layoutedDiagram).matchesRecursively(originalDiagram, IdPolicy.WITH_ID, LayoutPolicy.WITHOUT_LAYOUT);
     }
 
+    /**
+     * Measures the time and the memory allocated to map the result of the layout of a large diagram back to the
+     * diagram. It is ignored since it only logs the measures.
+     */
+    @Test
+    @Ignore
+    public void benchmarkLayoutedDiagramProvider() {
+        int containerCount = 500;
+        int childCount = 20;
+        TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+        List<Node> containers = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < containerCount; i++) {
+            List<Node> children = new ArrayList<>();
+            for (int j = 0; j < childCount; j++) {
+                children.add(this.createNode(diagramBuilder, "node" + i + "_" + j, List.of())); //$NON-NLS-1$ //$NON-NLS-2$
+                if (j > 0) {
+                    edges.add(diagramBuilder.getEdge("edge" + i + "_" + j, "node" + i + "_" + (j - 1), "node" + i + "_" + j)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+                }
+            }
+            containers.add(this.createNode(diagramBuilder, "container" + i, children)); //$NON-NLS-1$
+        }
+        Diagram diagram = Diagram.newDiagram(diagramBuilder.getDiagram(DIAGRAM_ID)).nodes(containers).edges(edges).build();
+
+        TextBoundsService textBoundsService = new TextBoundsService() {
+            @Override
+            public TextBounds getBounds(Label label) {
+                return new TextBounds(Size.newSize().width(LABEL_WIDTH).height(LABEL_HEIGHT).build(), Position.UNDEFINED);
+            }
+        };
+        ImageNodeStyleSizeService imageNodeStyleSizeService = new ImageNodeStyleSizeService(new ImageSizeService());
+        ConvertedDiagram convertedDiagram = new DiagramConverter(textBoundsService, imageNodeStyleSizeService, new LayoutConfiguratorRegistry()).convert(diagram);
+        ElkNode elkDiagram = convertedDiagram.getElkDiagram();
+        for (ElkGraphElement elkGraphElement : convertedDiagram.getId2ElkGraphElements().values()) {
+            if (elkGraphElement instanceof ElkEdge) {
+                ElkEdgeSection section = ElkGraphUtil.firstEdgeSection((ElkEdge) elkGraphElement, false, false);
+                section.setStartLocation(NODE_X, NODE_Y);
+                section.setEndLocation(NODE_X, NODE_Y);
+                ElkGraphUtil.createBendPoint(section, EDGE_BENDPOINT_X, EDGE_BENDPOINT_Y);
+            }
+        }
+
+        LayoutedDiagramProvider layoutedDiagramProvider = new LayoutedDiagramProvider();
+        Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
+        Runnable mapLayout = () -> layoutedDiagramProvider.getLayoutedDiagram(diagram, elkDiagram, id2ElkGraphElements);
+
+        Logger logger = LoggerFactory.getLogger(LayoutedDiagramProviderTestCases.class);
+        this.measure(mapLayout, "Layouted diagram provider", logger); //$NON-NLS-1$
+    }
+
+    private Node createNode(TestDiagramBuilder diagramBuilder, String id, List<Node> childNodes) {
+        Node node = diagramBuilder.getNode(id);
+        // @formatter:off
+        Label label = Label.newLabel(id + "_label") //$NON-NLS-1$
+                .type(node.getLabel().getType())
+                .text(id)
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .style(node.getLabel().getStyle())
+                .build();
+        return Node.newNode(node)
+                .label(label)
+                .childNodes(childNodes)
+                .build();
+        // @formatter:on
+    }
+
+    private void measure(Runnable runnable, String name, Logger logger) {
+        int warmUpIterationCount = 10;
+        int iterationCount = 50;
+        for (int i = 0; i < warmUpIterationCount; i++) {
+            runnable.run();
+        }
+
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterationCount; i++) {
+            runnable.run();
+        }
+        long duration = (System.nanoTime() - start) / iterationCount;
+        allocatedBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / iterationCount;
+
+        logger.info("{}: {} us and {} KB allocated per mapping", name, TimeUnit.NANOSECONDS.toMicros(duration), allocatedBytes / 1024); //$NON-NLS-1$
+    }
+
     private ConvertedDiagram getConvertedDiagram(Diagram originalDiagram) {
         Map<String, ElkGraphElement> id2ElkGraphElements = new HashMap<>();
 
@@ -145,7 +253,7 @@ public class LayoutedDiagramProviderTestCases {
 
         id2ElkGraphElements.put(elkEdge.getIdentifier(), elkEdge);
 
-        return new ConvertedDiagram(elkDiagram, id2ElkGraphElements);
+        return new ConvertedDiagram(elkDiagram, id2ElkGraphElements, ""); //$NON-NLS-1$
     }
 
 }
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.core.util.ElkUtil;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.sirius.web.diagrams.NodeType;
+import org.eclipse.sirius.web.diagrams.layout.DiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
+import org.eclipse.sirius.web.diagrams.layout.ParallelLayoutEngine;
+import org.junit.Test;
+
+/**
+ * Unit tests of the parallel layout engine.
+ *
+ * @author sbegaudeau
+ */
+public class ParallelLayoutEngineTestCases {
+
+    private static final double NODE_WIDTH = 50;
+
+    private static final double NODE_HEIGHT = 25;
+
+    private ElkNode createNode(String id, ElkNode parent) {
+        ElkNode elkNode = ElkGraphUtil.createNode(parent);
+        elkNode.setIdentifier(id);
+        elkNode.setProperty(DiagramConverter.PROPERTY_TYPE, NodeType.NODE_RECTANGLE);
+        elkNode.setDimensions(NODE_WIDTH, NODE_HEIGHT);
+        return elkNode;
+    }
+
+    private ElkNode createContainer(String id, ElkNode parent) {
+        ElkNode container = this.createNode(id, parent);
+        ElkNode firstChild = this.createNode(id + "1", container); //$NON-NLS-1$
+        ElkNode secondChild = this.createNode(id + "2", container); //$NON-NLS-1$
+        ElkEdge elkEdge = ElkGraphUtil.createSimpleEdge(firstChild, secondChild);
+        elkEdge.setContainingNode(container);
+        return container;
+    }
+
+    @Test
+    public void testIndependentSubgraphsLayout() {
+        ElkNode elkDiagram = ElkGraphUtil.createGraph();
+        elkDiagram.setIdentifier("diagram"); //$NON-NLS-1$
+        elkDiagram.setProperty(DiagramConverter.PROPERTY_TYPE, DiagramConverter.DEFAULT_DIAGRAM_TYPE);
+
+        ElkNode firstContainer = this.createContainer("A", elkDiagram); //$NON-NLS-1$
+        ElkNode node = this.createNode("B", elkDiagram); //$NON-NLS-1$
+        ElkNode secondContainer = this.createContainer("C", elkDiagram); //$NON-NLS-1$
+        ElkNode connectedContainer = this.createContainer("D", elkDiagram); //$NON-NLS-1$
+        ElkEdge crossContainerEdge = ElkGraphUtil.createSimpleEdge(node, connectedContainer.getChildren().get(0));
+        crossContainerEdge.setContainingNode(elkDiagram);
+
+        ElkUtil.applyVisitors(elkDiagram, new LayoutConfiguratorRegistry().getLayoutConfigurator());
+
+        ParallelLayoutEngine parallelLayoutEngine = new ParallelLayoutEngine(2);
+        try {
+            parallelLayoutEngine.layout(elkDiagram, new BasicProgressMonitor());
+        } finally {
+            parallelLayoutEngine.shutdown();
+        }
+
+        assertThat(elkDiagram.getChildren()).containsExactly(firstContainer, node, secondContainer, connectedContainer);
+        assertThat(elkDiagram.getContainedEdges()).containsExactly(crossContainerEdge);
+
+        List<ElkNode> containers = List.of(firstContainer, secondContainer, connectedContainer);
+        for (ElkNode container : containers) {
+            assertThat(container.getChildren()).hasSize(2);
+            assertThat(container.getContainedEdges()).hasSize(1);
+            for (ElkNode child : container.getChildren()) {
+                assertThat(child.getX()).isGreaterThanOrEqualTo(0);
+                assertThat(child.getY()).isGreaterThanOrEqualTo(0);
+                assertThat(child.getX() + child.getWidth()).isLessThanOrEqualTo(container.getWidth());
+                assertThat(child.getY() + child.getHeight()).isLessThanOrEqualTo(container.getHeight());
+            }
+        }
+
+        for (ElkNode elkNode : elkDiagram.getChildren()) {
+            for (ElkNode otherElkNode : elkDiagram.getChildren()) {
+                if (elkNode != otherElkNode) {
+                    boolean isSeparated = elkNode.getX() + elkNode.getWidth() <= otherElkNode.getX() || otherElkNode.getX() + otherElkNode.getWidth() <= elkNode.getX();
+                    isSeparated = isSeparated || elkNode.getY() + elkNode.getHeight() <= otherElkNode.getY() || otherElkNode.getY() + otherElkNode.getHeight() <= elkNode.getY();
+                    assertThat(isSeparated).isTrue();
+                }
+            }
+        }
+    }
+}
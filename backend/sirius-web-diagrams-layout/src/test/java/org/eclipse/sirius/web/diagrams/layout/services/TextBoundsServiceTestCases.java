@@ -14,11 +14,20 @@ package org.eclipse.sirius.web.diagrams.layout.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.data.Offset;
 import org.eclipse.sirius.web.diagrams.Label;
 import org.eclipse.sirius.web.diagrams.LabelStyle;
 import org.eclipse.sirius.web.diagrams.Position;
 import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.MeasuredFont;
+import org.eclipse.sirius.web.diagrams.layout.TextBounds;
 import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -112,4 +121,62 @@ public class TextBoundsServiceTestCases {
         assertThat(size.getWidth()).isCloseTo(162.99218, Offset.offset(0.0001));
         assertThat(size.getHeight()).isCloseTo(18.3984, Offset.offset(0.0001));
     }
+
+    private Label createLabel(String text, boolean isBold, boolean isItalic) {
+        //@formatter:off
+        LabelStyle labelStyle = LabelStyle.newLabelStyle()
+                .color(LABEL_COLOR)
+                .fontSize(FONT_SIZE)
+                .iconURL(ICON_URL)
+                .bold(isBold)
+                .italic(isItalic)
+                .build();
+        return Label.newLabel(ID)
+                .type(LABEL_TYPE)
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .text(text)
+                .style(labelStyle)
+                .build();
+        //@formatter:on
+    }
+
+    @Test
+    public void testAsciiFastPathMatchesAwt() {
+        FontRenderContext fontRenderContext = new FontRenderContext(new AffineTransform(), true, true);
+        List<String> texts = List.of("Hello World", "abcdefghijklmopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ", " &;$({[]})*@#=:;,?./+-_! ", "Caf\u00e9", "x"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+        for (int fontStyle : List.of(Font.PLAIN, Font.BOLD, Font.ITALIC, Font.BOLD | Font.ITALIC)) {
+            Font font = new Font("Arial", fontStyle, FONT_SIZE); //$NON-NLS-1$
+            MeasuredFont measuredFont = new MeasuredFont(font, fontRenderContext);
+            for (String text : texts) {
+                Rectangle2D expectedBounds = font.getStringBounds(text, fontRenderContext);
+                Rectangle2D bounds = measuredFont.getStringBounds(text);
+                assertThat(bounds.getX()).isCloseTo(expectedBounds.getX(), Offset.offset(0.001));
+                assertThat(bounds.getY()).isCloseTo(expectedBounds.getY(), Offset.offset(0.001));
+                assertThat(bounds.getWidth()).isCloseTo(expectedBounds.getWidth(), Offset.offset(0.001));
+                assertThat(bounds.getHeight()).isCloseTo(expectedBounds.getHeight(), Offset.offset(0.001));
+            }
+        }
+    }
+
+    @Test
+    public void testTextBoundsCached() {
+        TextBoundsService textBoundsService = new TextBoundsService();
+        TextBounds textBounds = textBoundsService.getBounds(this.createLabel("Hello World", false, false)); //$NON-NLS-1$
+        assertThat(textBoundsService.getBounds(this.createLabel("Hello World", false, false))).isSameAs(textBounds); //$NON-NLS-1$
+        assertThat(textBoundsService.getBounds(this.createLabel("Hello World", true, false))).isNotSameAs(textBounds); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testTextBoundsCachedInEveryStripe() {
+        TextBoundsService textBoundsService = new TextBoundsService();
+        List<TextBounds> textBounds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            textBounds.add(textBoundsService.getBounds(this.createLabel("Label " + i, false, false))); //$NON-NLS-1$
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(textBoundsService.getBounds(this.createLabel("Label " + i, false, false))).isSameAs(textBounds.get(i)); //$NON-NLS-1$
+        }
+    }
 }
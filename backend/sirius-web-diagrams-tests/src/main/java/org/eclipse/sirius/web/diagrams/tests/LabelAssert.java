@@ -80,11 +80,11 @@ public class LabelAssert extends AbstractAssert<LabelAssert, Label> {
         if (alignment == null) {
             this.failWithMessage("Expected label's alignment to be <'{'x: %.2f, y: %.2f'}'> but was null", xAlignment, yAlignment); //$NON-NLS-1$
         } else {
-            if (x != alignment.getX()) {
-                this.failWithMessage("Expected label's x alignment to be <%.2f> but was <%.2f>", x, alignment.getX()); //$NON-NLS-1$
+            if (xAlignment != alignment.getX()) {
+                this.failWithMessage("Expected label's x alignment to be <%.2f> but was <%.2f>", xAlignment, alignment.getX()); //$NON-NLS-1$
             }
-            if (y != alignment.getY()) {
-                this.failWithMessage("Expected label's y alignment to be <%.2f> but was <%.2f>", y, alignment.getY()); //$NON-NLS-1$
+            if (yAlignment != alignment.getY()) {
+                this.failWithMessage("Expected label's y alignment to be <%.2f> but was <%.2f>", yAlignment, alignment.getY()); //$NON-NLS-1$
             }
         }
 
@@ -24,6 +24,7 @@ import org.eclipse.sirius.web.diagrams.Size;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.web.diagrams.elements.DiagramElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -49,12 +50,13 @@ public class DiagramComponent implements IComponent {
         UUID diagramId = diagramDescription.getIdProvider().apply(variableManager);
         String targetObjectId = diagramDescription.getTargetObjectIdProvider().apply(variableManager);
 
-        DiagramRenderingCache cache = new DiagramRenderingCache();
+        DiagramRenderingCache cache = this.props.getCache();
+        IncrementalRenderingContext incrementalRenderingContext = this.props.getIncrementalRenderingContext().orElse(null);
 
         // @formatter:off
         var nodes = diagramDescription.getNodeDescriptions().stream()
                 .map(nodeDescription -> {
-                    var nodeComponentProps = new NodeComponentProps(variableManager, nodeDescription, false, cache);
+                    var nodeComponentProps = new NodeComponentProps(variableManager, nodeDescription, false, cache, incrementalRenderingContext);
                     return new Element(NodeComponent.class, nodeComponentProps);
                 })
                 .collect(Collectors.toList());
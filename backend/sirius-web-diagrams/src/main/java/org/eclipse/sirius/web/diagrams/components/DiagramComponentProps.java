@@ -13,9 +13,12 @@
 package org.eclipse.sirius.web.diagrams.components;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -28,9 +31,31 @@ public class DiagramComponentProps implements IProps {
 
     private final DiagramDescription diagramDescription;
 
+    private final DiagramRenderingCache cache;
+
+    private final IncrementalRenderingContext incrementalRenderingContext;
+
     public DiagramComponentProps(VariableManager variableManager, DiagramDescription diagramDescription) {
+        this(variableManager, diagramDescription, new DiagramRenderingCache(), null);
+    }
+
+    /**
+     * Creates the properties of a diagram component which may reuse the nodes of a previous rendering.
+     *
+     * @param variableManager
+     *            The variable manager
+     * @param diagramDescription
+     *            The description of the diagram
+     * @param cache
+     *            The cache which will be populated during the rendering
+     * @param incrementalRenderingContext
+     *            The information used to reuse the previous nodes or <code>null</code> to render everything
+     */
+    public DiagramComponentProps(VariableManager variableManager, DiagramDescription diagramDescription, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.diagramDescription = Objects.requireNonNull(diagramDescription);
+        this.cache = Objects.requireNonNull(cache);
+        this.incrementalRenderingContext = incrementalRenderingContext;
     }
 
     public VariableManager getVariableManager() {
@@ -40,4 +65,12 @@ public class DiagramComponentProps implements IProps {
     public DiagramDescription getDiagramDescription() {
         return this.diagramDescription;
     }
+
+    public DiagramRenderingCache getCache() {
+        return this.cache;
+    }
+
+    public Optional<IncrementalRenderingContext> getIncrementalRenderingContext() {
+        return Optional.ofNullable(this.incrementalRenderingContext);
+    }
 }
@@ -66,6 +66,7 @@ public class EdgeComponent implements IComponent {
             semanticElementsVariableManager.put(DiagramDescription.CACHE, cache);
 
             List<Object> semanticElements = edgeDescription.getSemanticElementsProvider().apply(semanticElementsVariableManager);
+            cache.addReadObjects(semanticElements);
             int count = 0;
             for (Object semanticElement : semanticElements) {
                 VariableManager edgeVariableManager = variableManager.createChild();
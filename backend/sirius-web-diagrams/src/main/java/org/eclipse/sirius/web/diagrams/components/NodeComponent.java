@@ -22,16 +22,24 @@ import org.eclipse.sirius.web.components.Fragment;
 import org.eclipse.sirius.web.components.FragmentProps;
 import org.eclipse.sirius.web.components.IComponent;
 import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
 import org.eclipse.sirius.web.diagrams.Position;
 import org.eclipse.sirius.web.diagrams.Size;
 import org.eclipse.sirius.web.diagrams.description.LabelDescription;
 import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.diagrams.elements.LabelElementProps;
 import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
  * The component used to render a node.
+ * <p>
+ * If some nodes of a previous rendering can be reused, the semantic candidates are still computed but the unchanged
+ * nodes will not be evaluated once again.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -52,67 +60,136 @@ public class NodeComponent implements IComponent {
 
         List<Element> children = new ArrayList<>();
         List<Object> semanticElements = nodeDescription.getSemanticElementsProvider().apply(variableManager);
+        cache.addReadObjects(semanticElements);
         for (Object semanticElement : semanticElements) {
-            VariableManager nodeVariableManager = variableManager.createChild();
-            nodeVariableManager.put(VariableManager.SELF, semanticElement);
-
-            String nodeId = nodeDescription.getIdProvider().apply(nodeVariableManager);
-            String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
-            String targetObjectId = nodeDescription.getTargetObjectIdProvider().apply(nodeVariableManager);
-            String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
-            String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
-
-            LabelDescription labelDescription = nodeDescription.getLabelDescription();
-            nodeVariableManager.put(LabelDescription.OWNER_ID, nodeId);
-            LabelComponentProps labelComponentProps = new LabelComponentProps(nodeVariableManager, labelDescription);
-            Element labelElement = new Element(LabelComponent.class, labelComponentProps);
-
-            INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
-
             // @formatter:off
-            var borderNodes = nodeDescription.getBorderNodeDescriptions().stream()
-                    .map(borderNodeDescription -> {
-                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, borderNodeDescription, true, cache);
-                        return new Element(NodeComponent.class, nodeComponentProps);
-                    })
-                    .collect(Collectors.toList());
-
-            var childNodes = nodeDescription.getChildNodeDescriptions().stream()
-                    .map(childNodeDescription -> {
-                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, childNodeDescription, false, cache);
-                        return new Element(NodeComponent.class, nodeComponentProps);
-                    })
-                    .collect(Collectors.toList());
+            Element nodeElement = this.props.getIncrementalRenderingContext()
+                    .flatMap(context -> context.getReusableNode(nodeDescription.getId(), semanticElement))
+                    .filter(node -> node.isBorderNode() == isBorderNode)
+                    .map(node -> this.reuseNode(node, semanticElement, cache))
+                    .orElseGet(() -> this.renderNode(variableManager, semanticElement, cache));
             // @formatter:on
-
-            List<Element> nodeChildren = new ArrayList<>();
-            nodeChildren.add(labelElement);
-            nodeChildren.addAll(borderNodes);
-            nodeChildren.addAll(childNodes);
-
-            // @formatter:off
-            NodeElementProps nodeElementProps = NodeElementProps.newNodeElementProps(nodeId)
-                    .type(type)
-                    .targetObjectId(targetObjectId)
-                    .targetObjectKind(targetObjectKind)
-                    .targetObjectLabel(targetObjectLabel)
-                    .descriptionId(nodeDescription.getId())
-                    .borderNode(isBorderNode)
-                    .style(style)
-                    .position(Position.UNDEFINED)
-                    .size(Size.UNDEFINED)
-                    .children(nodeChildren)
-                    .build();
-            // @formatter:on
-            Element nodeElement = new Element(NodeElementProps.TYPE, nodeElementProps);
             children.add(nodeElement);
-
-            cache.put(nodeDescription.getId(), nodeElement);
-            cache.put(semanticElement, nodeElement);
         }
 
         FragmentProps fragmentProps = new FragmentProps(children);
         return new Fragment(fragmentProps);
     }
 
+    private Element renderNode(VariableManager variableManager, Object semanticElement, DiagramRenderingCache cache) {
+        NodeDescription nodeDescription = this.props.getNodeDescription();
+        boolean isBorderNode = this.props.isBorderNode();
+        IncrementalRenderingContext incrementalRenderingContext = this.props.getIncrementalRenderingContext().orElse(null);
+
+        VariableManager nodeVariableManager = variableManager.createChild();
+        nodeVariableManager.put(VariableManager.SELF, semanticElement);
+
+        String nodeId = nodeDescription.getIdProvider().apply(nodeVariableManager);
+        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
+        String targetObjectId = nodeDescription.getTargetObjectIdProvider().apply(nodeVariableManager);
+        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
+        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
+
+        LabelDescription labelDescription = nodeDescription.getLabelDescription();
+        nodeVariableManager.put(LabelDescription.OWNER_ID, nodeId);
+        LabelComponentProps labelComponentProps = new LabelComponentProps(nodeVariableManager, labelDescription);
+        Element labelElement = new Element(LabelComponent.class, labelComponentProps);
+
+        INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
+
+        // @formatter:off
+        var borderNodes = nodeDescription.getBorderNodeDescriptions().stream()
+                .map(borderNodeDescription -> {
+                    var nodeComponentProps = new NodeComponentProps(nodeVariableManager, borderNodeDescription, true, cache, incrementalRenderingContext);
+                    return new Element(NodeComponent.class, nodeComponentProps);
+                })
+                .collect(Collectors.toList());
+
+        var childNodes = nodeDescription.getChildNodeDescriptions().stream()
+                .map(childNodeDescription -> {
+                    var nodeComponentProps = new NodeComponentProps(nodeVariableManager, childNodeDescription, false, cache, incrementalRenderingContext);
+                    return new Element(NodeComponent.class, nodeComponentProps);
+                })
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        List<Element> nodeChildren = new ArrayList<>();
+        nodeChildren.add(labelElement);
+        nodeChildren.addAll(borderNodes);
+        nodeChildren.addAll(childNodes);
+
+        // @formatter:off
+        NodeElementProps nodeElementProps = NodeElementProps.newNodeElementProps(nodeId)
+                .type(type)
+                .targetObjectId(targetObjectId)
+                .targetObjectKind(targetObjectKind)
+                .targetObjectLabel(targetObjectLabel)
+                .descriptionId(nodeDescription.getId())
+                .borderNode(isBorderNode)
+                .style(style)
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .children(nodeChildren)
+                .build();
+        // @formatter:on
+        Element nodeElement = new Element(NodeElementProps.TYPE, nodeElementProps);
+
+        cache.put(nodeDescription.getId(), nodeElement);
+        cache.put(semanticElement, nodeElement);
+
+        return nodeElement;
+    }
+
+    /**
+     * Creates the element of a node, and those of its border and child nodes, from a node of the previous rendering.
+     * The layout related information are not kept since the diagram will be laid out once again.
+     */
+    private Element reuseNode(Node node, Object semanticElement, DiagramRenderingCache cache) {
+        Label label = node.getLabel();
+
+        // @formatter:off
+        LabelElementProps labelElementProps = LabelElementProps.newLabelElementProps(label.getId())
+                .type(label.getType())
+                .text(label.getText())
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .style(label.getStyle())
+                .build();
+        // @formatter:on
+
+        List<Element> nodeChildren = new ArrayList<>();
+        nodeChildren.add(new Element(LabelElementProps.TYPE, labelElementProps));
+
+        List<Node> nestedNodes = new ArrayList<>();
+        nestedNodes.addAll(node.getBorderNodes());
+        nestedNodes.addAll(node.getChildNodes());
+        for (Node nestedNode : nestedNodes) {
+            this.props.getIncrementalRenderingContext().flatMap(context -> context.getObject(nestedNode.getId())).ifPresent(nestedSemanticElement -> {
+                nodeChildren.add(this.reuseNode(nestedNode, nestedSemanticElement, cache));
+            });
+        }
+
+        // @formatter:off
+        NodeElementProps nodeElementProps = NodeElementProps.newNodeElementProps(node.getId())
+                .type(node.getType())
+                .targetObjectId(node.getTargetObjectId())
+                .targetObjectKind(node.getTargetObjectKind())
+                .targetObjectLabel(node.getTargetObjectLabel())
+                .descriptionId(node.getDescriptionId())
+                .borderNode(node.isBorderNode())
+                .style(node.getStyle())
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .children(nodeChildren)
+                .build();
+        // @formatter:on
+        Element nodeElement = new Element(NodeElementProps.TYPE, nodeElementProps);
+
+        cache.put(node.getDescriptionId(), nodeElement);
+        cache.put(semanticElement, nodeElement);
+
+        return nodeElement;
+    }
+
 }
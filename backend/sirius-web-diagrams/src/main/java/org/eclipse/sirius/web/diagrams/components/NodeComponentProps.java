@@ -13,10 +13,12 @@
 package org.eclipse.sirius.web.diagrams.components;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.description.NodeDescription;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -34,11 +36,15 @@ public class NodeComponentProps implements IProps {
 
     private final DiagramRenderingCache cache;
 
-    public NodeComponentProps(VariableManager variableManager, NodeDescription nodeDescription, boolean isBorderNode, DiagramRenderingCache cache) {
+    private final IncrementalRenderingContext incrementalRenderingContext;
+
+    public NodeComponentProps(VariableManager variableManager, NodeDescription nodeDescription, boolean isBorderNode, DiagramRenderingCache cache,
+            IncrementalRenderingContext incrementalRenderingContext) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.nodeDescription = Objects.requireNonNull(nodeDescription);
         this.isBorderNode = isBorderNode;
         this.cache = Objects.requireNonNull(cache);
+        this.incrementalRenderingContext = incrementalRenderingContext;
     }
 
     public VariableManager getVariableManager() {
@@ -57,4 +63,8 @@ public class NodeComponentProps implements IProps {
         return this.cache;
     }
 
+    public Optional<IncrementalRenderingContext> getIncrementalRenderingContext() {
+        return Optional.ofNullable(this.incrementalRenderingContext);
+    }
+
 }
@@ -13,12 +13,16 @@
 package org.eclipse.sirius.web.diagrams.renderer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 
 /**
  * Cache used during the rendering of a diagram.
@@ -33,6 +37,8 @@ public class DiagramRenderingCache {
 
     private final Map<Object, List<Element>> objectToNodes = new HashMap<>();
 
+    private final Set<Object> readObjects = new HashSet<>();
+
     public void put(UUID nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -42,6 +48,20 @@ public class DiagramRenderingCache {
         this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).add(nodeElement);
     }
 
+    /**
+     * Records the semantic candidates computed for some nodes or edges, including those which will not be displayed.
+     *
+     * @param objects
+     *            The semantic candidates
+     */
+    public void addReadObjects(Collection<Object> objects) {
+        this.readObjects.addAll(objects);
+    }
+
+    public Set<Object> getReadObjects() {
+        return this.readObjects;
+    }
+
     public Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
         return this.nodeDescriptionIdToNodes;
     }
@@ -53,4 +73,19 @@ public class DiagramRenderingCache {
     public Map<Object, List<Element>> getObjectToNodes() {
         return this.objectToNodes;
     }
+
+    /**
+     * Returns the semantic element of each node rendered, indexed by the identifier of the node.
+     *
+     * @return The semantic elements of the nodes
+     */
+    public Map<String, Object> getNodeIdToObject() {
+        Map<String, Object> nodeIdToObject = new HashMap<>();
+        this.nodeToObject.forEach((nodeElement, object) -> {
+            if (nodeElement.getProps() instanceof NodeElementProps) {
+                nodeIdToObject.put(((NodeElementProps) nodeElement.getProps()).getId(), object);
+            }
+        });
+        return nodeIdToObject;
+    }
 }
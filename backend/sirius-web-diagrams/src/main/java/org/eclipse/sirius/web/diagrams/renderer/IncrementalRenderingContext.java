@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * Information used to reuse the nodes of a previous rendering of the diagram.
+ * <p>
+ * A node of the previous diagram can be reused if neither its semantic element nor the semantic elements of its border
+ * and child nodes have been impacted by the latest changes. Nodes whose semantic element is displayed more than once
+ * by the same node description are never reused since their content may depend on their parent.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalRenderingContext {
+
+    private final Map<String, Object> previousNodeIdToObject;
+
+    private final Predicate<Object> isImpacted;
+
+    private final Map<UUID, Map<Object, Node>> nodeDescriptionIdToReusableNodes = new HashMap<>();
+
+    private final Set<Node> ambiguousNodes = new HashSet<>();
+
+    public IncrementalRenderingContext(Diagram previousDiagram, Map<String, Object> previousNodeIdToObject, Predicate<Object> isImpacted) {
+        this.previousNodeIdToObject = Objects.requireNonNull(previousNodeIdToObject);
+        this.isImpacted = Objects.requireNonNull(isImpacted);
+        this.index(previousDiagram.getNodes());
+    }
+
+    private void index(List<Node> nodes) {
+        for (Node node : nodes) {
+            Object object = this.previousNodeIdToObject.get(node.getId());
+            if (object != null) {
+                Map<Object, Node> objectToNode = this.nodeDescriptionIdToReusableNodes.computeIfAbsent(node.getDescriptionId(), id -> new HashMap<>());
+                Node existingNode = objectToNode.putIfAbsent(object, node);
+                if (existingNode != null) {
+                    this.ambiguousNodes.add(existingNode);
+                }
+            }
+            this.index(node.getBorderNodes());
+            this.index(node.getChildNodes());
+        }
+    }
+
+    /**
+     * Returns the node of the previous diagram which can be reused as is for the given semantic element.
+     *
+     * @param nodeDescriptionId
+     *            The identifier of the node description
+     * @param semanticElement
+     *            The semantic element of the node
+     * @return The node to reuse or an empty optional if the node has to be rendered
+     */
+    public Optional<Node> getReusableNode(UUID nodeDescriptionId, Object semanticElement) {
+        // @formatter:off
+        return Optional.ofNullable(this.nodeDescriptionIdToReusableNodes.get(nodeDescriptionId))
+                .map(objectToNode -> objectToNode.get(semanticElement))
+                .filter(node -> !this.ambiguousNodes.contains(node))
+                .filter(this::isUnchanged);
+        // @formatter:on
+    }
+
+    private boolean isUnchanged(Node node) {
+        Object object = this.previousNodeIdToObject.get(node.getId());
+        boolean isUnchanged = object != null && !this.isImpacted.test(object);
+        isUnchanged = isUnchanged && node.getBorderNodes().stream().allMatch(this::isUnchanged);
+        isUnchanged = isUnchanged && node.getChildNodes().stream().allMatch(this::isUnchanged);
+        return isUnchanged;
+    }
+
+    public Optional<Object> getObject(String nodeId) {
+        return Optional.ofNullable(this.previousNodeIdToObject.get(nodeId));
+    }
+}
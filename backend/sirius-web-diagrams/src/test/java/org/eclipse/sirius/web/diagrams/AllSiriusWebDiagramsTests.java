@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.diagrams;
 import org.eclipse.sirius.web.diagrams.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.diagrams.architecture.ImmutableTestCases;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererEdgeTestCases;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererIncrementalTestCases;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererNodeTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -26,7 +27,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramRendererEdgeTestCases.class, DiagramRendererNodeTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramRendererEdgeTestCases.class, DiagramRendererIncrementalTestCases.class, DiagramRendererNodeTestCases.class })
 public final class AllSiriusWebDiagramsTests {
     private AllSiriusWebDiagramsTests() {
         // Prevent instantiation
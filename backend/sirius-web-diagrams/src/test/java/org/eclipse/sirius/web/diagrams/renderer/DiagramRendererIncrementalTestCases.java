@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test cases for the incremental rendering of the diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRendererIncrementalTestCases {
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramRendererIncrementalTestCases.class);
+
+    private final AtomicInteger labelComputationCount = new AtomicInteger();
+
+    /**
+     * Renders a diagram with two nodes and then renders it again with one impacted semantic element. Only the node of
+     * the impacted semantic element should be computed once again.
+     */
+    @Test
+    public void testUnimpactedNodeReused() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+        DiagramDescription diagramDescription = this.getDiagramDescription(List.of(firstObject, secondObject));
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        Diagram diagram = this.render(diagramDescription, cache, null);
+        assertThat(diagram.getNodes()).hasSize(2);
+        assertThat(this.labelComputationCount.get()).isEqualTo(2);
+
+        IncrementalRenderingContext incrementalRenderingContext = new IncrementalRenderingContext(diagram, cache.getNodeIdToObject(), Set.of(secondObject)::contains);
+        Diagram newDiagram = this.render(diagramDescription, new DiagramRenderingCache(), incrementalRenderingContext);
+
+        assertThat(newDiagram.getNodes()).hasSize(2);
+        assertThat(this.labelComputationCount.get()).isEqualTo(3);
+
+        Node firstNode = diagram.getNodes().get(0);
+        Node newFirstNode = newDiagram.getNodes().get(0);
+        assertThat(newFirstNode.getId()).isEqualTo(firstNode.getId());
+        assertThat(newFirstNode.getLabel().getId()).isEqualTo(firstNode.getLabel().getId());
+        assertThat(newFirstNode.getLabel().getText()).isEqualTo(firstNode.getLabel().getText());
+        assertThat(newDiagram.getNodes().get(1).getId()).isNotEqualTo(diagram.getNodes().get(1).getId());
+    }
+
+    /**
+     * Renders a diagram and then renders it again after the removal of a semantic element. The node of the removed
+     * semantic element should not be kept.
+     */
+    @Test
+    public void testRemovedNodeNotReused() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+        List<Object> semanticElements = new ArrayList<>(List.of(firstObject, secondObject));
+        DiagramDescription diagramDescription = this.getDiagramDescription(semanticElements);
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        Diagram diagram = this.render(diagramDescription, cache, null);
+
+        semanticElements.remove(secondObject);
+        IncrementalRenderingContext incrementalRenderingContext = new IncrementalRenderingContext(diagram, cache.getNodeIdToObject(), object -> false);
+        Diagram newDiagram = this.render(diagramDescription, new DiagramRenderingCache(), incrementalRenderingContext);
+
+        assertThat(newDiagram.getNodes()).hasSize(1);
+        assertThat(newDiagram.getNodes().get(0).getId()).isEqualTo(diagram.getNodes().get(0).getId());
+        assertThat(this.labelComputationCount.get()).isEqualTo(2);
+    }
+
+    private Diagram render(DiagramDescription diagramDescription, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
+        DiagramComponentProps props = new DiagramComponentProps(new VariableManager(), diagramDescription, cache, incrementalRenderingContext);
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer(this.logger).render(element);
+    }
+
+    private DiagramDescription getDiagramDescription(List<Object> semanticElements) {
+        // @formatter:off
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> "#000000") //$NON-NLS-1$
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> "") //$NON-NLS-1$
+                .build();
+
+        LabelDescription labelDescription = LabelDescription.newLabelDescription("labelDescriptionId") //$NON-NLS-1$
+                .idProvider(variableManager -> UUID.randomUUID().toString())
+                .textProvider(variableManager -> "Node " + this.labelComputationCount.incrementAndGet()) //$NON-NLS-1$
+                .styleDescription(labelStyleDescription)
+                .build();
+
+        NodeDescription nodeDescription = NodeDescription.newNodeDescription(UUID.randomUUID())
+                .idProvider(variableManager -> UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "node:rectangular") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> new ArrayList<>(semanticElements))
+                .targetObjectIdProvider(variableManager -> "targetObjectId") //$NON-NLS-1$
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "") //$NON-NLS-1$
+                .labelDescription(labelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle().color("").borderColor("").borderSize(0).borderStyle(LineStyle.Solid).build()) //$NON-NLS-1$ //$NON-NLS-2$
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID())
+                .idProvider(variableManager -> UUID.randomUUID())
+                .label("") //$NON-NLS-1$
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Diagram") //$NON-NLS-1$
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(new ArrayList<>())
+                .toolSections(List.of())
+                .build();
+        // @formatter:on
+    }
+}
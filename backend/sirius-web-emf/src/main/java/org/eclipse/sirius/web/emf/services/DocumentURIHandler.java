@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
+import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * URI handler used to read the content of the documents from the database.
+ *
+ * <p>
+ * The URI of the resources of an editing context is the id of their document. This handler is used to load those
+ * resources on demand.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DocumentURIHandler extends URIHandlerImpl {
+
+    private final Logger logger = LoggerFactory.getLogger(DocumentURIHandler.class);
+
+    private final IDocumentRepository documentRepository;
+
+    public DocumentURIHandler(IDocumentRepository documentRepository) {
+        this.documentRepository = Objects.requireNonNull(documentRepository);
+    }
+
+    @Override
+    public boolean canHandle(URI uri) {
+        return uri.scheme() == null && uri.segmentCount() == 1;
+    }
+
+    @Override
+    public InputStream createInputStream(URI uri, Map<?, ?> options) {
+        Optional<String> optionalContent = Optional.empty();
+        try {
+            UUID documentId = UUID.fromString(uri.toString());
+            optionalContent = this.documentRepository.findById(documentId).map(DocumentEntity::getContent);
+        } catch (IllegalArgumentException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+
+        if (optionalContent.isEmpty()) {
+            this.logger.warn(MessageFormat.format("The content of the document \"{0}\" could not be found", uri)); //$NON-NLS-1$
+        }
+        return new ByteArrayInputStream(optionalContent.orElse("").getBytes()); //$NON-NLS-1$
+    }
+}
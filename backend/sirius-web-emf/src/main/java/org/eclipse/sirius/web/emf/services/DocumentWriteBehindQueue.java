@@ -0,0 +1,329 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Queue used to write the content of the documents in the background.
+ *
+ * <p>
+ * The documents are serialized by the thread owning their editing context and then handed to this queue. Several
+ * consecutive saves of the same document before a flush are coalesced into a single write of its latest content. The
+ * queue is flushed at a fixed interval and when it is disposed.
+ * </p>
+ *
+ * <p>
+ * The documents of a project which have not been written, whatever the reason, are put back in the queue in order to
+ * be written by the next flush. The next periodic flush is scheduled even if the previous one has failed. A document
+ * whose content has failed to be written a given number of times in a row is dropped, with an error, in order not to
+ * retry it forever. Enqueuing a new content of a document gives it as many attempts again.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DocumentWriteBehindQueue {
+
+    private final Logger logger = LoggerFactory.getLogger(DocumentWriteBehindQueue.class);
+
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
+    private final ScheduledExecutorService executor;
+
+    private final long flushInterval;
+
+    private final Object lock = new Object();
+
+    private final Object flushLock = new Object();
+
+    /**
+     * The content of the documents waiting to be written, indexed by project id and then by document id. Guarded by
+     * {@link #lock}.
+     */
+    private final Map<UUID, Map<UUID, String>> pendingDocuments = new LinkedHashMap<>();
+
+    /**
+     * The time at which the oldest pending document has been enqueued, or 0 if there is no pending document. Guarded
+     * by {@link #lock}.
+     */
+    private long oldestPendingTimestamp;
+
+    /**
+     * The number of consecutive failed attempts to write the pending content of the documents, indexed by document id.
+     * Guarded by {@link #lock}.
+     */
+    private final Map<UUID, Integer> failedWriteAttemptCounts = new LinkedHashMap<>();
+
+    private final int maxWriteAttempts;
+
+    private final AtomicLong enqueuedDocumentCount = new AtomicLong();
+
+    private final AtomicLong coalescedDocumentCount = new AtomicLong();
+
+    private final AtomicLong writtenDocumentCount = new AtomicLong();
+
+    private final AtomicLong droppedDocumentCount = new AtomicLong();
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private volatile long lastFlushLag;
+
+    public DocumentWriteBehindQueue(IEditingContextPersistenceService editingContextPersistenceService, Duration flushInterval, int maxWriteAttempts) {
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.flushInterval = flushInterval.toMillis();
+        this.maxWriteAttempts = maxWriteAttempts;
+
+        this.executor = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Document write-behind queue"); //$NON-NLS-1$
+            return thread;
+        });
+        this.executor.schedule(this::periodicFlush, this.flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Flushes the queue and then schedules the next flush, even if this one has failed, unless the queue has been
+     * disposed.
+     */
+    private void periodicFlush() {
+        boolean flushed = false;
+        try {
+            this.flush();
+            flushed = true;
+        } finally {
+            if (!flushed) {
+                this.logger.error("The pending documents could not be written, they will be written during the next flush"); //$NON-NLS-1$
+            }
+            if (!this.executor.isShutdown()) {
+                this.executor.schedule(this::periodicFlush, this.flushInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Adds the given content of the documents to the queue. If some documents are still waiting to be written, their
+     * pending content is replaced by the new one.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param documentContents
+     *            The content of the documents indexed by the id of the documents
+     */
+    public void enqueue(UUID projectId, Map<UUID, String> documentContents) {
+        if (!documentContents.isEmpty()) {
+            synchronized (this.lock) {
+                Map<UUID, String> projectDocuments = this.pendingDocuments.computeIfAbsent(projectId, id -> new LinkedHashMap<>());
+                for (Entry<UUID, String> entry : documentContents.entrySet()) {
+                    if (projectDocuments.put(entry.getKey(), entry.getValue()) != null) {
+                        this.coalescedDocumentCount.incrementAndGet();
+                    }
+                    this.failedWriteAttemptCounts.remove(entry.getKey());
+                }
+                if (this.oldestPendingTimestamp == 0) {
+                    this.oldestPendingTimestamp = System.currentTimeMillis();
+                }
+            }
+            this.enqueuedDocumentCount.addAndGet(documentContents.size());
+        }
+    }
+
+    /**
+     * Writes all the pending documents.
+     */
+    public void flush() {
+        synchronized (this.flushLock) {
+            Map<UUID, Map<UUID, String>> documentsToWrite = new LinkedHashMap<>();
+            long timestamp = 0;
+            synchronized (this.lock) {
+                documentsToWrite.putAll(this.pendingDocuments);
+                this.pendingDocuments.clear();
+                timestamp = this.oldestPendingTimestamp;
+                this.oldestPendingTimestamp = 0;
+            }
+
+            if (!documentsToWrite.isEmpty()) {
+                int documentCount = 0;
+                Iterator<Entry<UUID, Map<UUID, String>>> iterator = documentsToWrite.entrySet().iterator();
+                try {
+                    while (iterator.hasNext()) {
+                        Entry<UUID, Map<UUID, String>> entry = iterator.next();
+                        iterator.remove();
+                        documentCount = documentCount + this.write(entry.getKey(), entry.getValue());
+                    }
+                } finally {
+                    documentsToWrite.forEach(this::requeue);
+                }
+
+                this.lastFlushLag = System.currentTimeMillis() - timestamp;
+                this.flushCount.incrementAndGet();
+                this.writtenDocumentCount.addAndGet(documentCount);
+                this.logger.debug("{} documents written {}ms after their first modification", documentCount, this.lastFlushLag); //$NON-NLS-1$
+            }
+        }
+    }
+
+    /**
+     * Writes the pending documents of the given project.
+     *
+     * @param projectId
+     *            The id of the project
+     */
+    public void flush(UUID projectId) {
+        synchronized (this.flushLock) {
+            Optional<Map<UUID, String>> optionalDocumentsToWrite = Optional.empty();
+            synchronized (this.lock) {
+                optionalDocumentsToWrite = Optional.ofNullable(this.pendingDocuments.remove(projectId));
+                if (this.pendingDocuments.isEmpty()) {
+                    this.oldestPendingTimestamp = 0;
+                }
+            }
+
+            optionalDocumentsToWrite.ifPresent(documentsToWrite -> {
+                int documentCount = this.write(projectId, documentsToWrite);
+                this.writtenDocumentCount.addAndGet(documentCount);
+                this.logger.debug("{} documents of the project {} written", documentCount, projectId); //$NON-NLS-1$
+            });
+        }
+    }
+
+    /**
+     * Writes the documents of the given project, which are retried by the next flush if they have not been written.
+     */
+    private int write(UUID projectId, Map<UUID, String> documentContents) {
+        int result = 0;
+        boolean written = false;
+        try {
+            this.editingContextPersistenceService.write(projectId, documentContents);
+            written = true;
+            result = documentContents.size();
+        } catch (DataAccessException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        } finally {
+            if (written) {
+                synchronized (this.lock) {
+                    this.failedWriteAttemptCounts.keySet().removeAll(documentContents.keySet());
+                }
+            } else {
+                this.retry(projectId, documentContents);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts back in the queue the documents which have failed to be written, except the ones which have failed too
+     * many times in a row and which are dropped.
+     */
+    private void retry(UUID projectId, Map<UUID, String> documentContents) {
+        Map<UUID, String> documentsToRetry = new LinkedHashMap<>();
+        synchronized (this.lock) {
+            Map<UUID, String> projectDocuments = this.pendingDocuments.getOrDefault(projectId, Map.of());
+            for (Entry<UUID, String> entry : documentContents.entrySet()) {
+                // A more recent content enqueued in the meantime will be written with new attempts
+                UUID documentId = entry.getKey();
+                if (!projectDocuments.containsKey(documentId)) {
+                    int failedWriteAttemptCount = this.failedWriteAttemptCounts.merge(documentId, 1, Integer::sum);
+                    if (failedWriteAttemptCount < this.maxWriteAttempts) {
+                        documentsToRetry.put(documentId, entry.getValue());
+                    } else {
+                        this.failedWriteAttemptCounts.remove(documentId);
+                        this.droppedDocumentCount.incrementAndGet();
+                        this.logger.error("The document {} of the project {} has been dropped after {} failed attempts to write it", documentId, projectId, failedWriteAttemptCount); //$NON-NLS-1$
+                    }
+                }
+            }
+        }
+        if (!documentsToRetry.isEmpty()) {
+            this.requeue(projectId, documentsToRetry);
+        }
+    }
+
+    /**
+     * Puts back in the queue the documents which could not be written unless a more recent content has been enqueued
+     * in the meantime.
+     */
+    private void requeue(UUID projectId, Map<UUID, String> documentContents) {
+        synchronized (this.lock) {
+            Map<UUID, String> projectDocuments = this.pendingDocuments.computeIfAbsent(projectId, id -> new LinkedHashMap<>());
+            documentContents.forEach(projectDocuments::putIfAbsent);
+            if (this.oldestPendingTimestamp == 0) {
+                this.oldestPendingTimestamp = System.currentTimeMillis();
+            }
+        }
+    }
+
+    public int getPendingDocumentCount() {
+        synchronized (this.lock) {
+            return this.pendingDocuments.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    public long getEnqueuedDocumentCount() {
+        return this.enqueuedDocumentCount.get();
+    }
+
+    public long getCoalescedDocumentCount() {
+        return this.coalescedDocumentCount.get();
+    }
+
+    public long getWrittenDocumentCount() {
+        return this.writtenDocumentCount.get();
+    }
+
+    /**
+     * Returns the number of documents dropped after too many failed attempts to write them.
+     *
+     * @return The number of dropped documents
+     */
+    public long getDroppedDocumentCount() {
+        return this.droppedDocumentCount.get();
+    }
+
+    public long getFlushCount() {
+        return this.flushCount.get();
+    }
+
+    /**
+     * Returns the time in milliseconds between the first modification of a document written during the last flush and
+     * the end of this flush.
+     *
+     * @return The lag of the last flush
+     */
+    public long getLastFlushLag() {
+        return this.lastFlushLag;
+    }
+
+    /**
+     * Stops the periodic flush and writes all the pending documents.
+     */
+    public void dispose() {
+        this.executor.shutdown();
+        this.flush();
+    }
+}
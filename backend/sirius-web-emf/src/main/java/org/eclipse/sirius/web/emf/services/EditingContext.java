@@ -12,26 +12,58 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.services;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextChangeRecorder;
 
 /**
  * Implementation of the editing context.
+ * <p>
+ * The editing context records the objects modified by the commands executed in its editing domain thanks to an
+ * adapter installed on the resource set. Those changes are used to perform incremental refreshes of the
+ * representations. The resources and the resource set are considered as modified when some root objects or some
+ * resources are added or removed. The same adapter keeps track of the resources modified since their last save in order to only
+ * persist those resources.
+ * </p>
  *
  * @author sbegaudeau
  */
-public class EditingContext implements IEditingContext {
+public class EditingContext implements IEditingContext, IEditingContextChangeRecorder {
 
     private final UUID projectId;
 
     private final EditingDomain editingDomain;
 
+    private final Set<Object> impactedObjects = new HashSet<>();
+
+    private final Map<Object, Set<Object>> modifiedObjects = new HashMap<>();
+
+    private final Set<Resource> modifiedResources = new LinkedHashSet<>();
+
+    private long generation;
+
     public EditingContext(UUID projectId, EditingDomain editingDomain) {
         this.projectId = Objects.requireNonNull(projectId);
         this.editingDomain = Objects.requireNonNull(editingDomain);
+        this.editingDomain.getResourceSet().eAdapters().add(new ChangeRecordingAdapter());
     }
 
     @Override
@@ -44,4 +76,169 @@ public class EditingContext implements IEditingContext {
         return this.editingDomain;
     }
 
+    @Override
+    public Set<Object> getImpactedObjects() {
+        return Collections.unmodifiableSet(this.impactedObjects);
+    }
+
+    @Override
+    public Map<Object, Set<Object>> getModifiedObjects() {
+        return Collections.unmodifiableMap(this.modifiedObjects);
+    }
+
+    @Override
+    public boolean hasChanges() {
+        return !this.impactedObjects.isEmpty();
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public void clearChanges() {
+        if (this.hasChanges()) {
+            this.impactedObjects.clear();
+            this.modifiedObjects.clear();
+            this.generation = this.generation + 1;
+        }
+    }
+
+    /**
+     * Returns the resources which have been modified, or added to the resource set, since they have been saved for the
+     * last time.
+     *
+     * @return The modified resources
+     */
+    public List<Resource> getModifiedResources() {
+        return new ArrayList<>(this.modifiedResources);
+    }
+
+    /**
+     * Indicates that the given resources have been saved.
+     *
+     * @param resources
+     *            The resources saved
+     */
+    public void clearModifiedResources(Collection<Resource> resources) {
+        this.modifiedResources.removeAll(resources);
+    }
+
+    /**
+     * Adapter used to record the objects modified, and their containers, in the whole resource set along with the
+     * modified resources.
+     *
+     * <p>
+     * The resources which have not been loaded yet are not traversed and the notifications sent while a resource is
+     * being loaded are not considered as changes.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private class ChangeRecordingAdapter extends EContentAdapter {
+        @Override
+        protected void setTarget(Resource target) {
+            if (target.isLoaded()) {
+                super.setTarget(target);
+            } else {
+                this.basicSetTarget(target);
+            }
+        }
+
+        @Override
+        protected void unsetTarget(Resource target) {
+            if (target.isLoaded()) {
+                super.unsetTarget(target);
+            } else {
+                this.basicUnsetTarget(target);
+            }
+        }
+
+        @Override
+        public void notifyChanged(Notification notification) {
+            super.notifyChanged(notification);
+
+            if (!notification.isTouch() && !this.isLoading(notification.getNotifier())) {
+                Object notifier = notification.getNotifier();
+                if (notifier instanceof EObject) {
+                    EObject eObject = (EObject) notifier;
+                    Optional.ofNullable(eObject.eResource()).ifPresent(EditingContext.this.modifiedResources::add);
+                    Set<Object> objects = EditingContext.this.modifiedObjects.computeIfAbsent(eObject, object -> this.getContainersAndSelf((EObject) object));
+                    EditingContext.this.impactedObjects.addAll(objects);
+                } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                    EditingContext.this.modifiedResources.add((Resource) notifier);
+                    this.recordModification(notifier);
+                } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                    this.handleResourcesChange(notification);
+                    this.recordModification(notifier);
+                }
+            }
+        }
+
+        private Set<Object> getContainersAndSelf(EObject eObject) {
+            Set<Object> objects = new HashSet<>();
+            EObject container = eObject;
+            while (container != null) {
+                objects.add(container);
+                container = container.eContainer();
+            }
+            return objects;
+        }
+
+        /**
+         * Records the modification of a resource or of the resource set. Since they are not contained in any object,
+         * only themselves are impacted.
+         */
+        private void recordModification(Object notifier) {
+            EditingContext.this.modifiedObjects.putIfAbsent(notifier, Set.of(notifier));
+            EditingContext.this.impactedObjects.add(notifier);
+        }
+
+        private boolean isLoading(Object notifier) {
+            Resource resource = null;
+            if (notifier instanceof Resource) {
+                resource = (Resource) notifier;
+            } else if (notifier instanceof EObject) {
+                resource = ((EObject) notifier).eResource();
+            }
+            return resource instanceof Resource.Internal && ((Resource.Internal) resource).isLoading();
+        }
+
+        private void handleResourcesChange(Notification notification) {
+            List<Resource> addedResources = new ArrayList<>();
+            List<Resource> removedResources = new ArrayList<>();
+            switch (notification.getEventType()) {
+            case Notification.ADD:
+                addedResources.add((Resource) notification.getNewValue());
+                break;
+            case Notification.ADD_MANY:
+                addedResources.addAll(this.toResources(notification.getNewValue()));
+                break;
+            case Notification.REMOVE:
+                removedResources.add((Resource) notification.getOldValue());
+                break;
+            case Notification.REMOVE_MANY:
+                removedResources.addAll(this.toResources(notification.getOldValue()));
+                break;
+            default:
+                break;
+            }
+            EditingContext.this.modifiedResources.addAll(addedResources);
+            EditingContext.this.modifiedResources.removeAll(removedResources);
+        }
+
+        private List<Resource> toResources(Object value) {
+            List<Resource> resources = new ArrayList<>();
+            if (value instanceof Collection<?>) {
+                for (Object object : (Collection<?>) value) {
+                    if (object instanceof Resource) {
+                        resources.add((Resource) object);
+                    }
+                }
+            }
+            return resources;
+        }
+    }
+
 }
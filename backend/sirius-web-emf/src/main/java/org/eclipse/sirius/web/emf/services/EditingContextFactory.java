@@ -29,16 +29,23 @@ import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.projections.IDocumentMetadata;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Service used to create a new editing context.
  *
+ * <p>
+ * In lazy loading mode, the resource set only contains empty resources when the editing context is created. Each
+ * document is then read from the database and parsed the first time its content is accessed.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -52,10 +59,14 @@ public class EditingContextFactory implements IEditingContextFactory {
 
     private final EPackage.Registry ePackageRegistry;
 
-    public EditingContextFactory(IDocumentRepository documentRepository, ComposedAdapterFactory composedAdapterFactory, EPackage.Registry ePackageRegistry) {
+    private final boolean lazyLoadingEnabled;
+
+    public EditingContextFactory(IDocumentRepository documentRepository, ComposedAdapterFactory composedAdapterFactory, EPackage.Registry ePackageRegistry,
+            @Value("${sirius.web.editingContext.lazyLoading.enabled:false}") boolean lazyLoadingEnabled) {
         this.documentRepository = Objects.requireNonNull(documentRepository);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.ePackageRegistry = Objects.requireNonNull(ePackageRegistry);
+        this.lazyLoadingEnabled = lazyLoadingEnabled;
     }
 
     @Override
@@ -64,6 +75,20 @@ public class EditingContextFactory implements IEditingContextFactory {
         ResourceSet resourceSet = new ResourceSetImpl();
         resourceSet.setPackageRegistry(this.ePackageRegistry);
 
+        int documentCount = 0;
+        if (this.lazyLoadingEnabled) {
+            documentCount = this.addLazyResources(projectId, resourceSet);
+        } else {
+            documentCount = this.loadResources(projectId, resourceSet);
+        }
+
+        EditingDomain editingDomain = new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack(), resourceSet);
+        this.logger.debug(MessageFormat.format("{0} documents loaded for the project \"{1}\"", documentCount, projectId)); //$NON-NLS-1$
+
+        return new EditingContext(projectId, editingDomain);
+    }
+
+    private int loadResources(UUID projectId, ResourceSet resourceSet) {
         List<DocumentEntity> documentEntities = this.documentRepository.findAllByProjectId(projectId);
         for (DocumentEntity documentEntity : documentEntities) {
             URI uri = URI.createURI(documentEntity.getId().toString());
@@ -77,11 +102,20 @@ public class EditingContextFactory implements IEditingContextFactory {
                 this.logger.error(exception.getMessage(), exception);
             }
         }
+        return documentEntities.size();
+    }
 
-        EditingDomain editingDomain = new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack(), resourceSet);
-        this.logger.debug(MessageFormat.format("{0} documents loaded for the project \"{1}\"", documentEntities.size(), projectId)); //$NON-NLS-1$
+    private int addLazyResources(UUID projectId, ResourceSet resourceSet) {
+        resourceSet.getURIConverter().getURIHandlers().add(0, new DocumentURIHandler(this.documentRepository));
 
-        return new EditingContext(projectId, editingDomain);
+        List<IDocumentMetadata> documentMetadata = this.documentRepository.findAllMetadataByProjectId(projectId);
+        for (IDocumentMetadata metadata : documentMetadata) {
+            URI uri = URI.createURI(metadata.getId().toString());
+            JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createLazyResource(uri);
+            resource.eAdapters().add(new DocumentMetadataAdapter(metadata.getName()));
+            resourceSet.getResources().add(resource);
+        }
+        return documentMetadata.size();
     }
 
 }
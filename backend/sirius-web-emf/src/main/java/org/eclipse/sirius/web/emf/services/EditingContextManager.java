@@ -12,31 +12,61 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.services;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
+import javax.annotation.PreDestroy;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextFactory;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
 import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Service used to manage the editing context.
  *
+ * <p>
+ * In write-behind mode, the modified documents are serialized synchronously but written in the database in the
+ * background by a {@link DocumentWriteBehindQueue}.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
 public class EditingContextManager implements IEditingContextManager {
 
+    /**
+     * The approximate number of bytes used in memory by an object of an editing context, including its adapters and
+     * the entries of the various caches referencing it.
+     */
+    private static final long ESTIMATED_OBJECT_SIZE = 512;
+
     private final IEditingContextFactory editingContextFactory;
 
     private final IEditingContextPersistenceService editingContextPersistenceService;
 
-    public EditingContextManager(IEditingContextFactory editingContextFactory, IEditingContextPersistenceService editingContextPersistenceService) {
+    private final DocumentWriteBehindQueue documentWriteBehindQueue;
+
+    public EditingContextManager(IEditingContextFactory editingContextFactory, IEditingContextPersistenceService editingContextPersistenceService,
+            @Value("${sirius.web.persistence.writeBehind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${sirius.web.persistence.writeBehind.flushInterval:1000}") long flushInterval,
+            @Value("${sirius.web.persistence.writeBehind.maxWriteAttempts:10}") int maxWriteAttempts) {
         this.editingContextFactory = Objects.requireNonNull(editingContextFactory);
         this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        if (writeBehindEnabled) {
+            this.documentWriteBehindQueue = new DocumentWriteBehindQueue(editingContextPersistenceService, Duration.ofMillis(flushInterval), maxWriteAttempts);
+        } else {
+            this.documentWriteBehindQueue = null;
+        }
     }
 
     @Override
@@ -46,7 +76,57 @@ public class EditingContextManager implements IEditingContextManager {
 
     @Override
     public void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch) {
-        this.editingContextPersistenceService.persist(projectId, editingContext, stopWatch);
+        if (this.documentWriteBehindQueue != null) {
+            this.documentWriteBehindQueue.enqueue(projectId, this.editingContextPersistenceService.serialize(editingContext, stopWatch));
+        } else {
+            this.editingContextPersistenceService.persist(projectId, editingContext, stopWatch);
+        }
+    }
+
+    @Override
+    public void flush(UUID projectId) {
+        this.getDocumentWriteBehindQueue().ifPresent(queue -> queue.flush(projectId));
+    }
+
+    @Override
+    public long getEstimatedSize(IEditingContext editingContext) {
+        // @formatter:off
+        long objectCount = Optional.ofNullable(editingContext)
+                .map(IEditingContext::getDomain)
+                .filter(EditingDomain.class::isInstance)
+                .map(EditingDomain.class::cast)
+                .map(EditingDomain::getResourceSet)
+                .map(resourceSet -> resourceSet.getResources().stream()
+                        .filter(Resource::isLoaded)
+                        .mapToLong(this::getObjectCount)
+                        .sum())
+                .orElse(0L);
+        // @formatter:on
+        return objectCount * ESTIMATED_OBJECT_SIZE;
+    }
+
+    private long getObjectCount(Resource resource) {
+        long count = 0;
+        TreeIterator<EObject> iterator = resource.getAllContents();
+        while (iterator.hasNext()) {
+            iterator.next();
+            count = count + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the write-behind queue, which is only available if the write-behind mode is enabled.
+     *
+     * @return The write-behind queue
+     */
+    public Optional<DocumentWriteBehindQueue> getDocumentWriteBehindQueue() {
+        return Optional.ofNullable(this.documentWriteBehindQueue);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        this.getDocumentWriteBehindQueue().ifPresent(DocumentWriteBehindQueue::dispose);
     }
 
 }
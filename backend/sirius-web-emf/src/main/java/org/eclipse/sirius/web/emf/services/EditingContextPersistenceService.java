@@ -16,7 +16,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -56,35 +59,70 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     @Override
     public void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch) {
+        this.write(projectId, this.serialize(editingContext, stopWatch));
+    }
+
+    /**
+     * Serializes the resources of the editing context which should be saved. If the editing context keeps track of its
+     * modified resources, only those resources will be serialized.
+     *
+     * <p>
+     * This method must be called by the thread owning the editing context since it reads the EMF resources.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param stopWatch
+     *            The stop watch
+     * @return The serialized content of the documents indexed by the id of the documents
+     */
+    @Override
+    public Map<UUID, String> serialize(IEditingContext editingContext, IStopWatch stopWatch) {
         // @formatter:off
-        var optionalDocuments = Optional.ofNullable(editingContext)
+        return Optional.ofNullable(editingContext)
             .map(IEditingContext::getDomain)
             .filter(EditingDomain.class::isInstance)
             .map(EditingDomain.class::cast)
-            .map(editingDomain -> this.persist(editingDomain, stopWatch));
-        optionalDocuments.ifPresent(documentEntities -> {
-            this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(projectId, documentEntities));
-        });
+            .map(editingDomain -> this.serialize(editingContext, editingDomain, stopWatch))
+            .orElseGet(Map::of);
         // @formatter:on
     }
 
-    private List<DocumentEntity> persist(EditingDomain editingDomain, IStopWatch stopWatch) {
-        stopWatch.start("Persisting the editing context"); //$NON-NLS-1$
-        List<DocumentEntity> result = new ArrayList<>();
-        List<Resource> resources = editingDomain.getResourceSet().getResources();
+    private Map<UUID, String> serialize(IEditingContext editingContext, EditingDomain editingDomain, IStopWatch stopWatch) {
+        stopWatch.start("Serializing the editing context"); //$NON-NLS-1$
+        // @formatter:off
+        Optional<EditingContext> optionalEditingContext = Optional.of(editingContext)
+                .filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast);
+        List<Resource> resources = optionalEditingContext.map(EditingContext::getModifiedResources)
+                .orElseGet(() -> new ArrayList<>(editingDomain.getResourceSet().getResources()));
+        // @formatter:on
+
+        Map<UUID, String> result = new LinkedHashMap<>();
+        List<Resource> serializedResources = new ArrayList<>();
         for (Resource resource : resources) {
-            this.save(resource).ifPresent(result::add);
+            if (this.serialize(resource, result)) {
+                serializedResources.add(resource);
+            }
         }
+        optionalEditingContext.ifPresent(context -> context.clearModifiedResources(serializedResources));
         stopWatch.stop();
+
+        this.logger.debug("{} documents serialized out of {}", result.size(), editingDomain.getResourceSet().getResources().size()); //$NON-NLS-1$
         return result;
     }
 
-    private Optional<DocumentEntity> save(Resource resource) {
-        Optional<DocumentEntity> result = Optional.empty();
+    /**
+     * Serializes the given resource in the given map. The resource is kept as modified by the caller if it cannot be
+     * serialized, in order to try again during the next save.
+     */
+    private boolean serialize(Resource resource, Map<UUID, String> documentContents) {
+        boolean serialized = false;
         HashMap<Object, Object> options = new HashMap<>();
         options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
 
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            UUID id = UUID.fromString(resource.getURI().toString());
             resource.save(outputStream, options);
 
             for (Resource.Diagnostic warning : resource.getWarnings()) {
@@ -95,16 +133,34 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
             }
 
             byte[] bytes = outputStream.toByteArray();
-            String content = new String(bytes);
-
-            UUID id = UUID.fromString(resource.getURI().toString());
-            result = this.documentRepository.findById(id).map(entity -> {
-                entity.setContent(content);
-                return this.documentRepository.save(entity);
-            });
+            documentContents.put(id, new String(bytes));
+            serialized = true;
         } catch (IllegalArgumentException | IOException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
-        return result;
+        return serialized;
+    }
+
+    /**
+     * Writes the given content of the documents in the database and notifies the rest of the application of the
+     * documents which have been saved.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param documentContents
+     *            The content of the documents indexed by the id of the documents
+     */
+    @Override
+    public void write(UUID projectId, Map<UUID, String> documentContents) {
+        List<DocumentEntity> documentEntities = new ArrayList<>();
+        for (Entry<UUID, String> entry : documentContents.entrySet()) {
+            // @formatter:off
+            this.documentRepository.findById(entry.getKey()).map(entity -> {
+                entity.setContent(entry.getValue());
+                return this.documentRepository.save(entity);
+            }).ifPresent(documentEntities::add);
+            // @formatter:on
+        }
+        this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(projectId, documentEntities));
     }
 }
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JSON resource loaded the first time its content is accessed.
+ *
+ * <p>
+ * The content of the resource is read thanks to the URI converter of its resource set, which should contain a
+ * {@link DocumentURIHandler}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LazyJsonResourceImpl extends JsonResourceImpl {
+
+    private final Logger logger = LoggerFactory.getLogger(LazyJsonResourceImpl.class);
+
+    public LazyJsonResourceImpl(URI uri, Map<?, ?> options) {
+        super(uri, options);
+    }
+
+    @Override
+    public EList<EObject> getContents() {
+        this.loadIfNeeded();
+        return super.getContents();
+    }
+
+    @Override
+    public TreeIterator<EObject> getAllContents() {
+        this.loadIfNeeded();
+        return super.getAllContents();
+    }
+
+    @Override
+    public EObject getEObject(String uriFragment) {
+        this.loadIfNeeded();
+        return super.getEObject(uriFragment);
+    }
+
+    private void loadIfNeeded() {
+        if (!this.isLoaded() && !this.isLoading() && this.getResourceSet() != null) {
+            try {
+                this.load(null);
+                this.logger.debug("Document {} loaded on demand", this.getURI()); //$NON-NLS-1$
+            } catch (IOException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.emf.services;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,6 +34,7 @@ import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 import org.springframework.stereotype.Service;
 
 /**
@@ -82,6 +84,8 @@ public class ObjectService implements IObjectService {
         if (object instanceof RepresentationDescriptor) {
             IRepresentation representation = ((RepresentationDescriptor) object).getRepresentation();
             kind = representation.getKind();
+        } else if (object instanceof RepresentationMetadata) {
+            kind = ((RepresentationMetadata) object).getKind();
         } else if (object instanceof Resource) {
             kind = DOCUMENT_KIND;
         } else if (object instanceof EObject) {
@@ -193,9 +197,7 @@ public class ObjectService implements IObjectService {
                             .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
                             .map(resource -> resource.getEObject(eObjectURIFragment));
                 } else {
-                    optionalEObject = resourceSet.getResources().stream()
-                            .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
-                            .findFirst();
+                    optionalEObject = this.getEObject(resourceSet, objectId);
                 }
 
                 // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
@@ -209,6 +211,22 @@ public class ObjectService implements IObjectService {
         // @formatter:on
     }
 
+    /**
+     * Searches the object with the given id in the documents which have already been loaded first. The other documents
+     * are then loaded one after the other until the object is found since the document of an object cannot be deduced
+     * from its id.
+     */
+    private Optional<EObject> getEObject(ResourceSet resourceSet, String objectId) {
+        List<Resource> resources = new ArrayList<>(resourceSet.getResources());
+        resources.sort(Comparator.comparing((Resource resource) -> !resource.isLoaded()));
+
+        // @formatter:off
+        return resources.stream()
+                .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
+                .findFirst();
+        // @formatter:on
+    }
+
     @Override
     public List<Object> getContents(IEditingContext editingContext, String objectId) {
         List<Object> contents = new ArrayList<>();
@@ -30,9 +30,23 @@ public class SiriusWebJSONResourceFactoryImpl extends ResourceFactoryImpl {
 
     @Override
     public JsonResource createResource(URI uri) {
-        Map<String, Object> options = new HashMap<>();
+        return new JsonResourceImpl(uri, this.getOptions());
+    }
 
+    /**
+     * Creates a resource which will only be loaded the first time its content is accessed.
+     *
+     * @param uri
+     *            The URI of the resource
+     * @return The resource created
+     */
+    public JsonResource createLazyResource(URI uri) {
+        return new LazyJsonResourceImpl(uri, this.getOptions());
+    }
+
+    private Map<String, Object> getOptions() {
+        Map<String, Object> options = new HashMap<>();
         options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
-        return new JsonResourceImpl(uri, options);
+        return options;
     }
 }
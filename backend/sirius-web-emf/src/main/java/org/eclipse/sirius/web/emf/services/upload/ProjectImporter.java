@@ -112,6 +112,7 @@ public class ProjectImporter {
 
                 // @formatter:off
                 representationCreated = this.projectEventProcessor.handle(input, this.context)
+                        .blockOptional()
                         .filter(CreateRepresentationSuccessPayload.class::isInstance)
                         .map(CreateRepresentationSuccessPayload.class::cast)
                         .map(CreateRepresentationSuccessPayload::getRepresentation)
@@ -144,6 +145,7 @@ public class ProjectImporter {
 
             // @formatter:off
             Document document = this.projectEventProcessor.handle(input, this.context)
+                    .blockOptional()
                     .filter(UploadDocumentSuccessPayload.class::isInstance)
                     .map(UploadDocumentSuccessPayload.class::cast)
                     .map(UploadDocumentSuccessPayload::getDocument)
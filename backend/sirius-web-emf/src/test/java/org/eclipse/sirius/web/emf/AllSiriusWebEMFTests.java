@@ -18,8 +18,10 @@ import org.eclipse.sirius.web.emf.architecture.ServiceTestCases;
 import org.eclipse.sirius.web.emf.architecture.SpringCodingRulesTestCases;
 import org.eclipse.sirius.web.emf.services.CreateDocumentEventHandlerTestCases;
 import org.eclipse.sirius.web.emf.services.DeleteDocumentEventHandlerTestCases;
+import org.eclipse.sirius.web.emf.services.DocumentWriteBehindQueueTestCases;
 import org.eclipse.sirius.web.emf.services.EditingContextFactoryTestCases;
 import org.eclipse.sirius.web.emf.services.EditingContextPersistenceServiceTestCases;
+import org.eclipse.sirius.web.emf.services.EditingContextTestCases;
 import org.eclipse.sirius.web.emf.services.LabelFeatureProviderRegistryTestCases;
 import org.eclipse.sirius.web.emf.services.LabelFeatureProviderTestCases;
 import org.eclipse.sirius.web.emf.services.ProjectImportServiceTestCases;
@@ -37,7 +39,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ CodingRulesTestCases.class, ConfigurationTestCases.class, ServiceTestCases.class, SpringCodingRulesTestCases.class, CreateDocumentEventHandlerTestCases.class,
         UploadDocumentEventHandlerTestCases.class, DeleteDocumentEventHandlerTestCases.class, RenameDocumentEventHandlerTestCases.class, EditingContextFactoryTestCases.class,
-        EditingContextPersistenceServiceTestCases.class, ProjectImportServiceTestCases.class, LabelFeatureProviderRegistryTestCases.class, LabelFeatureProviderTestCases.class })
+        EditingContextTestCases.class, EditingContextPersistenceServiceTestCases.class, ProjectImportServiceTestCases.class, LabelFeatureProviderRegistryTestCases.class, LabelFeatureProviderTestCases.class,
+        DocumentWriteBehindQueueTestCases.class })
 public final class AllSiriusWebEMFTests {
     private AllSiriusWebEMFTests() {
         // Prevent instantiation
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
+import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests of the document write-behind queue.
+ *
+ * @author sbegaudeau
+ */
+public class DocumentWriteBehindQueueTestCases {
+
+    private static final String FIRST_CONTENT = "first"; //$NON-NLS-1$
+
+    private static final String SECOND_CONTENT = "second"; //$NON-NLS-1$
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    @Test
+    public void testCoalescedWrites() {
+        UUID projectId = UUID.randomUUID();
+        UUID firstDocumentId = UUID.randomUUID();
+        UUID secondDocumentId = UUID.randomUUID();
+
+        List<DocumentEntity> savedEntities = new ArrayList<>();
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> S save(S entity) {
+                savedEntities.add(entity);
+                return entity;
+            }
+
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                DocumentEntity documentEntity = new DocumentEntity();
+                documentEntity.setId(id);
+                return Optional.of(documentEntity);
+            }
+        };
+        var editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher());
+        var documentWriteBehindQueue = new DocumentWriteBehindQueue(editingContextPersistenceService, Duration.ofHours(1), MAX_WRITE_ATTEMPTS);
+
+        documentWriteBehindQueue.enqueue(projectId, Map.of(firstDocumentId, FIRST_CONTENT));
+        documentWriteBehindQueue.enqueue(projectId, Map.of(firstDocumentId, SECOND_CONTENT, secondDocumentId, FIRST_CONTENT));
+        assertThat(savedEntities).isEmpty();
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(2);
+        assertThat(documentWriteBehindQueue.getCoalescedDocumentCount()).isEqualTo(1);
+
+        documentWriteBehindQueue.flush();
+        assertThat(savedEntities).hasSize(2);
+        assertThat(savedEntities.get(0).getId()).isEqualTo(firstDocumentId);
+        assertThat(savedEntities.get(0).getContent()).isEqualTo(SECOND_CONTENT);
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(0);
+        assertThat(documentWriteBehindQueue.getWrittenDocumentCount()).isEqualTo(2);
+        assertThat(documentWriteBehindQueue.getFlushCount()).isEqualTo(1);
+
+        documentWriteBehindQueue.enqueue(projectId, Map.of(secondDocumentId, SECOND_CONTENT));
+        documentWriteBehindQueue.dispose();
+        assertThat(savedEntities).hasSize(3);
+        assertThat(savedEntities.get(2).getContent()).isEqualTo(SECOND_CONTENT);
+    }
+
+    @Test
+    public void testDocumentsRequeuedWhenWriteFails() {
+        UUID failingProjectId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        IllegalStateException failure = new IllegalStateException();
+        List<UUID> writtenProjectIds = new ArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = new IEditingContextPersistenceService() {
+            @Override
+            public void persist(UUID persistedProjectId, IEditingContext editingContext, IStopWatch stopWatch) {
+                // Do nothing
+            }
+
+            @Override
+            public Map<UUID, String> serialize(IEditingContext editingContext, IStopWatch stopWatch) {
+                return Map.of();
+            }
+
+            @Override
+            public void write(UUID writtenProjectId, Map<UUID, String> documentContents) {
+                if (isFailing.get() && writtenProjectId.equals(failingProjectId)) {
+                    throw failure;
+                }
+                writtenProjectIds.add(writtenProjectId);
+            }
+        };
+        var documentWriteBehindQueue = new DocumentWriteBehindQueue(editingContextPersistenceService, Duration.ofHours(1), MAX_WRITE_ATTEMPTS);
+
+        documentWriteBehindQueue.enqueue(failingProjectId, Map.of(UUID.randomUUID(), FIRST_CONTENT));
+        documentWriteBehindQueue.enqueue(projectId, Map.of(UUID.randomUUID(), FIRST_CONTENT));
+        assertThatThrownBy(documentWriteBehindQueue::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(writtenProjectIds).isEmpty();
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(2);
+
+        isFailing.set(false);
+        documentWriteBehindQueue.dispose();
+        assertThat(writtenProjectIds).containsExactlyInAnyOrder(failingProjectId, projectId);
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testDocumentsDroppedAfterTooManyFailedWrites() {
+        UUID projectId = UUID.randomUUID();
+        UUID failingDocumentId = UUID.randomUUID();
+        UUID documentId = UUID.randomUUID();
+
+        DataAccessException failure = new DataAccessResourceFailureException(FIRST_CONTENT);
+        List<Map<UUID, String>> writtenDocumentContents = new ArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = new IEditingContextPersistenceService() {
+            @Override
+            public void persist(UUID persistedProjectId, IEditingContext editingContext, IStopWatch stopWatch) {
+                // Do nothing
+            }
+
+            @Override
+            public Map<UUID, String> serialize(IEditingContext editingContext, IStopWatch stopWatch) {
+                return Map.of();
+            }
+
+            @Override
+            public void write(UUID writtenProjectId, Map<UUID, String> documentContents) {
+                if (documentContents.containsKey(failingDocumentId)) {
+                    throw failure;
+                }
+                writtenDocumentContents.add(documentContents);
+            }
+        };
+        var documentWriteBehindQueue = new DocumentWriteBehindQueue(editingContextPersistenceService, Duration.ofHours(1), MAX_WRITE_ATTEMPTS);
+
+        documentWriteBehindQueue.enqueue(projectId, Map.of(failingDocumentId, FIRST_CONTENT));
+        for (int i = 0; i < MAX_WRITE_ATTEMPTS - 1; i++) {
+            documentWriteBehindQueue.flush();
+        }
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(1);
+        assertThat(documentWriteBehindQueue.getDroppedDocumentCount()).isEqualTo(0);
+
+        // A new content of the document is written with new attempts
+        documentWriteBehindQueue.enqueue(projectId, Map.of(failingDocumentId, SECOND_CONTENT));
+        for (int i = 0; i < MAX_WRITE_ATTEMPTS - 1; i++) {
+            documentWriteBehindQueue.flush();
+        }
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(1);
+        assertThat(documentWriteBehindQueue.getDroppedDocumentCount()).isEqualTo(0);
+
+        documentWriteBehindQueue.flush();
+        assertThat(documentWriteBehindQueue.getPendingDocumentCount()).isEqualTo(0);
+        assertThat(documentWriteBehindQueue.getDroppedDocumentCount()).isEqualTo(1);
+
+        documentWriteBehindQueue.enqueue(projectId, Map.of(documentId, FIRST_CONTENT));
+        documentWriteBehindQueue.dispose();
+        assertThat(writtenDocumentContents).containsExactly(Map.of(documentId, FIRST_CONTENT));
+        assertThat(documentWriteBehindQueue.getDroppedDocumentCount()).isEqualTo(1);
+    }
+}
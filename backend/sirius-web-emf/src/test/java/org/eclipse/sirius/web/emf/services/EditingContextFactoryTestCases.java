@@ -14,20 +14,28 @@ package org.eclipse.sirius.web.emf.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
+import org.eclipse.sirius.web.persistence.projections.IDocumentMetadata;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextFactory;
+import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.junit.Test;
 
 /**
@@ -74,7 +82,7 @@ public class EditingContextFactoryTestCases {
 
         UUID projectId = UUID.randomUUID();
 
-        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry);
+        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, false);
         IEditingContext editingContext = editingContextFactory.createEditingContext(projectId);
 
         assertThat(editingContext.getDomain()).isInstanceOf(EditingDomain.class);
@@ -112,7 +120,7 @@ public class EditingContextFactoryTestCases {
         ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory();
         EPackage.Registry ePackageRegistry = new EPackageRegistryImpl();
 
-        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry);
+        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, false);
         IEditingContext editingContext = editingContextFactory.createEditingContext(projectId);
 
         assertThat(editingContext.getDomain()).isInstanceOf(EditingDomain.class);
@@ -126,11 +134,97 @@ public class EditingContextFactoryTestCases {
         this.assertProperResourceLoading(secondResource, secondDocumentEntity);
     }
 
+    @Test
+    public void testLazyEditingContext() {
+        UUID projectId = UUID.randomUUID();
+
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setId(projectId);
+        projectEntity.setName(""); //$NON-NLS-1$
+
+        DocumentEntity firstDocumentEntity = new DocumentEntity();
+        firstDocumentEntity.setId(UUID.randomUUID());
+        firstDocumentEntity.setName("First Document"); //$NON-NLS-1$
+        firstDocumentEntity.setProject(projectEntity);
+        firstDocumentEntity.setContent(CONTENT);
+
+        DocumentEntity secondDocumentEntity = new DocumentEntity();
+        secondDocumentEntity.setId(UUID.randomUUID());
+        secondDocumentEntity.setName("Second Document"); //$NON-NLS-1$
+        secondDocumentEntity.setProject(projectEntity);
+        secondDocumentEntity.setContent(CONTENT);
+
+        List<UUID> loadedDocumentIds = new ArrayList<>();
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public List<IDocumentMetadata> findAllMetadataByProjectId(UUID projectId) {
+                return List.of(this.toMetadata(firstDocumentEntity), this.toMetadata(secondDocumentEntity));
+            }
+
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                loadedDocumentIds.add(id);
+                return Stream.of(firstDocumentEntity, secondDocumentEntity).filter(documentEntity -> documentEntity.getId().equals(id)).findFirst();
+            }
+
+            private IDocumentMetadata toMetadata(DocumentEntity documentEntity) {
+                return new IDocumentMetadata() {
+                    @Override
+                    public UUID getId() {
+                        return documentEntity.getId();
+                    }
+
+                    @Override
+                    public String getName() {
+                        return documentEntity.getName();
+                    }
+                };
+            }
+        };
+
+        EPackage.Registry ePackageRegistry = new EPackageRegistryImpl();
+        ePackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+
+        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, new ComposedAdapterFactory(), ePackageRegistry, true);
+        IEditingContext editingContext = editingContextFactory.createEditingContext(projectId);
+        EditingDomain editingDomain = (EditingDomain) editingContext.getDomain();
+
+        assertThat(editingDomain.getResourceSet().getResources()).hasSize(2);
+        assertThat(loadedDocumentIds).isEmpty();
+
+        Resource secondResource = editingDomain.getResourceSet().getResources().get(1);
+        this.assertProperResourceLoading(secondResource, secondDocumentEntity);
+        assertThat(secondResource.isLoaded()).isFalse();
+
+        assertThat(secondResource.getContents()).hasSize(1);
+        assertThat(loadedDocumentIds).containsExactly(secondDocumentEntity.getId());
+        assertThat(editingDomain.getResourceSet().getResources().get(0).isLoaded()).isFalse();
+
+        IObjectService objectService = new ObjectService(new ComposedAdapterFactory(), new LabelFeatureProviderRegistry());
+        EObject eClass = secondResource.getContents().get(0).eContents().get(0);
+        assertThat(objectService.getObject(editingContext, objectService.getId(eClass))).contains(eClass);
+        assertThat(loadedDocumentIds).containsExactly(secondDocumentEntity.getId());
+
+        assertThat(editingContext).isInstanceOf(EditingContext.class);
+        EditingContext lazyEditingContext = (EditingContext) editingContext;
+        assertThat(lazyEditingContext.hasChanges()).isFalse();
+        assertThat(lazyEditingContext.getModifiedResources()).isEmpty();
+
+        EPackage ePackage = (EPackage) secondResource.getContents().get(0);
+        ePackage.setName("newName"); //$NON-NLS-1$
+        assertThat(lazyEditingContext.hasChanges()).isTrue();
+        assertThat(lazyEditingContext.getModifiedResources()).containsExactly(secondResource);
+    }
+
     private void assertProperResourceLoading(Resource resource, DocumentEntity documentEntity) {
         assertThat(resource).isNotNull();
-        assertThat(resource.eAdapters()).hasSize(1);
-        assertThat(resource.eAdapters().get(0)).isInstanceOf(DocumentMetadataAdapter.class);
-        DocumentMetadataAdapter firstAdapter = (DocumentMetadataAdapter) resource.eAdapters().get(0);
-        assertThat(firstAdapter.getName()).isEqualTo(documentEntity.getName());
+        // @formatter:off
+        List<DocumentMetadataAdapter> documentMetadataAdapters = resource.eAdapters().stream()
+                .filter(DocumentMetadataAdapter.class::isInstance)
+                .map(DocumentMetadataAdapter.class::cast)
+                .collect(Collectors.toList());
+        // @formatter:on
+        assertThat(documentMetadataAdapters).hasSize(1);
+        assertThat(documentMetadataAdapters.get(0).getName()).isEqualTo(documentEntity.getName());
     }
 }
@@ -30,6 +30,7 @@ import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.stopwatch.NoOpStopWatch;
 import org.junit.Test;
 
 /**
@@ -118,4 +119,63 @@ public class EditingContextPersistenceServiceTestCases {
         assertThat(documentEntity.getName()).isEqualTo(name);
         assertThat(documentEntity.getProject().getId()).isEqualTo(projectId);
     }
+
+    @Test
+    public void testModifiedDocumentsOnlyPersistence() {
+        UUID projectId = UUID.randomUUID();
+
+        EditingDomain editingDomain = new EditingDomainFactory().create();
+        List<EClass> eClasses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(UUID.randomUUID().toString()));
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Concept"); //$NON-NLS-1$
+            resource.getContents().add(eClass);
+            editingDomain.getResourceSet().getResources().add(resource);
+            eClasses.add(eClass);
+        }
+
+        List<UUID> savedDocumentIds = new ArrayList<>();
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> S save(S entity) {
+                savedDocumentIds.add(entity.getId());
+                return entity;
+            }
+
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                DocumentEntity documentEntity = new DocumentEntity();
+                documentEntity.setId(id);
+                return Optional.of(documentEntity);
+            }
+        };
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher());
+
+        EditingContext editingContext = new EditingContext(projectId, editingDomain);
+        editingContextPersistenceService.persist(projectId, editingContext, new NoOpStopWatch());
+        assertThat(savedDocumentIds).isEmpty();
+
+        eClasses.get(1).setName("NewConcept"); //$NON-NLS-1$
+        editingContextPersistenceService.persist(projectId, editingContext, new NoOpStopWatch());
+        assertThat(savedDocumentIds).containsExactly(UUID.fromString(eClasses.get(1).eResource().getURI().toString()));
+
+        editingContextPersistenceService.persist(projectId, editingContext, new NoOpStopWatch());
+        assertThat(savedDocumentIds).hasSize(1);
+    }
+
+    @Test
+    public void testDocumentNotSerializedStaysModified() {
+        UUID projectId = UUID.randomUUID();
+        EditingDomain editingDomain = new EditingDomainFactory().create();
+        EditingContext editingContext = new EditingContext(projectId, editingDomain);
+
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI("notADocumentId")); //$NON-NLS-1$
+        editingDomain.getResourceSet().getResources().add(resource);
+        assertThat(editingContext.getModifiedResources()).containsExactly(resource);
+
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(new NoOpDocumentRepository(), new NoOpApplicationEventPublisher());
+        editingContextPersistenceService.persist(projectId, editingContext, new NoOpStopWatch());
+        assertThat(editingContext.getModifiedResources()).containsExactly(resource);
+    }
 }
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.junit.Test;
+
+/**
+ * Unit tests of the editing context.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextTestCases {
+
+    @Test
+    public void testModifiedObjectsRecorded() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(ePackage);
+
+        EditingDomain editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        editingDomain.getResourceSet().getResources().add(resource);
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+        assertThat(editingContext.hasChanges()).isFalse();
+
+        eClass.setName("newName"); //$NON-NLS-1$
+        assertThat(editingContext.getModifiedObjects()).containsOnlyKeys(eClass);
+        assertThat(editingContext.getModifiedObjects().get(eClass)).containsExactlyInAnyOrder(eClass, ePackage);
+        assertThat(editingContext.getImpactedObjects()).containsExactlyInAnyOrder(eClass, ePackage);
+
+        resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+        assertThat(editingContext.getModifiedObjects()).containsOnlyKeys(eClass, resource);
+        assertThat(editingContext.getModifiedObjects().get(resource)).containsExactly(resource);
+
+        editingContext.clearChanges();
+        assertThat(editingContext.hasChanges()).isFalse();
+        assertThat(editingContext.getModifiedObjects()).isEmpty();
+        assertThat(editingContext.getGeneration()).isEqualTo(1);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.projections.IDocumentMetadata;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -97,6 +98,11 @@ public class NoOpDocumentRepository implements IDocumentRepository {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<IDocumentMetadata> findAllMetadataByProjectId(UUID projectId) {
+        return new ArrayList<>();
+    }
+
     @Override
     public Optional<DocumentEntity> findByProjectIdAndId(UUID projectId, UUID documentId) {
         return Optional.empty();
@@ -26,6 +26,7 @@ import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Implementation of the project event processor which does nothing.
@@ -55,8 +56,8 @@ public class NoOpProjectEventProcessor implements IProjectEventProcessor {
     }
 
     @Override
-    public Optional<IPayload> handle(IInput input, Context context) {
-        return Optional.empty();
+    public Mono<IPayload> handle(IInput input, Context context) {
+        return Mono.empty();
     }
 
     @Override
@@ -23,6 +23,8 @@ import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Implementation of the project event processor registry which does nothing.
  *
@@ -40,6 +42,11 @@ public class NoOpProjectEventProcessorRegistry implements IProjectEventProcessor
         return Optional.empty();
     }
 
+    @Override
+    public Mono<IPayload> dispatchEventAsync(UUID projectId, IInput input, Context context) {
+        return Mono.empty();
+    }
+
     @Override
     public Optional<IProjectEventProcessor> getOrCreateProjectEventProcessor(UUID projectId) {
         return Optional.empty();
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 
 /**
  * Implementation of the representation service which does nothing.
@@ -42,6 +43,11 @@ public class NoOpRepresentationService implements IRepresentationService {
         return Collections.emptyList();
     }
 
+    @Override
+    public List<RepresentationMetadata> getRepresentationMetadataForObjectId(String objectId) {
+        return Collections.emptyList();
+    }
+
     @Override
     public boolean hasRepresentations(String objectId) {
         return false;
@@ -58,6 +58,8 @@ import org.eclipse.sirius.web.spring.graphql.api.UploadFile;
 import org.junit.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Unit tests of the project import service.
  *
@@ -124,8 +126,8 @@ public class ProjectImportServiceTestCases {
 
         IProjectEventProcessor projectEventProcessor = new NoOpProjectEventProcessor() {
             @Override
-            public Optional<IPayload> handle(IInput input, Context context) {
-                return Optional.of(new ErrorPayload("Test import failure")); //$NON-NLS-1$
+            public Mono<IPayload> handle(IInput input, Context context) {
+                return Mono.just(new ErrorPayload("Test import failure")); //$NON-NLS-1$
             }
         };
 
@@ -196,14 +198,14 @@ public class ProjectImportServiceTestCases {
 
         IProjectEventProcessor projectEventProcessor = new NoOpProjectEventProcessor() {
             @Override
-            public Optional<IPayload> handle(IInput input, Context context) {
+            public Mono<IPayload> handle(IInput input, Context context) {
                 Optional<IPayload> optional = Optional.empty();
                 if (input instanceof UploadDocumentInput) {
                     optional = Optional.of(new UploadDocumentSuccessPayload(ProjectImportServiceTestCases.this.document));
                 } else if (input instanceof CreateRepresentationInput) {
                     optional = Optional.of(new ErrorPayload("An error has occured")); //$NON-NLS-1$
                 }
-                return optional;
+                return Mono.justOrEmpty(optional);
             }
         };
 
@@ -285,14 +287,14 @@ public class ProjectImportServiceTestCases {
 
         IProjectEventProcessor projectEventProcessor = new NoOpProjectEventProcessor() {
             @Override
-            public Optional<IPayload> handle(IInput input, Context context) {
+            public Mono<IPayload> handle(IInput input, Context context) {
                 Optional<IPayload> optional = Optional.empty();
                 if (input instanceof UploadDocumentInput) {
                     optional = Optional.of(new UploadDocumentSuccessPayload(documentForPayload));
                 } else if (input instanceof CreateRepresentationInput) {
                     optional = Optional.of(new CreateRepresentationSuccessPayload(diagramForPayload));
                 }
-                return optional;
+                return Mono.justOrEmpty(optional);
             }
         };
 
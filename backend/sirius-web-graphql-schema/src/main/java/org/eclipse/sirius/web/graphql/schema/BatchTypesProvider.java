@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.schema;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditCheckboxSuccessPayload;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditRadioSuccessPayload;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditSelectSuccessPayload;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditTextfieldSuccessPayload;
+import org.eclipse.sirius.web.graphql.utils.schema.ITypeProvider;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.services.api.objects.CreateChildSuccessPayload;
+import org.eclipse.sirius.web.services.api.objects.DeleteObjectSuccessPayload;
+import org.eclipse.sirius.web.services.api.objects.RenameObjectSuccessPayload;
+import org.springframework.stereotype.Service;
+
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeReference;
+import graphql.schema.GraphQLUnionType;
+
+/**
+ * This class is used to create the definition of the types used by the batch mutation.
+ * <p>
+ * The types created will match the following GraphQL textual definition:
+ * </p>
+ *
+ * <pre>
+ * union IPayload = EditTextfieldSuccessPayload | EditCheckboxSuccessPayload | EditSelectSuccessPayload | EditRadioSuccessPayload | CreateChildSuccessPayload | RenameObjectSuccessPayload | DeleteObjectSuccessPayload | ErrorPayload
+ * </pre>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class BatchTypesProvider implements ITypeProvider {
+
+    @Override
+    public Set<GraphQLType> getTypes() {
+        Set<GraphQLType> types = new LinkedHashSet<>();
+        types.add(this.getPayloadUnionType());
+        return types;
+    }
+
+    private GraphQLUnionType getPayloadUnionType() {
+        // @formatter:off
+        return GraphQLUnionType.newUnionType()
+                .name(IPayload.class.getSimpleName())
+                .possibleType(new GraphQLTypeReference(EditTextfieldSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(EditCheckboxSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(EditSelectSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(EditRadioSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(CreateChildSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(RenameObjectSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(DeleteObjectSuccessPayload.class.getSimpleName()))
+                .possibleType(new GraphQLTypeReference(ErrorPayload.class.getSimpleName()))
+                .build();
+        // @formatter:on
+    }
+}
@@ -110,7 +110,8 @@ public class MutationTypeProvider implements IMutationTypeProvider {
         // @formatter:off
         var graphQLInputObjectTypes = this.mutationDataFetcherClass.stream()
                 .map(dataFetcherClass -> dataFetcherClass.getAnnotation(GraphQLMutationTypes.class))
-                .map(GraphQLMutationTypes::input)
+                .flatMap(graphQLMutationTypes -> Stream.concat(Stream.of(graphQLMutationTypes.input()), Stream.of(graphQLMutationTypes.additionalInputs())))
+                .distinct()
                 .map(this.graphQLInputObjectTypeProvider::getType)
                 .collect(Collectors.toUnmodifiableList());
 
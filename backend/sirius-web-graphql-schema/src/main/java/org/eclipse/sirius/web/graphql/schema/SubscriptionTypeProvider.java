@@ -26,6 +26,8 @@ import org.eclipse.sirius.web.collaborative.api.dto.ProjectEventInput;
 import org.eclipse.sirius.web.collaborative.api.dto.RepresentationRenamedEventPayload;
 import org.eclipse.sirius.web.collaborative.api.dto.Subscriber;
 import org.eclipse.sirius.web.collaborative.api.dto.SubscribersUpdatedEventPayload;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.AddedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramDeltaEventPayload;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramEventInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.FormEventInput;
@@ -137,6 +139,8 @@ public class SubscriptionTypeProvider implements ISubscriptionTypeProvider {
                 Subscriber.class,
                 SubscribersUpdatedEventPayload.class,
                 DiagramRefreshedEventPayload.class,
+                DiagramDeltaEventPayload.class,
+                AddedNode.class,
                 FormRefreshedEventPayload.class,
                 TreeRefreshedEventPayload.class,
                 RepresentationRenamedEventPayload.class,
@@ -175,6 +179,7 @@ public class SubscriptionTypeProvider implements ISubscriptionTypeProvider {
         // @formatter:off
         return GraphQLUnionType.newUnionType().name(DIAGRAM_EVENT_PAYLOAD_UNION_TYPE).possibleTypes(
                 new GraphQLTypeReference(DiagramRefreshedEventPayload.class.getSimpleName()),
+                new GraphQLTypeReference(DiagramDeltaEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(SubscribersUpdatedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(PreDestroyPayload.class.getSimpleName())
             ).build();
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -27,6 +28,7 @@ import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
 
 /**
  * The data fetcher used to create an object.
@@ -51,7 +53,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationCreateRepresentationDataFetcher.CREATE_REPRESENTATION_FIELD)
 // @formatter:on
-public class MutationCreateRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationCreateRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String CREATE_REPRESENTATION_FIELD = "createRepresentation"; //$NON-NLS-1$
 
@@ -69,20 +71,20 @@ public class MutationCreateRepresentationDataFetcher implements IDataFetcherWith
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         var input = this.dataFetchingEnvironmentService.getInput(environment, CreateRepresentationInput.class);
         var context = this.dataFetchingEnvironmentService.getContext(environment);
 
-        IPayload payload = new ErrorPayload(this.messageService.unauthorized());
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
         boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, input.getProjectId());
         if (canEdit) {
             // @formatter:off
-            payload = this.projectEventProcessorRegistry.dispatchEvent(input.getProjectId(), input, context)
-                    .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+            payload = this.projectEventProcessorRegistry.dispatchEventAsync(input.getProjectId(), input, context)
+                    .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
             // @formatter:on
         }
 
-        return payload;
+        return payload.toFuture();
     }
 
 }
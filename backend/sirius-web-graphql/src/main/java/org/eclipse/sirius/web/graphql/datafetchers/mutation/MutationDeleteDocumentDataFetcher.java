@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -29,6 +30,7 @@ import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
 
 /**
  * The data fetcher used to delete a {@link IDocument}.
@@ -53,7 +55,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationDeleteDocumentDataFetcher.DELETE_DOCUMENT_FIELD)
 // @formatter:on
-public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String DELETE_DOCUMENT_FIELD = "deleteDocument"; //$NON-NLS-1$
 
@@ -74,11 +76,11 @@ public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldC
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         var input = this.dataFetchingEnvironmentService.getInput(environment, DeleteDocumentInput.class);
         var context = this.dataFetchingEnvironmentService.getContext(environment);
 
-        IPayload payload = new ErrorPayload(this.messageService.unexpectedError());
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unexpectedError()));
 
         var optionalDocument = this.documentService.getDocument(input.getDocumentId());
         if (optionalDocument.isPresent()) {
@@ -87,15 +89,15 @@ public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldC
             boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, document.getProject().getId());
             if (canEdit) {
                 // @formatter:off
-                payload = this.projectEventProcessorRegistry.dispatchEvent(document.getProject().getId(), input, context)
-                        .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+                payload = this.projectEventProcessorRegistry.dispatchEventAsync(document.getProject().getId(), input, context)
+                        .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
                 // @formatter:on
             } else {
-                payload = new ErrorPayload(this.messageService.unauthorized());
+                payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
             }
         }
 
-        return payload;
+        return payload.toFuture();
     }
 
 }
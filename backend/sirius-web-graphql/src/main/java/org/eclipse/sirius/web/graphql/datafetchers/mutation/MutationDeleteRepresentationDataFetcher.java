@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -29,6 +30,7 @@ import org.eclipse.sirius.web.services.api.representations.RepresentationDescrip
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
 
 /**
  * The data fetcher used to delete a diagram.
@@ -54,7 +56,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationDeleteRepresentationDataFetcher.DELETE_REPRESENTATION_FIELD)
 // @formatter:on
-public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String DELETE_REPRESENTATION_FIELD = "deleteRepresentation"; //$NON-NLS-1$
 
@@ -75,11 +77,11 @@ public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWith
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         var input = this.dataFetchingEnvironmentService.getInput(environment, DeleteRepresentationInput.class);
         var context = this.dataFetchingEnvironmentService.getContext(environment);
 
-        IPayload payload = new ErrorPayload(this.messageService.unexpectedError());
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unexpectedError()));
 
         var optionalRepresentation = this.representationService.getRepresentation(input.getRepresentationId());
         if (optionalRepresentation.isPresent()) {
@@ -88,14 +90,14 @@ public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWith
             boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, representation.getProjectId());
             if (canEdit) {
                 // @formatter:off
-                payload = this.projectEventProcessorRegistry.dispatchEvent(representation.getProjectId(), input, context)
-                        .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+                payload = this.projectEventProcessorRegistry.dispatchEventAsync(representation.getProjectId(), input, context)
+                        .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
                 // @formatter:on
             } else {
-                payload = new ErrorPayload(this.messageService.unauthorized());
+                payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
             }
         }
 
-        return payload;
+        return payload.toFuture();
     }
 }
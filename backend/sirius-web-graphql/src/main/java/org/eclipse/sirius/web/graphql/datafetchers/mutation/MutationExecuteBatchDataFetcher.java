@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
+import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.dto.BatchInput;
+import org.eclipse.sirius.web.collaborative.api.dto.BatchSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.dto.BatchOperationInput;
+import org.eclipse.sirius.web.graphql.dto.ExecuteBatchInput;
+import org.eclipse.sirius.web.graphql.messages.IGraphQLMessageService;
+import org.eclipse.sirius.web.graphql.schema.MutationTypeProvider;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IInput;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
+
+/**
+ * The data fetcher used to execute several operations on a project at once.
+ * <p>
+ * It will be used to handle the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Mutation {
+ *   executeBatch(input: ExecuteBatchInput!): ExecuteBatchPayload!
+ * }
+ * </pre>
+ *
+ * @author sbegaudeau
+ */
+// @formatter:off
+@GraphQLMutationTypes(
+    input = ExecuteBatchInput.class,
+    payloads = {
+        BatchSuccessPayload.class
+    },
+    additionalInputs = {
+        BatchOperationInput.class
+    }
+)
+@MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationExecuteBatchDataFetcher.EXECUTE_BATCH_FIELD)
+// @formatter:on
+public class MutationExecuteBatchDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
+
+    public static final String EXECUTE_BATCH_FIELD = "executeBatch"; //$NON-NLS-1$
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final IGraphQLMessageService messageService;
+
+    public MutationExecuteBatchDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry,
+            IGraphQLMessageService messageService) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+        this.messageService = Objects.requireNonNull(messageService);
+    }
+
+    @Override
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
+        var input = this.dataFetchingEnvironmentService.getInput(environment, ExecuteBatchInput.class);
+        var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
+
+        boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, input.getProjectId());
+        if (canEdit) {
+            Optional<BatchInput> optionalBatchInput = this.getBatchInput(input);
+            if (optionalBatchInput.isPresent()) {
+                // @formatter:off
+                payload = this.projectEventProcessorRegistry.dispatchEventAsync(input.getProjectId(), optionalBatchInput.get(), context)
+                        .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
+                // @formatter:on
+            } else {
+                payload = Mono.just(new ErrorPayload(this.messageService.invalidBatchOperation()));
+            }
+        }
+
+        return payload.toFuture();
+    }
+
+    /**
+     * Converts the operations of the GraphQL input to the inputs of the batch. All the operations must target the
+     * project of the batch since the authorization has only been checked for this project.
+     *
+     * @param input
+     *            The GraphQL input
+     * @return The batch input or an empty optional if one of the operations is invalid
+     */
+    private Optional<BatchInput> getBatchInput(ExecuteBatchInput input) {
+        UUID projectId = input.getProjectId();
+
+        boolean isValid = true;
+        List<IInput> inputs = new ArrayList<>();
+        for (BatchOperationInput operation : input.getOperations()) {
+            List<IInput> operationInputs = this.getInputs(projectId, operation);
+            isValid = isValid && operationInputs.size() == 1 && this.getInputCount(operation) == 1;
+            inputs.addAll(operationInputs);
+        }
+
+        Optional<BatchInput> optionalBatchInput = Optional.empty();
+        if (isValid) {
+            optionalBatchInput = Optional.of(new BatchInput(projectId, inputs));
+        }
+        return optionalBatchInput;
+    }
+
+    private long getInputCount(BatchOperationInput operation) {
+        // @formatter:off
+        return Stream.<IInput>of(
+                    operation.getEditTextfield(),
+                    operation.getEditCheckbox(),
+                    operation.getEditSelect(),
+                    operation.getEditRadio(),
+                    operation.getCreateChild(),
+                    operation.getRenameObject(),
+                    operation.getDeleteObject()
+                )
+                .filter(Objects::nonNull)
+                .count();
+        // @formatter:on
+    }
+
+    private List<IInput> getInputs(UUID projectId, BatchOperationInput operation) {
+        List<IInput> inputs = new ArrayList<>();
+        Optional.ofNullable(operation.getEditTextfield()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getEditCheckbox()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getEditSelect()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getEditRadio()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getCreateChild()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getRenameObject()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        Optional.ofNullable(operation.getDeleteObject()).filter(input -> projectId.equals(input.getProjectId())).ifPresent(inputs::add);
+        return inputs;
+    }
+}
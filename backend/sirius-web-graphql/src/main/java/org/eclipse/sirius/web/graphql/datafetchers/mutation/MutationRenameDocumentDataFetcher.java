@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -30,6 +31,7 @@ import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
 
 /**
  * The data fetcher used to rename a {@link Document}.
@@ -54,7 +56,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationRenameDocumentDataFetcher.RENAME_DOCUMENT_FIELD)
 // @formatter:on
-public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String RENAME_DOCUMENT_FIELD = "renameDocument"; //$NON-NLS-1$
 
@@ -75,11 +77,11 @@ public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldC
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         var input = this.dataFetchingEnvironmentService.getInput(environment, RenameDocumentInput.class);
         var context = this.dataFetchingEnvironmentService.getContext(environment);
 
-        IPayload payload = new ErrorPayload(this.messageService.unauthorized());
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
 
         Optional<Document> optionalDocument = this.documentService.getDocument(input.getDocumentId());
         if (optionalDocument.isPresent()) {
@@ -88,15 +90,15 @@ public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldC
             boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, document.getProject().getId());
             if (canEdit) {
                 // @formatter:off
-                payload = this.projectEventProcessorRegistry.dispatchEvent(document.getProject().getId(), input, context)
-                        .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+                payload = this.projectEventProcessorRegistry.dispatchEventAsync(document.getProject().getId(), input, context)
+                        .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
                 // @formatter:on
             } else {
-                payload = new ErrorPayload(this.messageService.unexpectedError());
+                payload = Mono.just(new ErrorPayload(this.messageService.unexpectedError()));
             }
 
         }
-        return payload;
+        return payload.toFuture();
     }
 
 }
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -31,6 +32,7 @@ import org.eclipse.sirius.web.services.api.representations.RepresentationDescrip
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
 
 /**
  * The data fetcher used to rename a representation.
@@ -55,7 +57,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationRenameRepresentationDataFetcher.RENAME_REPRESENTATION_FIELD)
 // @formatter:on
-public class MutationRenameRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationRenameRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String RENAME_REPRESENTATION_FIELD = "renameRepresentation"; //$NON-NLS-1$
 
@@ -76,17 +78,17 @@ public class MutationRenameRepresentationDataFetcher implements IDataFetcherWith
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         var input = this.dataFetchingEnvironmentService.getInput(environment, RenameRepresentationInput.class);
         var context = this.dataFetchingEnvironmentService.getContext(environment);
 
-        IPayload payload = new ErrorPayload(this.messageService.unexpectedError());
+        Mono<IPayload> payload = Mono.just(new ErrorPayload(this.messageService.unexpectedError()));
 
         UUID projectId = input.getProjectId();
         if (projectId != null) {
             boolean canEditProject = this.dataFetchingEnvironmentService.canEdit(environment, projectId);
             if (!canEditProject) {
-                payload = new ErrorPayload(this.messageService.unauthorized());
+                payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
             } else {
                 Optional<RepresentationDescriptor> optionalRepresentationDescriptor = this.representationService.getRepresentation(input.getRepresentationId());
                 if (optionalRepresentationDescriptor.isPresent()) {
@@ -95,17 +97,17 @@ public class MutationRenameRepresentationDataFetcher implements IDataFetcherWith
                     boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, representationDescriptor.getProjectId());
                     if (canEdit) {
                         // @formatter:off
-                        payload = this.projectEventProcessorRegistry.dispatchEvent(representationDescriptor.getProjectId(), input, context)
-                                .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+                        payload = this.projectEventProcessorRegistry.dispatchEventAsync(representationDescriptor.getProjectId(), input, context)
+                                .defaultIfEmpty(new ErrorPayload(this.messageService.unexpectedError()));
                         // @formatter:on
                     } else {
-                        payload = new ErrorPayload(this.messageService.unauthorized());
+                        payload = Mono.just(new ErrorPayload(this.messageService.unauthorized()));
                     }
 
                 }
             }
         }
-        return payload;
+        return payload.toFuture();
     }
 
 }
@@ -17,7 +17,6 @@ import java.util.Objects;
 
 import org.eclipse.sirius.web.annotations.spring.graphql.SubscriptionDataFetcher;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
-import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramConfiguration;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventProcessor;
@@ -34,6 +33,10 @@ import reactor.core.publisher.Flux;
 /**
  * The data fetcher used to send the refreshed diagram to a subscription.
  * <p>
+ * If the subscriber supports them, the diagram is only sent as a whole in the first event and the following refreshes
+ * are sent as deltas. Subscribing once again can be used to request a full resynchronization.
+ * </p>
+ * <p>
  * It will be used to fetch the data for the following GraphQL field:
  * </p>
  *
@@ -71,7 +74,7 @@ public class SubscriptionDiagramEventDataFetcher implements IDataFetcherWithFiel
         // @formatter:off
         return this.projectEventProcessorRegistry.getOrCreateProjectEventProcessor(input.getProjectId())
                 .flatMap(processor -> processor.acquireRepresentationEventProcessor(IDiagramEventProcessor.class, diagramConfiguration, new SubscriptionDescription(principal, subscriptionId), context))
-                .map(IRepresentationEventProcessor::getOutputEvents)
+                .map(diagramEventProcessor -> diagramEventProcessor.getOutputEvents(input.getDeltaEnabled()))
                 .orElse(Flux.empty());
         // @formatter:on
     }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.dto;
+
+import java.text.MessageFormat;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditCheckboxInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditRadioInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditSelectInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.EditTextfieldInput;
+import org.eclipse.sirius.web.services.api.objects.CreateChildInput;
+import org.eclipse.sirius.web.services.api.objects.DeleteObjectInput;
+import org.eclipse.sirius.web.services.api.objects.RenameObjectInput;
+
+/**
+ * One operation of a batch.
+ * <p>
+ * Since GraphQL does not support union of input types, exactly one of the fields of this input should be provided.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLInputObjectType
+public final class BatchOperationInput {
+
+    private EditTextfieldInput editTextfield;
+
+    private EditCheckboxInput editCheckbox;
+
+    private EditSelectInput editSelect;
+
+    private EditRadioInput editRadio;
+
+    private CreateChildInput createChild;
+
+    private RenameObjectInput renameObject;
+
+    private DeleteObjectInput deleteObject;
+
+    @GraphQLField
+    public EditTextfieldInput getEditTextfield() {
+        return this.editTextfield;
+    }
+
+    @GraphQLField
+    public EditCheckboxInput getEditCheckbox() {
+        return this.editCheckbox;
+    }
+
+    @GraphQLField
+    public EditSelectInput getEditSelect() {
+        return this.editSelect;
+    }
+
+    @GraphQLField
+    public EditRadioInput getEditRadio() {
+        return this.editRadio;
+    }
+
+    @GraphQLField
+    public CreateChildInput getCreateChild() {
+        return this.createChild;
+    }
+
+    @GraphQLField
+    public RenameObjectInput getRenameObject() {
+        return this.renameObject;
+    }
+
+    @GraphQLField
+    public DeleteObjectInput getDeleteObject() {
+        return this.deleteObject;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'editTextfield: {1}, editCheckbox: {2}, editSelect: {3}, editRadio: {4}, createChild: {5}, renameObject: {6}, deleteObject: {7}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.editTextfield, this.editCheckbox, this.editSelect, this.editRadio, this.createChild, this.renameObject,
+                this.deleteObject);
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+
+/**
+ * The input of the execute batch mutation.
+ *
+ * @author sbegaudeau
+ */
+@GraphQLInputObjectType
+public final class ExecuteBatchInput {
+
+    private UUID projectId;
+
+    private List<BatchOperationInput> operations;
+
+    public ExecuteBatchInput() {
+        // Used by Jackson
+    }
+
+    public ExecuteBatchInput(UUID projectId, List<BatchOperationInput> operations) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.operations = Objects.requireNonNull(operations);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull BatchOperationInput> getOperations() {
+        return this.operations;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, operations: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.operations);
+    }
+}
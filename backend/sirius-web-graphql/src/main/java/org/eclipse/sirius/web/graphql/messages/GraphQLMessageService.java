@@ -42,4 +42,9 @@ public class GraphQLMessageService implements IGraphQLMessageService {
         return this.messageSourceAccessor.getMessage("UNEXPECTED_ERROR"); //$NON-NLS-1$
     }
 
+    @Override
+    public String invalidBatchOperation() {
+        return this.messageSourceAccessor.getMessage("INVALID_BATCH_OPERATION"); //$NON-NLS-1$
+    }
+
 }
@@ -23,4 +23,6 @@ public interface IGraphQLMessageService {
 
     String unexpectedError();
 
+    String invalidBatchOperation();
+
 }
@@ -16,11 +16,16 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
@@ -47,15 +52,25 @@ import org.slf4j.LoggerFactory;
  */
 public class AQLInterpreter {
 
+    /**
+     * The default maximum number of expressions parsed kept in the cache.
+     */
+    public static final int DEFAULT_MAX_CACHE_SIZE = 500;
+
     /**
      * The prefix used by AQL expressions.
      */
     private static final String AQL_PREFIX = "aql:"; //$NON-NLS-1$
 
+    /**
+     * The number of expressions logged with their statistics, starting with the slowest ones.
+     */
+    private static final int LOGGED_EXPRESSION_COUNT = 10;
+
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreter.class);
 
     /**
-     * The cache of the expressions parsed.
+     * The cache of the expressions parsed, indexed by the body of the expressions before their conversion into AQL.
      */
     private LoadingCache<String, AstResult> parsedExpressions;
 
@@ -64,6 +79,22 @@ public class AQLInterpreter {
      */
     private IQueryEnvironment queryEnvironment;
 
+    /**
+     * The evaluation engine, it does not keep any state between two evaluations and can thus be shared.
+     */
+    private IQueryEvaluationEngine evaluationEngine;
+
+    /**
+     * Indicates if the duration of the evaluations should be measured.
+     */
+    private final boolean statisticsEnabled;
+
+    /**
+     * The statistics of the evaluations, indexed by the body of the expressions. Only recorded if the statistics are
+     * enabled.
+     */
+    private final Map<String, ExpressionStatistics> expressionStatistics = new ConcurrentHashMap<>();
+
     /**
      * The constructor.
      *
@@ -74,6 +105,39 @@ public class AQLInterpreter {
      *            to classes, such as <semanticMM>::<AClass>, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<EPackage> ePackages) {
+        this(classes, ePackages, DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as <semanticMM>::<AClass>, can be interpreted.
+     * @param maxCacheSize
+     *            The maximum number of expressions parsed kept in the cache
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<EPackage> ePackages, int maxCacheSize) {
+        this(classes, ePackages, maxCacheSize, false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as <semanticMM>::<AClass>, can be interpreted.
+     * @param maxCacheSize
+     *            The maximum number of expressions parsed kept in the cache
+     * @param statisticsEnabled
+     *            Indicates if the duration of the evaluations of each expression should be measured
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<EPackage> ePackages, int maxCacheSize, boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
         this.queryEnvironment = Query.newEnvironmentWithDefaultServices(null);
         this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
@@ -85,35 +149,36 @@ public class AQLInterpreter {
 
         ePackages.stream().forEach(this.queryEnvironment::registerEPackage);
 
-        this.initExpressionsCache();
+        this.evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
+        this.initExpressionsCache(maxCacheSize);
     }
 
     /**
-     * Initializes the cache of the expressions.
+     * Initializes the cache of the expressions. The expressions are converted into AQL before being parsed, the
+     * conversion is thus only performed once per expression.
      */
-    private void initExpressionsCache() {
+    private void initExpressionsCache(int maxCacheSize) {
         IQueryBuilderEngine builder = QueryParsing.newBuilder(this.queryEnvironment);
-        int maxCacheSize = 500;
+        ExpressionConverter expressionConverter = new ExpressionConverter();
 
-        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(new CacheLoader<String, AstResult>() {
+        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).recordStats().build(new CacheLoader<String, AstResult>() {
             @Override
-            public AstResult load(String key) throws Exception {
-                return builder.build(key);
+            public AstResult load(String expressionBody) throws Exception {
+                String expression = expressionConverter.convertExpression(expressionBody);
+                if (expression.startsWith(AQL_PREFIX)) {
+                    expression = expression.substring(AQL_PREFIX.length());
+                }
+                return builder.build(expression);
             }
 
         });
     }
 
     public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
-        String expression = new ExpressionConverter().convertExpression(expressionBody);
-        if (expression.startsWith(AQL_PREFIX)) {
-            expression = expression.substring(AQL_PREFIX.length());
-        }
-
         try {
-            AstResult build = this.parsedExpressions.get(expression);
-            IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
-            EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+            AstResult build = this.parsedExpressions.get(expressionBody);
+
+            EvaluationResult evalResult = this.evaluate(expressionBody, build, variables);
 
             BasicDiagnostic diagnostic = new BasicDiagnostic();
             if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
@@ -132,6 +197,63 @@ public class AQLInterpreter {
         return new Result(Optional.empty(), Status.ERROR);
     }
 
+    private EvaluationResult evaluate(String expressionBody, AstResult build, Map<String, Object> variables) {
+        EvaluationResult evalResult = null;
+        if (this.statisticsEnabled) {
+            long start = System.nanoTime();
+            evalResult = this.evaluationEngine.eval(build, variables);
+            long evaluationTime = System.nanoTime() - start;
+            this.expressionStatistics.computeIfAbsent(expressionBody, key -> new ExpressionStatistics()).record(evaluationTime);
+        } else {
+            evalResult = this.evaluationEngine.eval(build, variables);
+        }
+        return evalResult;
+    }
+
+    /**
+     * Returns the ratio of the evaluations which have reused an expression already parsed.
+     *
+     * @return The hit rate of the cache of the expressions, between 0 and 1
+     */
+    public double getExpressionCacheHitRate() {
+        return this.parsedExpressions.stats().hitRate();
+    }
+
+    public long getExpressionCacheHitCount() {
+        return this.parsedExpressions.stats().hitCount();
+    }
+
+    public long getExpressionCacheMissCount() {
+        return this.parsedExpressions.stats().missCount();
+    }
+
+    /**
+     * Returns the statistics of the evaluations of each expression, used to find the slowest expressions. They are
+     * empty unless the statistics are enabled.
+     *
+     * @return A read-only view of the statistics indexed by the body of the expressions
+     */
+    public Map<String, ExpressionStatistics> getExpressionStatistics() {
+        return Collections.unmodifiableMap(this.expressionStatistics);
+    }
+
+    /**
+     * Logs the statistics of the cache of the expressions and, if they are enabled, those of the slowest expressions.
+     */
+    public void logStatistics() {
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Expression cache: {} hits, {} misses, {} expressions parsed", this.getExpressionCacheHitCount(), this.getExpressionCacheMissCount(), this.parsedExpressions.size()); //$NON-NLS-1$
+
+            // @formatter:off
+            this.expressionStatistics.entrySet().stream()
+                .sorted(Comparator.comparingLong((Entry<String, ExpressionStatistics> entry) -> entry.getValue().getTotalEvaluationTime()).reversed())
+                .limit(LOGGED_EXPRESSION_COUNT)
+                .forEach(entry -> this.logger.info("Expression '{}': {} evaluations, {} us in total, {} us at most", entry.getKey(), entry.getValue().getEvaluationCount(), //$NON-NLS-1$
+                        TimeUnit.NANOSECONDS.toMicros(entry.getValue().getTotalEvaluationTime()), TimeUnit.NANOSECONDS.toMicros(entry.getValue().getMaxEvaluationTime())));
+            // @formatter:on
+        }
+    }
+
     private void log(String expression, Diagnostic diagnostic) {
         if (diagnostic.getMessage() != null) {
             if (Diagnostic.INFO == diagnostic.getSeverity()) {
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.interpreter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of the evaluations of an expression by an interpreter.
+ *
+ * @author sbegaudeau
+ */
+public class ExpressionStatistics {
+
+    private final AtomicLong evaluationCount = new AtomicLong();
+
+    private final AtomicLong totalEvaluationTime = new AtomicLong();
+
+    private final AtomicLong maxEvaluationTime = new AtomicLong();
+
+    /**
+     * Records an evaluation of the expression.
+     *
+     * @param evaluationTime
+     *            The duration of the evaluation in nanoseconds
+     */
+    public void record(long evaluationTime) {
+        this.evaluationCount.incrementAndGet();
+        this.totalEvaluationTime.addAndGet(evaluationTime);
+        this.maxEvaluationTime.accumulateAndGet(evaluationTime, Math::max);
+    }
+
+    public long getEvaluationCount() {
+        return this.evaluationCount.get();
+    }
+
+    /**
+     * Returns the cumulated duration of the evaluations of the expression.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getTotalEvaluationTime() {
+        return this.totalEvaluationTime.get();
+    }
+
+    /**
+     * Returns the duration of the slowest evaluation of the expression.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getMaxEvaluationTime() {
+        return this.maxEvaluationTime.get();
+    }
+
+    /**
+     * Returns the average duration of the evaluations of the expression.
+     *
+     * @return The duration in nanoseconds or 0 if the expression has not been evaluated
+     */
+    public long getAverageEvaluationTime() {
+        long averageEvaluationTime = 0;
+        long count = this.evaluationCount.get();
+        if (count > 0) {
+            averageEvaluationTime = this.totalEvaluationTime.get() / count;
+        }
+        return averageEvaluationTime;
+    }
+}
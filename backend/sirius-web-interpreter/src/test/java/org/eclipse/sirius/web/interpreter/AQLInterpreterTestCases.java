@@ -30,6 +30,8 @@ public class AQLInterpreterTestCases {
 
     private static final String SELF = "self"; //$NON-NLS-1$
 
+    private static final String FEATURE_NAME = "feature:name"; //$NON-NLS-1$
+
     @Test
     public void testNameFeatureExpression() {
         AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
@@ -83,4 +85,47 @@ public class AQLInterpreterTestCases {
         assertThat(asObjects.get()).contains(EcorePackage.Literals.EENUM_LITERAL__EENUM);
     }
 
+    @Test
+    public void testExpressionCacheStatistics() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE), 1);
+        Map<String, Object> variables = Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement());
+
+        interpreter.evaluateExpression(variables, FEATURE_NAME);
+        interpreter.evaluateExpression(variables, FEATURE_NAME);
+        Result result = interpreter.evaluateExpression(variables, FEATURE_NAME);
+        assertThat(result.asString()).hasValue(EcorePackage.eINSTANCE.getEModelElement().getName());
+        assertThat(interpreter.getExpressionCacheMissCount()).isEqualTo(1);
+        assertThat(interpreter.getExpressionCacheHitCount()).isEqualTo(2);
+        assertThat(interpreter.getExpressionCacheHitRate()).isEqualTo(2.0 / 3.0);
+
+        interpreter.evaluateExpression(variables, "aql:self.name"); //$NON-NLS-1$
+        interpreter.evaluateExpression(variables, FEATURE_NAME);
+        assertThat(interpreter.getExpressionCacheMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testExpressionStatistics() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE), AQLInterpreter.DEFAULT_MAX_CACHE_SIZE, true);
+        Map<String, Object> variables = Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement());
+
+        interpreter.evaluateExpression(variables, FEATURE_NAME);
+        interpreter.evaluateExpression(variables, FEATURE_NAME);
+        interpreter.evaluateExpression(variables, "feature:eContents"); //$NON-NLS-1$
+
+        Map<String, ExpressionStatistics> expressionStatistics = interpreter.getExpressionStatistics();
+        assertThat(expressionStatistics).containsOnlyKeys(FEATURE_NAME, "feature:eContents"); //$NON-NLS-1$
+
+        ExpressionStatistics statistics = expressionStatistics.get(FEATURE_NAME);
+        assertThat(statistics.getEvaluationCount()).isEqualTo(2);
+        assertThat(statistics.getTotalEvaluationTime()).isGreaterThanOrEqualTo(statistics.getMaxEvaluationTime());
+        assertThat(statistics.getAverageEvaluationTime()).isLessThanOrEqualTo(statistics.getMaxEvaluationTime());
+    }
+
+    @Test
+    public void testExpressionStatisticsDisabledByDefault() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement()), FEATURE_NAME);
+        assertThat(interpreter.getExpressionStatistics()).isEmpty();
+    }
+
 }
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.persistence.converters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converter used to store the JSON content of the documents and the representations.
+ *
+ * <p>
+ * When the compression is enabled, the content larger than a few kilobytes is compressed with GZIP and stored encoded
+ * in Base64 after a prefix which identifies the compressed content. The content is read the same way whether the
+ * compression is enabled or not, the content stored as plain JSON before the compression has been enabled can thus
+ * still be read and a deployment can disable the compression at any time.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Component
+@Converter
+public class ContentConverter implements AttributeConverter<String, String> {
+
+    /**
+     * The prefix of the compressed content. It cannot be confused with the beginning of a JSON content.
+     */
+    public static final String COMPRESSED_CONTENT_PREFIX = "gzip:"; //$NON-NLS-1$
+
+    private static final int COMPRESSION_THRESHOLD = 4096;
+
+    private final Logger logger = LoggerFactory.getLogger(ContentConverter.class);
+
+    private final boolean compressionEnabled;
+
+    public ContentConverter(@Value("${sirius.web.persistence.content.compression.enabled:false}") boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String content) {
+        String column = content;
+        if (this.compressionEnabled && content != null && content.length() >= COMPRESSION_THRESHOLD) {
+            byte[] compressedContent = this.compress(content);
+            if (compressedContent.length > 0) {
+                column = COMPRESSED_CONTENT_PREFIX + Base64.getEncoder().encodeToString(compressedContent);
+            }
+        }
+        return column;
+    }
+
+    private byte[] compress(String content) {
+        byte[] compressedContent = new byte[0];
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            gzipOutputStream.finish();
+            compressedContent = outputStream.toByteArray();
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        return compressedContent;
+    }
+
+    /**
+     * Returns the JSON content stored in the given column.
+     *
+     * @param column
+     *            The column, compressed or not
+     * @return The JSON content or an empty content if the column starts with the prefix of the compressed content
+     *         but cannot be decompressed
+     */
+    @Override
+    public String convertToEntityAttribute(String column) {
+        String content = column;
+        if (column != null && column.startsWith(COMPRESSED_CONTENT_PREFIX)) {
+            byte[] bytes = Base64.getDecoder().decode(column.substring(COMPRESSED_CONTENT_PREFIX.length()));
+            try (var gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                content = new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException exception) {
+                String message = String.format("Unable to decompress a content of %d bytes stored with the prefix %s", bytes.length, COMPRESSED_CONTENT_PREFIX); //$NON-NLS-1$
+                this.logger.error(message, exception);
+                content = ""; //$NON-NLS-1$
+            }
+        }
+        return content;
+    }
+
+}
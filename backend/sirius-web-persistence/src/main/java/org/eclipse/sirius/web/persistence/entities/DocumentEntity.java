@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.persistence.entities;
 import java.text.MessageFormat;
 import java.util.UUID;
 
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -23,6 +24,8 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.eclipse.sirius.web.persistence.converters.ContentConverter;
+
 /**
  * Document entity used by the persistence layer.
  *
@@ -42,6 +45,7 @@ public class DocumentEntity {
 
     private String name;
 
+    @Convert(converter = ContentConverter.class)
     private String content;
 
     public UUID getId() {
@@ -15,12 +15,15 @@ package org.eclipse.sirius.web.persistence.entities;
 import java.text.MessageFormat;
 import java.util.UUID;
 
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.eclipse.sirius.web.persistence.converters.ContentConverter;
+
 /**
  * Representation entity used by the persistence layer.
  *
@@ -42,6 +45,7 @@ public class RepresentationEntity {
 
     private String contentType;
 
+    @Convert(converter = ContentConverter.class)
     private String content;
 
     public UUID getId() {
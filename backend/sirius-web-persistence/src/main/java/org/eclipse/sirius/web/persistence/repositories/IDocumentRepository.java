@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.Audited;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.projections.IDocumentMetadata;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -37,6 +38,10 @@ public interface IDocumentRepository extends PagingAndSortingRepository<Document
     @Audited
     List<DocumentEntity> findAllByProjectId(UUID projectId);
 
+    @Audited
+    @Query("SELECT document.id AS id, document.name AS name FROM DocumentEntity document WHERE document.project.id=?1")
+    List<IDocumentMetadata> findAllMetadataByProjectId(UUID projectId);
+
     @Audited
     @Query("SELECT document FROM DocumentEntity document WHERE document.project.id=?1 AND document.id=?2")
     Optional<DocumentEntity> findByProjectIdAndId(UUID projectId, UUID documentId);
@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.Audited;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadata;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -42,6 +43,22 @@ public interface IRepresentationRepository extends PagingAndSortingRepository<Re
     @Audited
     List<RepresentationEntity> findAllByProjectId(UUID projectId);
 
+    @Audited
+    @Override
+    Iterable<RepresentationEntity> findAllById(Iterable<UUID> ids);
+
+    @Audited
+    @Query("SELECT representation.id AS id, representation.project.id AS projectId, representation.targetObjectId AS targetObjectId, representation.label AS label, representation.contentType AS contentType FROM RepresentationEntity representation WHERE representation.id=?1")
+    Optional<IRepresentationMetadata> findMetadataById(UUID id);
+
+    @Audited
+    @Query("SELECT representation.id AS id, representation.project.id AS projectId, representation.targetObjectId AS targetObjectId, representation.label AS label, representation.contentType AS contentType FROM RepresentationEntity representation WHERE representation.targetObjectId=?1")
+    List<IRepresentationMetadata> findAllMetadataByTargetObjectId(String objectId);
+
+    @Audited
+    @Query("SELECT representation.id AS id, representation.project.id AS projectId, representation.targetObjectId AS targetObjectId, representation.label AS label, representation.contentType AS contentType FROM RepresentationEntity representation WHERE representation.project.id=?1")
+    List<IRepresentationMetadata> findAllMetadataByProjectId(UUID projectId);
+
     @Audited
     @Query("SELECT CASE WHEN COUNT(representation)> 0 THEN true ELSE false END FROM RepresentationEntity representation WHERE representation.targetObjectId=?1")
     boolean hasRepresentations(String objectId);
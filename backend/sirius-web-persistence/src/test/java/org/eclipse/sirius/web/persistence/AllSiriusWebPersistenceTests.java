@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.persistence;
 import org.eclipse.sirius.web.persistence.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.persistence.architecture.ConfigurationTestCases;
 import org.eclipse.sirius.web.persistence.architecture.RepositoryTestCases;
+import org.eclipse.sirius.web.persistence.converters.ContentConverterTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -25,7 +26,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ConfigurationTestCases.class, RepositoryTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ConfigurationTestCases.class, RepositoryTestCases.class, ContentConverterTestCases.class })
 public final class AllSiriusWebPersistenceTests {
     private AllSiriusWebPersistenceTests() {
         // Prevent instantiation
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.persistence.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of the converter of the content of the documents and the representations.
+ *
+ * @author sbegaudeau
+ */
+public class ContentConverterTestCases {
+
+    private static final String SMALL_CONTENT = "{ \"nodes\": [], \"edges\": []}"; //$NON-NLS-1$
+
+    private static final int NODE_COUNT = 1000;
+
+    private String getLargeContent() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{ \"nodes\": ["); //$NON-NLS-1$
+        for (int i = 0; i < NODE_COUNT; i++) {
+            if (i > 0) {
+                builder.append(", "); //$NON-NLS-1$
+            }
+            builder.append("{ \"id\": \"node").append(i).append("\", \"label\": \"Node ").append(i).append("\" }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+        builder.append("], \"edges\": []}"); //$NON-NLS-1$
+        return builder.toString();
+    }
+
+    @Test
+    public void testLargeContentCompressed() {
+        ContentConverter converter = new ContentConverter(true);
+        String content = this.getLargeContent();
+
+        String column = converter.convertToDatabaseColumn(content);
+        assertThat(column).startsWith(ContentConverter.COMPRESSED_CONTENT_PREFIX);
+        assertThat(column.length()).isLessThan(content.length());
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(content);
+    }
+
+    @Test
+    public void testSmallContentNotCompressed() {
+        ContentConverter converter = new ContentConverter(true);
+        assertThat(converter.convertToDatabaseColumn(SMALL_CONTENT)).isEqualTo(SMALL_CONTENT);
+    }
+
+    @Test
+    public void testCompressionDisabled() {
+        ContentConverter converter = new ContentConverter(false);
+        String content = this.getLargeContent();
+
+        assertThat(converter.convertToDatabaseColumn(content)).isEqualTo(content);
+    }
+
+    @Test
+    public void testCompressedAndLegacyContentRead() {
+        String content = this.getLargeContent();
+        String compressedColumn = new ContentConverter(true).convertToDatabaseColumn(content);
+
+        ContentConverter converter = new ContentConverter(false);
+        assertThat(converter.convertToEntityAttribute(compressedColumn)).isEqualTo(content);
+        assertThat(converter.convertToEntityAttribute(content)).isEqualTo(content);
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    public void testCorruptedCompressedContentRejected() {
+        String column = ContentConverter.COMPRESSED_CONTENT_PREFIX + Base64.getEncoder().encodeToString(SMALL_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        ContentConverter converter = new ContentConverter(true);
+        assertThat(converter.convertToEntityAttribute(column)).isEmpty();
+    }
+}
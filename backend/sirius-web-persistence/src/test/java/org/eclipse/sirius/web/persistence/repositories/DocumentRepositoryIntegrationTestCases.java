@@ -19,6 +19,7 @@ import java.util.List;
 import org.eclipse.sirius.web.persistence.entities.AccountEntity;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
+import org.eclipse.sirius.web.persistence.projections.IDocumentMetadata;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -121,6 +122,23 @@ public class DocumentRepositoryIntegrationTestCases {
         assertThat(documents).hasSize(3);
     }
 
+    @Test
+    @Transactional
+    public void testFindAllMetadataByProjectId() {
+        ProjectEntity project = this.createAndSaveProjectEntity();
+
+        DocumentEntity firstDocument = new DocumentEntity();
+        firstDocument.setName(FIRST_DOCUMENT_NAME);
+        firstDocument.setProject(project);
+        firstDocument.setContent(DOCUMENT_CONTENT);
+        DocumentEntity savedDocument = this.documentRepository.save(firstDocument);
+
+        List<IDocumentMetadata> documentMetadata = this.documentRepository.findAllMetadataByProjectId(project.getId());
+        assertThat(documentMetadata).hasSize(1);
+        assertThat(documentMetadata.get(0).getId()).isEqualTo(savedDocument.getId());
+        assertThat(documentMetadata.get(0).getName()).isEqualTo(FIRST_DOCUMENT_NAME);
+    }
+
     @Test
     @Transactional
     public void testFindByProjectIdAndId() {
@@ -23,6 +23,7 @@ import javax.persistence.PersistenceContext;
 import org.eclipse.sirius.web.persistence.entities.AccountEntity;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadata;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -166,6 +167,32 @@ public class RepresentationRepositoryIntegrationTestCases {
         assertThat(representationEntitiesForSecondObject).hasSize(1);
     }
 
+    @Test
+    @Transactional
+    public void testFindAllMetadataByTargetObjectId() {
+        ProjectEntity savedProject = this.createAndSaveProjectEntity();
+
+        RepresentationEntity firstRepresentationEntity = this.createRepresentationEntity(savedProject, FIRST_DIAGRAM_LABEL, FIRST_TARGET_OBJECT_ID);
+        RepresentationEntity secondRepresentationEntity = this.createRepresentationEntity(savedProject, SECOND_DIAGRAM_LABEL, SECOND_TARGET_OBJECT_ID);
+
+        this.representationRepository.save(firstRepresentationEntity);
+        this.representationRepository.save(secondRepresentationEntity);
+
+        List<IRepresentationMetadata> representationsMetadata = this.representationRepository.findAllMetadataByTargetObjectId(FIRST_TARGET_OBJECT_ID);
+        assertThat(representationsMetadata).hasSize(1);
+
+        IRepresentationMetadata representationMetadata = representationsMetadata.get(0);
+        assertThat(representationMetadata.getId()).isEqualTo(firstRepresentationEntity.getId());
+        assertThat(representationMetadata.getProjectId()).isEqualTo(savedProject.getId());
+        assertThat(representationMetadata.getTargetObjectId()).isEqualTo(FIRST_TARGET_OBJECT_ID);
+        assertThat(representationMetadata.getLabel()).isEqualTo(FIRST_DIAGRAM_LABEL);
+        assertThat(representationMetadata.getContentType()).isEqualTo(firstRepresentationEntity.getContentType());
+
+        assertThat(this.representationRepository.findAllMetadataByProjectId(savedProject.getId())).hasSize(2);
+        assertThat(this.representationRepository.findMetadataById(secondRepresentationEntity.getId())).isPresent();
+        assertThat(this.representationRepository.findMetadataById(UUID.randomUUID())).isEmpty();
+    }
+
     @Test
     @Transactional
     public void testHasRepresentations() {
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache which can be shared by several threads.
+ *
+ * <p>
+ * The least recently used entries are evicted once the maximum size of the cache has been reached. A maximum size
+ * lower or equal to zero disables the cache.
+ * </p>
+ *
+ * @param <K>
+ *            The type of the keys
+ * @param <V>
+ *            The type of the values
+ * @author sbegaudeau
+ */
+public class LRUCache<K, V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+
+    private final Map<K, V> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public LRUCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > LRUCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return this.maxSize > 0;
+    }
+
+    /**
+     * Returns the value of the given key and updates the statistics of the cache.
+     *
+     * @param key
+     *            The key
+     * @return The value of the key or an empty optional if there is none in the cache
+     */
+    public synchronized Optional<V> get(K key) {
+        Optional<V> optionalValue = Optional.ofNullable(this.entries.get(key));
+        if (optionalValue.isPresent()) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+        }
+        return optionalValue;
+    }
+
+    /**
+     * Returns the value of the given key, computing and caching it if it is not in the cache yet. The value is computed
+     * while holding the lock of the cache, the computation should thus be rare and fast enough.
+     *
+     * @param key
+     *            The key
+     * @param mappingFunction
+     *            The function used to compute the missing value
+     * @return The value of the key
+     */
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = this.entries.get(key);
+        if (value != null) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+            value = mappingFunction.apply(key);
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (this.isEnabled()) {
+            this.entries.put(key, value);
+        }
+    }
+
+    public synchronized void remove(K key) {
+        this.entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized List<V> values() {
+        return new ArrayList<>(this.entries.values());
+    }
+
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+}
@@ -12,15 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.representations;
 
-import java.util.ArrayList;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used to manage the variables.
  *
+ * <p>
+ * The variables of a variable manager are those of its parents overridden by its own variables. They are exposed thanks
+ * to a read-only view which looks up each variable along the chain of the parents instead of copying all of them, the
+ * whole chain is only copied if the view is iterated. A variable manager does not keep any reference to its children
+ * which can thus be garbage collected as soon as they are not used anymore.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class VariableManager {
@@ -30,23 +39,23 @@ public class VariableManager {
     /**
      * The parent variable manager.
      */
-    private VariableManager parent;
+    private final VariableManager parent;
 
     /**
      * The variables.
      */
-    private Map<String, Object> variables = new HashMap<>();
+    private final Map<String, Object> variables = new HashMap<>();
 
     /**
-     * The child variable manager.
+     * The read-only view of the variables of this variable manager and of its parents.
      */
-    private List<VariableManager> children = new ArrayList<>();
+    private final Map<String, Object> variablesView = new VariablesView();
 
     /**
      * The constructor.
      */
     public VariableManager() {
-        // do nothing
+        this.parent = null;
     }
 
     /**
@@ -64,35 +73,74 @@ public class VariableManager {
         return previous;
     }
 
+    /**
+     * Returns a read-only view of the variables of this variable manager and of its parents. The view reflects the
+     * variables added after its creation, it should be copied by the callers which need to modify it.
+     *
+     * @return The variables
+     */
     public Map<String, Object> getVariables() {
-        if (this.parent != null) {
-            Map<String, Object> parentVariables = this.parent.getVariables();
-            parentVariables.putAll(this.variables);
-            return parentVariables;
-        }
-        return new HashMap<>(this.variables);
+        return this.variablesView;
     }
 
+    /**
+     * Returns the value of the variable with the given name if it has the expected type. As with
+     * {@link #getVariables()}, a variable defined with a <code>null</code> value hides the variable with the same name
+     * in the parents.
+     *
+     * @param name
+     *            The name of the variable
+     * @param expectedType
+     *            The expected type of the value
+     * @return The value of the variable or an empty optional if it is not defined, <code>null</code> or of another type
+     */
     public <T> Optional<T> get(String name, Class<T> expectedType) {
         // @formatter:off
-        return Optional.ofNullable(this.get(name))
+        return Optional.ofNullable(this.getVariable(name))
                        .filter(expectedType::isInstance)
                        .map(expectedType::cast);
         // @formatter:on
     }
 
-    private Object get(String name) {
-        Object value = this.variables.get(name);
-        if (value == null && this.parent != null) {
-            value = this.parent.get(name);
+    /**
+     * Returns the value of the variable in the first variable manager of the chain which defines it, even if this value
+     * is <code>null</code>, as expected from a map.
+     */
+    private Object getVariable(Object name) {
+        VariableManager variableManager = this;
+        Object value = null;
+        boolean found = false;
+        while (!found && variableManager != null) {
+            value = variableManager.variables.get(name);
+            found = value != null || variableManager.variables.containsKey(name);
+            variableManager = variableManager.parent;
         }
         return value;
     }
 
+    private boolean containsKey(Object name) {
+        VariableManager variableManager = this;
+        boolean containsKey = false;
+        while (!containsKey && variableManager != null) {
+            containsKey = variableManager.variables.containsKey(name);
+            variableManager = variableManager.parent;
+        }
+        return containsKey;
+    }
+
+    private Map<String, Object> copyVariables() {
+        Map<String, Object> copy;
+        if (this.parent != null) {
+            copy = this.parent.copyVariables();
+        } else {
+            copy = new LinkedHashMap<>();
+        }
+        copy.putAll(this.variables);
+        return copy;
+    }
+
     public VariableManager createChild() {
-        VariableManager variableManager = new VariableManager(this);
-        this.children.add(variableManager);
-        return variableManager;
+        return new VariableManager(this);
     }
 
     @Override
@@ -110,4 +158,27 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables of the variable manager and of its parents.
+     *
+     * @author sbegaudeau
+     */
+    private final class VariablesView extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return VariableManager.this.getVariable(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return VariableManager.this.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(VariableManager.this.copyVariables()).entrySet();
+        }
+    }
 }
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ * Test suite used to run all the unit tests of the representations.
+ *
+ * @author sbegaudeau
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ LRUCacheTestCases.class, VariableManagerTestCases.class })
+public final class AllSiriusWebRepresentationsTests {
+    private AllSiriusWebRepresentationsTests() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Test cases of the LRU cache.
+ *
+ * @author sbegaudeau
+ */
+public class LRUCacheTestCases {
+
+    private static final String FIRST_KEY = "first"; //$NON-NLS-1$
+
+    private static final String SECOND_KEY = "second"; //$NON-NLS-1$
+
+    private static final String THIRD_KEY = "third"; //$NON-NLS-1$
+
+    @Test
+    public void testLeastRecentlyUsedEntryEvicted() {
+        LRUCache<String, Integer> cache = new LRUCache<>(2);
+        cache.put(FIRST_KEY, 1);
+        cache.put(SECOND_KEY, 2);
+
+        assertThat(cache.get(FIRST_KEY)).contains(1);
+
+        cache.put(THIRD_KEY, 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(FIRST_KEY)).contains(1);
+        assertThat(cache.get(SECOND_KEY)).isEmpty();
+        assertThat(cache.get(THIRD_KEY)).contains(3);
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        LRUCache<String, Integer> cache = new LRUCache<>(0);
+        cache.put(FIRST_KEY, 1);
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get(FIRST_KEY)).isEmpty();
+    }
+
+    @Test
+    public void testValueComputedOnce() {
+        LRUCache<String, Integer> cache = new LRUCache<>(2);
+        assertThat(cache.computeIfAbsent(FIRST_KEY, String::length)).isEqualTo(FIRST_KEY.length());
+        assertThat(cache.computeIfAbsent(FIRST_KEY, key -> 0)).isEqualTo(FIRST_KEY.length());
+        assertThat(cache.values()).containsExactly(FIRST_KEY.length());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of the variable manager.
+ *
+ * @author sbegaudeau
+ */
+public class VariableManagerTestCases {
+
+    private static final String NAME = "name"; //$NON-NLS-1$
+
+    private static final String PARENT_VALUE = "parentValue"; //$NON-NLS-1$
+
+    private static final String CHILD_VALUE = "childValue"; //$NON-NLS-1$
+
+    @Test
+    public void testVariablesOverriddenByChild() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, PARENT_VALUE);
+        variableManager.put(NAME, PARENT_VALUE);
+
+        VariableManager childVariableManager = variableManager.createChild();
+        childVariableManager.put(NAME, CHILD_VALUE);
+
+        Map<String, Object> variables = childVariableManager.getVariables();
+        assertThat(variables.get(VariableManager.SELF)).isEqualTo(PARENT_VALUE);
+        assertThat(variables.get(NAME)).isEqualTo(CHILD_VALUE);
+        assertThat(variables).containsOnlyKeys(VariableManager.SELF, NAME);
+        assertThat(new HashMap<>(variables)).isEqualTo(Map.of(VariableManager.SELF, PARENT_VALUE, NAME, CHILD_VALUE));
+        assertThat(childVariableManager.get(NAME, String.class)).contains(CHILD_VALUE);
+        assertThat(childVariableManager.get(NAME, Integer.class)).isEmpty();
+
+        assertThat(variableManager.getVariables().get(NAME)).isEqualTo(PARENT_VALUE);
+    }
+
+    @Test
+    public void testNullVariableOverridesParent() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(NAME, PARENT_VALUE);
+
+        VariableManager childVariableManager = variableManager.createChild();
+        childVariableManager.put(NAME, null);
+
+        assertThat(childVariableManager.getVariables().containsKey(NAME)).isTrue();
+        assertThat(childVariableManager.getVariables().get(NAME)).isNull();
+        assertThat(childVariableManager.getVariables().get(VariableManager.SELF)).isNull();
+        assertThat(childVariableManager.get(NAME, String.class)).isEmpty();
+        assertThat(variableManager.get(NAME, String.class)).contains(PARENT_VALUE);
+    }
+
+    @Test
+    public void testReadOnlyVariables() {
+        VariableManager variableManager = new VariableManager();
+        Map<String, Object> variables = variableManager.getVariables();
+        assertThatThrownBy(() -> variables.put(NAME, CHILD_VALUE)).isInstanceOf(UnsupportedOperationException.class);
+
+        variableManager.put(NAME, PARENT_VALUE);
+        assertThat(variables.get(NAME)).isEqualTo(PARENT_VALUE);
+    }
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.api.objects;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the objects of an editing context which have been modified since the last time the recorded changes have
+ * been cleared.
+ * <p>
+ * The changes are split into generations. A new generation starts each time some recorded changes are cleared. It
+ * allows a consumer to detect if it has missed some changes since the last time it has used them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextChangeRecorder {
+
+    /**
+     * Returns the objects impacted by the changes of the current generation. It contains the modified objects along
+     * with all their containers.
+     *
+     * @return The impacted objects
+     */
+    Set<Object> getImpactedObjects();
+
+    /**
+     * Returns the objects modified by the changes of the current generation. Each of them is associated to the objects
+     * impacted by its modification, that is to say the modified object along with all its containers.
+     *
+     * @return The objects impacted by the modification of each modified object
+     */
+    Map<Object, Set<Object>> getModifiedObjects();
+
+    boolean hasChanges();
+
+    long getGeneration();
+
+    /**
+     * Clears the recorded changes and starts a new generation if some changes have been recorded.
+     */
+    void clearChanges();
+}
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.api.objects;
 
+import java.util.Map;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
@@ -23,4 +24,8 @@ import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
  */
 public interface IEditingContextPersistenceService {
     void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch);
+
+    Map<UUID, String> serialize(IEditingContext editingContext, IStopWatch stopWatch);
+
+    void write(UUID projectId, Map<UUID, String> documentContents);
 }
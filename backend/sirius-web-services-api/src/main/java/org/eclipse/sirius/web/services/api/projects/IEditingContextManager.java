@@ -26,4 +26,22 @@ public interface IEditingContextManager {
     IEditingContext createEditingContext(UUID projectID);
 
     void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch);
+
+    /**
+     * Ensures that all the changes of the given project persisted previously have been written.
+     *
+     * @param projectId
+     *            The id of the project
+     */
+    void flush(UUID projectId);
+
+    /**
+     * Returns a rough estimation, in bytes, of the memory used by the given editing context. This method must be called
+     * by the thread owning the editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return The estimated size of the editing context
+     */
+    long getEstimatedSize(IEditingContext editingContext);
 }
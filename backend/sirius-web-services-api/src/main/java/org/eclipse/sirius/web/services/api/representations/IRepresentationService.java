@@ -31,6 +31,16 @@ public interface IRepresentationService {
 
     List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId);
 
+    /**
+     * Returns the metadata of the representations of the given object without reading the content of the
+     * representations.
+     *
+     * @param objectId
+     *            The identifier of the target object of the representations
+     * @return The metadata of the representations
+     */
+    List<RepresentationMetadata> getRepresentationMetadataForObjectId(String objectId);
+
     void save(RepresentationDescriptor representationDescriptor);
 
     Optional<RepresentationDescriptor> getRepresentation(UUID representationId);
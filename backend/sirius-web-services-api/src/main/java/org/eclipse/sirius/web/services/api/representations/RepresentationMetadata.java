@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.api.representations;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+
+/**
+ * The metadata of a representation, available without reading its content.
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+public final class RepresentationMetadata {
+
+    private final UUID id;
+
+    private final UUID projectId;
+
+    private final String targetObjectId;
+
+    private final String label;
+
+    private final String kind;
+
+    public RepresentationMetadata(UUID id, UUID projectId, String targetObjectId, String label, String kind) {
+        this.id = Objects.requireNonNull(id);
+        this.projectId = Objects.requireNonNull(projectId);
+        this.targetObjectId = Objects.requireNonNull(targetObjectId);
+        this.label = Objects.requireNonNull(label);
+        this.kind = Objects.requireNonNull(kind);
+    }
+
+    public UUID getId() {
+        return this.id;
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    public String getTargetObjectId() {
+        return this.targetObjectId;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public String getKind() {
+        return this.kind;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, label: {2}, kind: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.label, this.kind);
+    }
+}
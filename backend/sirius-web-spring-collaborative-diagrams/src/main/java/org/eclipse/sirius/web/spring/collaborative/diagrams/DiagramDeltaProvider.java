@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.AddedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * Computes the differences between two versions of a diagram.
+ * <p>
+ * A delta is only computed if the label, the position and the size of the diagram have not changed, since a delta
+ * without any other change would be considered as empty. The nodes and edges are matched using their identifiers. A node is considered as updated if one of its own
+ * properties, including its label, has changed and it is sent without its border and child nodes since they have
+ * their own delta. A node which has been moved to another parent is considered as removed and added again. Only the
+ * topmost added or removed nodes are part of the delta since they contain or imply their descendants.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaProvider {
+
+    private final ObjectMapper objectMapper;
+
+    public DiagramDeltaProvider(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    /**
+     * Computes the delta between the given diagrams.
+     *
+     * @param previousDiagram
+     *            The previous version of the diagram
+     * @param diagram
+     *            The new version of the diagram
+     * @return The delta or an empty optional if the properties of the diagram itself, including its label, position
+     *         and size, have changed, in which case the whole diagram should be sent
+     */
+    public Optional<DiagramDeltaEventPayload> getDelta(Diagram previousDiagram, Diagram diagram) {
+        Optional<DiagramDeltaEventPayload> optionalDelta = Optional.empty();
+        if (this.getProperties(previousDiagram).equals(this.getProperties(diagram))) {
+            Map<String, Node> previousNodes = new LinkedHashMap<>();
+            Map<String, String> previousParentIds = new HashMap<>();
+            this.index(null, previousDiagram.getNodes(), previousNodes, previousParentIds);
+
+            Map<String, Node> nodes = new LinkedHashMap<>();
+            Map<String, String> parentIds = new HashMap<>();
+            this.index(null, diagram.getNodes(), nodes, parentIds);
+
+            List<AddedNode> addedNodes = new ArrayList<>();
+            List<Node> updatedNodes = new ArrayList<>();
+            Set<String> addedNodeIds = new HashSet<>();
+            for (Entry<String, Node> entry : nodes.entrySet()) {
+                String parentId = parentIds.get(entry.getKey());
+                Node previousNode = previousNodes.get(entry.getKey());
+                if (previousNode == null || !Objects.equals(parentId, previousParentIds.get(entry.getKey()))) {
+                    if (!addedNodeIds.contains(parentId)) {
+                        addedNodes.add(new AddedNode(parentId, entry.getValue()));
+                    }
+                    addedNodeIds.add(entry.getKey());
+                } else if (!this.getProperties(previousNode).equals(this.getProperties(entry.getValue()))) {
+                    updatedNodes.add(this.withoutDescendants(entry.getValue()));
+                }
+            }
+
+            List<String> removedNodeIds = new ArrayList<>();
+            Set<String> allRemovedNodeIds = new HashSet<>();
+            for (String previousNodeId : previousNodes.keySet()) {
+                boolean isRemoved = !nodes.containsKey(previousNodeId) || addedNodeIds.contains(previousNodeId);
+                if (isRemoved) {
+                    if (!allRemovedNodeIds.contains(previousParentIds.get(previousNodeId))) {
+                        removedNodeIds.add(previousNodeId);
+                    }
+                    allRemovedNodeIds.add(previousNodeId);
+                }
+            }
+
+            List<Edge> addedEdges = new ArrayList<>();
+            List<Edge> updatedEdges = new ArrayList<>();
+            List<String> removedEdgeIds = new ArrayList<>();
+            this.computeEdgesDelta(previousDiagram.getEdges(), diagram.getEdges(), addedEdges, updatedEdges, removedEdgeIds);
+
+            optionalDelta = Optional.of(new DiagramDeltaEventPayload(diagram, addedNodes, updatedNodes, removedNodeIds, addedEdges, updatedEdges, removedEdgeIds));
+        }
+        return optionalDelta;
+    }
+
+    private void index(String parentId, List<Node> nodes, Map<String, Node> id2Nodes, Map<String, String> id2ParentIds) {
+        for (Node node : nodes) {
+            id2Nodes.put(node.getId(), node);
+            if (parentId != null) {
+                id2ParentIds.put(node.getId(), parentId);
+            }
+            this.index(node.getId(), node.getBorderNodes(), id2Nodes, id2ParentIds);
+            this.index(node.getId(), node.getChildNodes(), id2Nodes, id2ParentIds);
+        }
+    }
+
+    private void computeEdgesDelta(List<Edge> previousEdges, List<Edge> edges, List<Edge> addedEdges, List<Edge> updatedEdges, List<String> removedEdgeIds) {
+        Map<String, Edge> id2PreviousEdges = new HashMap<>();
+        previousEdges.forEach(previousEdge -> id2PreviousEdges.put(previousEdge.getId(), previousEdge));
+
+        Set<String> edgeIds = new HashSet<>();
+        for (Edge edge : edges) {
+            edgeIds.add(edge.getId());
+            Edge previousEdge = id2PreviousEdges.get(edge.getId());
+            if (previousEdge == null) {
+                addedEdges.add(edge);
+            } else if (!this.objectMapper.valueToTree(previousEdge).equals(this.objectMapper.valueToTree(edge))) {
+                updatedEdges.add(edge);
+            }
+        }
+
+        // @formatter:off
+        previousEdges.stream()
+            .map(Edge::getId)
+            .filter(previousEdgeId -> !edgeIds.contains(previousEdgeId))
+            .forEach(removedEdgeIds::add);
+        // @formatter:on
+    }
+
+    private JsonNode getProperties(Diagram diagram) {
+        // @formatter:off
+        Diagram diagramProperties = Diagram.newDiagram(diagram)
+                .nodes(List.of())
+                .edges(List.of())
+                .build();
+        // @formatter:on
+        return this.objectMapper.valueToTree(diagramProperties);
+    }
+
+    private JsonNode getProperties(Node node) {
+        return this.objectMapper.valueToTree(this.withoutDescendants(node));
+    }
+
+    private Node withoutDescendants(Node node) {
+        return Node.newNode(node).borderNodes(List.of()).childNodes(List.of()).build();
+    }
+}
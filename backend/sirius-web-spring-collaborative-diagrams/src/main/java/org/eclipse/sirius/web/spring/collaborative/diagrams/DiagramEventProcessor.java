@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventProcessor;
@@ -104,11 +105,26 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.diagramRefreshManager.refresh(this.editingContext.getProjectId(), this.diagramCreationParameters);
     }
 
+    @Override
+    public void skipRefresh() {
+        this.diagramRefreshManager.skipRefresh(this.diagramCreationParameters);
+    }
+
+    @Override
+    public Optional<RepresentationDependencies> getDependencies() {
+        return Optional.of(this.diagramRefreshManager.getDependencies());
+    }
+
     @Override
     public Flux<IPayload> getOutputEvents() {
         return Flux.merge(this.diagramRefreshManager.getFlux(), this.subscriptionManager.getFlux());
     }
 
+    @Override
+    public Flux<IPayload> getOutputEvents(boolean deltaEnabled) {
+        return Flux.merge(this.diagramRefreshManager.getFlux(deltaEnabled), this.subscriptionManager.getFlux());
+    }
+
     @Override
     public void dispose() {
         this.subscriptionManager.dispose();
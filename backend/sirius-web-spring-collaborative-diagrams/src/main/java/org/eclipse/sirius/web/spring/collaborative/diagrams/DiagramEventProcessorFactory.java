@@ -28,12 +28,10 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramRefreshManager;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationDescriptionService;
-import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.springframework.stereotype.Service;
 
 /**
@@ -48,25 +46,22 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final IDiagramService diagramService;
 
-    private final IRepresentationService representationService;
-
-    private final ILayoutService layoutService;
-
     private final IObjectService objectService;
 
     private final List<IDiagramEventHandler> diagramEventHandlers;
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
+    private final DiagramRefreshManagerFactory diagramRefreshManagerFactory;
+
     public DiagramEventProcessorFactory(IRepresentationDescriptionService representationDescriptionService, IDiagramService diagramService, IObjectService objectService,
-            IRepresentationService representationService, ILayoutService layoutService, List<IDiagramEventHandler> diagramEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory) {
+            List<IDiagramEventHandler> diagramEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory, DiagramRefreshManagerFactory diagramRefreshManagerFactory) {
         this.representationDescriptionService = Objects.requireNonNull(representationDescriptionService);
         this.diagramService = Objects.requireNonNull(diagramService);
-        this.representationService = Objects.requireNonNull(representationService);
-        this.layoutService = Objects.requireNonNull(layoutService);
         this.objectService = Objects.requireNonNull(objectService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.diagramRefreshManagerFactory = Objects.requireNonNull(diagramRefreshManagerFactory);
     }
 
     @Override
@@ -101,7 +96,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                             .editingContext(editingContext)
                             .build();
 
-                    IDiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.representationService, this.diagramService, this.layoutService);
+                    IDiagramRefreshManager diagramRefreshManager = this.diagramRefreshManagerFactory.create();
                     IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(diagramCreationParameters,
                             editingContext, this.diagramEventHandlers, this.subscriptionManagerFactory.create(),  diagramRefreshManager);
 
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pool of threads shared by all the diagram refresh managers to perform the layout of their diagrams.
+ *
+ * <p>
+ * When the pool contains at least one thread, the diagrams are rendered by the thread of their project but their
+ * layout, their publication and their persistence are performed by this pool in order to let the project handle its
+ * other events in the meantime. By default, the pool does not contain any thread and the diagrams are laid out by the
+ * thread of their project.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutScheduler.class);
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private final ExecutorService executorService;
+
+    @Autowired
+    public DiagramLayoutScheduler(@Value("${sirius.web.diagrams.layout.async.threadCount:0}") int threadCount) {
+        if (threadCount > 0) {
+            this.executorService = Executors.newFixedThreadPool(threadCount, (Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Diagram Layout " + this.threadCount.incrementAndGet()); //$NON-NLS-1$
+                return thread;
+            });
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    /**
+     * Creates a scheduler performing the layouts with the given executor service.
+     *
+     * @param executorService
+     *            The executor service used to perform the layouts or <code>null</code> to perform them synchronously
+     */
+    public DiagramLayoutScheduler(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Indicates if the layout of the diagrams should be performed asynchronously.
+     *
+     * @return <code>true</code> if the diagrams are laid out by this pool, <code>false</code> otherwise
+     */
+    public boolean isAsynchronousLayoutEnabled() {
+        return this.executorService != null;
+    }
+
+    /**
+     * Submits the given layout task. Since the callers only keep the future of the task to cancel it, the failures of
+     * the task are logged by this pool.
+     *
+     * @param layoutTask
+     *            The layout task
+     * @return The future of the task, which can be used to cancel it, or an empty optional if it could not be
+     *         submitted
+     */
+    public Optional<Future<?>> submit(Runnable layoutTask) {
+        Optional<Future<?>> optionalFuture = Optional.empty();
+        if (this.executorService != null) {
+            try {
+                CompletableFuture<Void> future = CompletableFuture.runAsync(layoutTask, this.executorService);
+                future.whenComplete((result, throwable) -> {
+                    if (throwable != null && !(throwable instanceof CancellationException)) {
+                        this.logger.error(throwable.getMessage(), throwable);
+                    }
+                });
+                optionalFuture = Optional.of(future);
+            } catch (RejectedExecutionException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+        return optionalFuture;
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        if (this.executorService != null) {
+            this.executorService.shutdown();
+        }
+    }
+}
@@ -12,31 +12,66 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramRefreshManager;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramDeltaEventPayload;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextChangeRecorder;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
 import org.eclipse.sirius.web.spring.collaborative.stopwatch.SpringStopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.Mono;
 
 /**
  * Service used to manage the lifecycle of the diagram and its palette.
+ * <p>
+ * When the incremental refresh is enabled and the editing context records its changes, the nodes whose semantic
+ * elements have not been impacted by the changes are reused from the previous rendering and the diagram is not
+ * computed at all if nothing has changed. Edges are always computed once again. Since only the modified objects and
+ * their containers are considered as impacted, a node displaying some information coming from an object which is
+ * neither itself nor one of its descendants may not be updated, this is why the incremental refresh can be disabled.
+ * The previous rendering is kept up to date with the generations of changes which have not impacted the diagram, when
+ * nothing has changed or when the refresh of the diagram has been skipped, so that it can still be reused afterwards.
+ * </p>
+ * <p>
+ * When the asynchronous layout is enabled, the diagram is rendered by the thread of the project during a refresh but it
+ * is laid out, published and saved by the {@link DiagramLayoutScheduler}. Until then, the previous layouted diagram is
+ * still returned by {@link #getDiagram()}.
+ * </p>
+ * <p>
+ * The diagrams are published under the {@link #publicationLock} and each new subscriber receives the latest published
+ * diagram and subscribes to the following events under the same lock, so that it neither misses nor receives twice the
+ * changes of a diagram.
+ * </p>
+ * <p>
+ * The {@link #layoutLock} is only held to decide whether a layout is the latest one and to replace the diagram. The
+ * layouted diagrams are then saved and published outside of this lock, in the order of their layout requests, an older
+ * diagram being discarded if a more recent one has already been saved or published.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -54,14 +89,84 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
 
     private final FluxSink<IPayload> sink;
 
-    private Diagram diagram;
+    private final DirectProcessor<IPayload> deltaFlux;
 
-    public DiagramRefreshManager(IRepresentationService representationService, IDiagramService diagramService, ILayoutService layoutService) {
+    private final FluxSink<IPayload> deltaSink;
+
+    private final DiagramDeltaProvider diagramDeltaProvider;
+
+    private final boolean incrementalRefreshEnabled;
+
+    private final DiagramLayoutScheduler diagramLayoutScheduler;
+
+    private final Object layoutLock = new Object();
+
+    private final Object publicationLock = new Object();
+
+    private final Object saveLock = new Object();
+
+    /**
+     * The latest layouted diagram, which may be replaced by the threads of the layout pool.
+     */
+    private volatile Diagram diagram;
+
+    /**
+     * The latest diagram sent to the subscribers. Guarded by {@link #publicationLock}.
+     */
+    private Diagram publishedDiagram;
+
+    /**
+     * The layout request of the latest diagram sent to the subscribers. Guarded by {@link #publicationLock}.
+     */
+    private long publishedLayoutRequest;
+
+    /**
+     * The layout request of the latest diagram saved. Guarded by {@link #saveLock}.
+     */
+    private long savedLayoutRequest;
+
+    /**
+     * Indicates if this refresh manager has been disposed, in which case the layouts still running are neither saved
+     * nor published.
+     */
+    private volatile boolean disposed;
+
+    /**
+     * The latest rendered diagram, used by the incremental refresh even if its layout has not been performed yet.
+     */
+    private Diagram renderedDiagram;
+
+    /**
+     * The number of layouts submitted to the layout pool, used to discard the superseded ones. Guarded by
+     * {@link #layoutLock}.
+     */
+    private long layoutRequestCount;
+
+    /**
+     * The latest layout submitted to the layout pool. Guarded by {@link #layoutLock}.
+     */
+    private Future<?> pendingLayout;
+
+    private DiagramCreationParameters lastDiagramCreationParameters;
+
+    private Map<String, Object> nodeIdToObject;
+
+    private long lastGeneration;
+
+    private RepresentationDependencies dependencies;
+
+    public DiagramRefreshManager(IRepresentationService representationService, IDiagramService diagramService, ILayoutService layoutService, DiagramDeltaProvider diagramDeltaProvider,
+            boolean incrementalRefreshEnabled, DiagramLayoutScheduler diagramLayoutScheduler) {
         this.representationService = Objects.requireNonNull(representationService);
         this.diagramService = Objects.requireNonNull(diagramService);
         this.layoutService = Objects.requireNonNull(layoutService);
+        this.diagramDeltaProvider = Objects.requireNonNull(diagramDeltaProvider);
+        this.incrementalRefreshEnabled = incrementalRefreshEnabled;
+        this.diagramLayoutScheduler = Objects.requireNonNull(diagramLayoutScheduler);
         this.flux = DirectProcessor.create();
         this.sink = this.flux.sink();
+        this.deltaFlux = DirectProcessor.create();
+        this.deltaSink = this.deltaFlux.sink();
     }
 
     /**
@@ -75,7 +180,8 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
      */
     @Override
     public void initialize(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
-        this.computeDiagram(projectId, diagramCreationParameters);
+        Diagram unlayoutedDiagram = this.renderDiagram(diagramCreationParameters);
+        this.layoutDiagram(projectId, unlayoutedDiagram, 0, false);
     }
 
     /**
@@ -88,36 +194,212 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
      */
     @Override
     public void refresh(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
-        this.computeDiagram(projectId, diagramCreationParameters);
-        this.sink.next(new DiagramRefreshedEventPayload(this.diagram));
+        Optional<IEditingContextChangeRecorder> optionalChangeRecorder = this.getChangeRecorder(diagramCreationParameters);
+        boolean isUnchanged = optionalChangeRecorder.filter(changeRecorder -> !changeRecorder.hasChanges()).isPresent();
+        if (isUnchanged && this.canReusePreviousRendering(diagramCreationParameters, optionalChangeRecorder)) {
+            this.logger.debug("The diagram {} has not been impacted by the latest changes", this.diagram.getId()); //$NON-NLS-1$
+            this.recordGeneration(diagramCreationParameters, optionalChangeRecorder);
+            synchronized (this.publicationLock) {
+                this.sink.next(new DiagramRefreshedEventPayload(this.publishedDiagram));
+            }
+        } else {
+            Diagram unlayoutedDiagram = this.renderDiagram(diagramCreationParameters);
+            if (this.diagramLayoutScheduler.isAsynchronousLayoutEnabled()) {
+                this.layoutDiagramAsynchronously(projectId, unlayoutedDiagram);
+            } else {
+                this.layoutDiagram(projectId, unlayoutedDiagram, 0, true);
+            }
+        }
+    }
+
+    @Override
+    public void skipRefresh(DiagramCreationParameters diagramCreationParameters) {
+        this.recordGeneration(diagramCreationParameters, this.getChangeRecorder(diagramCreationParameters));
+    }
+
+    /**
+     * Records that the previous rendering is still up to date after the changes of the current generation, which have
+     * not impacted the diagram.
+     */
+    private void recordGeneration(DiagramCreationParameters diagramCreationParameters, Optional<IEditingContextChangeRecorder> optionalChangeRecorder) {
+        if (this.canReusePreviousRendering(diagramCreationParameters, optionalChangeRecorder)) {
+            this.lastGeneration = optionalChangeRecorder.map(IEditingContextChangeRecorder::getGeneration).orElse(this.lastGeneration);
+        }
+    }
+
+    /**
+     * Sends the differences between the previous diagram and the new one to the subscribers which support them. The
+     * whole diagram is sent if the delta cannot be computed and nothing is sent if the delta is empty.
+     */
+    private void emitDelta(Diagram previousDiagram, DiagramRefreshedEventPayload diagramRefreshedEventPayload) {
+        var optionalDelta = this.diagramDeltaProvider.getDelta(previousDiagram, diagramRefreshedEventPayload.getDiagram());
+        if (optionalDelta.isPresent()) {
+            DiagramDeltaEventPayload delta = optionalDelta.get();
+            this.logger.debug("Delta computed for the diagram {}: {}", previousDiagram.getId(), delta); //$NON-NLS-1$
+            if (!delta.isEmpty()) {
+                this.deltaSink.next(delta);
+            }
+        } else {
+            this.deltaSink.next(diagramRefreshedEventPayload);
+        }
     }
 
-    private void computeDiagram(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
-        IStopWatch stopWatch = new SpringStopWatch("DiagramEventProcessor#init()"); //$NON-NLS-1$
+    private Optional<IEditingContextChangeRecorder> getChangeRecorder(DiagramCreationParameters diagramCreationParameters) {
+        // @formatter:off
+        return Optional.of(diagramCreationParameters.getEditingContext())
+                .filter(IEditingContextChangeRecorder.class::isInstance)
+                .map(IEditingContextChangeRecorder.class::cast);
+        // @formatter:on
+    }
+
+    /**
+     * Indicates if the previous rendering can be used to compute the new diagram. It requires the same creation
+     * parameters and the knowledge of all the changes performed since the previous rendering, which means that at
+     * most one new generation of changes can have started.
+     */
+    private boolean canReusePreviousRendering(DiagramCreationParameters diagramCreationParameters, Optional<IEditingContextChangeRecorder> optionalChangeRecorder) {
+        boolean canReuse = this.incrementalRefreshEnabled && this.renderedDiagram != null && this.nodeIdToObject != null;
+        canReuse = canReuse && diagramCreationParameters == this.lastDiagramCreationParameters;
+        canReuse = canReuse && optionalChangeRecorder.filter(changeRecorder -> changeRecorder.getGeneration() - this.lastGeneration <= 1).isPresent();
+        return canReuse;
+    }
+
+    /**
+     * Renders the diagram, without its layout, in the thread of the project since the rendering reads the semantic
+     * elements of the editing context.
+     */
+    private Diagram renderDiagram(DiagramCreationParameters diagramCreationParameters) {
+        Optional<IEditingContextChangeRecorder> optionalChangeRecorder = this.getChangeRecorder(diagramCreationParameters);
+
+        IncrementalRenderingContext incrementalRenderingContext = null;
+        if (this.canReusePreviousRendering(diagramCreationParameters, optionalChangeRecorder)) {
+            Set<Object> impactedObjects = optionalChangeRecorder.map(changeRecorder -> new HashSet<>(changeRecorder.getImpactedObjects())).orElseGet(HashSet::new);
+            incrementalRenderingContext = new IncrementalRenderingContext(this.renderedDiagram, this.nodeIdToObject, impactedObjects::contains);
+        }
+        long generation = optionalChangeRecorder.map(IEditingContextChangeRecorder::getGeneration).orElse(0L);
+
+        IStopWatch stopWatch = new SpringStopWatch("DiagramEventProcessor#render()"); //$NON-NLS-1$
         stopWatch.start("Diagram creation"); //$NON-NLS-1$
-        Diagram unlayoutedDiagram = this.diagramService.create(diagramCreationParameters);
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        Diagram unlayoutedDiagram = this.diagramService.create(diagramCreationParameters, cache, incrementalRenderingContext);
         stopWatch.stop();
+
+        Set<Object> readObjects = new HashSet<>(cache.getReadObjects());
+        readObjects.addAll(cache.getNodeToObject().values());
+        this.dependencies = new RepresentationDependencies(diagramCreationParameters.getObject(), Collections.unmodifiableSet(readObjects));
+
+        if (this.incrementalRefreshEnabled) {
+            this.renderedDiagram = unlayoutedDiagram;
+            this.nodeIdToObject = cache.getNodeIdToObject();
+            this.lastDiagramCreationParameters = diagramCreationParameters;
+            this.lastGeneration = generation;
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug(stopWatch.prettyPrint());
+        }
+        return unlayoutedDiagram;
+    }
+
+    /**
+     * Submits the layout of the given diagram to the layout pool. The layout of a previous version of the diagram which
+     * has not started yet is cancelled and the result of the one which is running will be discarded.
+     */
+    private void layoutDiagramAsynchronously(UUID projectId, Diagram unlayoutedDiagram) {
+        long layoutRequest = 0;
+        boolean isSubmitted = false;
+        synchronized (this.layoutLock) {
+            this.layoutRequestCount++;
+            layoutRequest = this.layoutRequestCount;
+            if (this.pendingLayout != null) {
+                this.pendingLayout.cancel(false);
+            }
+
+            long submittedLayoutRequest = layoutRequest;
+            this.pendingLayout = this.diagramLayoutScheduler.submit(() -> this.layoutDiagram(projectId, unlayoutedDiagram, submittedLayoutRequest, true)).orElse(null);
+            isSubmitted = this.pendingLayout != null;
+        }
+
+        if (!isSubmitted) {
+            this.layoutDiagram(projectId, unlayoutedDiagram, layoutRequest, true);
+        }
+    }
+
+    /**
+     * Lays out the given diagram and then publishes and saves it unless a more recent version of the diagram has been
+     * submitted to the layout pool in the meantime.
+     */
+    private void layoutDiagram(UUID projectId, Diagram unlayoutedDiagram, long layoutRequest, boolean isRefresh) {
+        IStopWatch stopWatch = new SpringStopWatch("DiagramEventProcessor#layout()"); //$NON-NLS-1$
         stopWatch.start("Diagram layout"); //$NON-NLS-1$
-        this.diagram = this.layoutService.layout(unlayoutedDiagram);
+        Diagram layoutedDiagram = this.layoutService.incrementalLayout(this.diagram, unlayoutedDiagram);
         stopWatch.stop();
 
-        stopWatch.start("Diagram saving"); //$NON-NLS-1$
-        RepresentationDescriptor representationDescriptor = this.getRepresentationDescriptor(projectId);
-        this.representationService.save(representationDescriptor);
-        stopWatch.stop();
+        boolean isLatest = false;
+        synchronized (this.layoutLock) {
+            isLatest = !this.disposed && layoutRequest == this.layoutRequestCount;
+            if (isLatest) {
+                this.diagram = layoutedDiagram;
+            }
+        }
+
+        if (isLatest) {
+            stopWatch.start("Diagram saving"); //$NON-NLS-1$
+            this.save(projectId, layoutedDiagram, layoutRequest);
+            stopWatch.stop();
+
+            this.publish(layoutedDiagram, layoutRequest, isRefresh);
+        } else {
+            this.logger.debug("The layout of the diagram {} has been superseded", unlayoutedDiagram.getId()); //$NON-NLS-1$
+        }
 
         if (this.logger.isDebugEnabled()) {
             this.logger.debug(stopWatch.prettyPrint());
         }
     }
 
-    private RepresentationDescriptor getRepresentationDescriptor(UUID projectId) {
+    /**
+     * Saves the given diagram unless this refresh manager has been disposed or a more recent diagram has already been
+     * saved.
+     */
+    private void save(UUID projectId, Diagram layoutedDiagram, long layoutRequest) {
+        synchronized (this.saveLock) {
+            if (!this.disposed && layoutRequest >= this.savedLayoutRequest) {
+                this.savedLayoutRequest = layoutRequest;
+                this.representationService.save(this.getRepresentationDescriptor(projectId, layoutedDiagram));
+            }
+        }
+    }
+
+    /**
+     * Sends the given diagram to the subscribers, or only records it as the diagram sent to the new subscribers during
+     * the initialization. Nothing is done if a more recent diagram has already been published.
+     */
+    private void publish(Diagram layoutedDiagram, long layoutRequest, boolean isRefresh) {
+        synchronized (this.publicationLock) {
+            if (layoutRequest >= this.publishedLayoutRequest) {
+                this.publishedLayoutRequest = layoutRequest;
+
+                Diagram previousDiagram = this.publishedDiagram;
+                this.publishedDiagram = layoutedDiagram;
+                if (isRefresh) {
+                    DiagramRefreshedEventPayload diagramRefreshedEventPayload = new DiagramRefreshedEventPayload(layoutedDiagram);
+                    this.sink.next(diagramRefreshedEventPayload);
+                    if (this.deltaFlux.hasDownstreams() && previousDiagram != layoutedDiagram) {
+                        this.emitDelta(previousDiagram, diagramRefreshedEventPayload);
+                    }
+                }
+            }
+        }
+    }
+
+    private RepresentationDescriptor getRepresentationDescriptor(UUID projectId, Diagram layoutedDiagram) {
         // @formatter:off
-        return RepresentationDescriptor.newRepresentationDescriptor(this.diagram.getId())
+        return RepresentationDescriptor.newRepresentationDescriptor(layoutedDiagram.getId())
                 .projectId(projectId)
-                .targetObjectId(this.diagram.getTargetObjectId())
-                .label(this.diagram.getLabel())
-                .representation(this.diagram)
+                .targetObjectId(layoutedDiagram.getTargetObjectId())
+                .label(layoutedDiagram.getLabel())
+                .representation(layoutedDiagram)
                 .build();
         // @formatter:on
     }
@@ -127,19 +409,59 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
         return this.diagram;
     }
 
+    @Override
+    public RepresentationDependencies getDependencies() {
+        return this.dependencies;
+    }
+
     @Override
     public Flux<IPayload> getFlux() {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(this.diagram));
-        return Flux.concat(initialRefresh, this.flux);
+        return this.getFlux(this.flux);
     }
 
+    @Override
+    public Flux<IPayload> getFlux(boolean deltaEnabled) {
+        if (deltaEnabled) {
+            return this.getFlux(this.deltaFlux);
+        }
+        return this.getFlux();
+    }
+
+    /**
+     * Starts with the latest published diagram and then relays the events of the given processor. Both are retrieved
+     * under the {@link #publicationLock} so that no event can be published between them.
+     */
+    private Flux<IPayload> getFlux(DirectProcessor<IPayload> processor) {
+        return Flux.create(emitter -> {
+            synchronized (this.publicationLock) {
+                emitter.next(new DiagramRefreshedEventPayload(this.publishedDiagram));
+                Disposable disposable = processor.subscribe(emitter::next, emitter::error, emitter::complete);
+                emitter.onDispose(disposable);
+            }
+        });
+    }
+
+    /**
+     * Disposes this refresh manager. The layout which has not started yet is cancelled and the result of the one which
+     * is running will be discarded.
+     */
     @Override
     public void dispose() {
+        synchronized (this.layoutLock) {
+            this.disposed = true;
+            this.layoutRequestCount++;
+            if (this.pendingLayout != null) {
+                this.pendingLayout.cancel(false);
+            }
+        }
         this.flux.onComplete();
+        this.deltaFlux.onComplete();
     }
 
     @Override
     public void preDestroy() {
-        this.sink.next(new PreDestroyPayload(this.diagram.getId()));
+        PreDestroyPayload preDestroyPayload = new PreDestroyPayload(this.diagram.getId());
+        this.sink.next(preDestroyPayload);
+        this.deltaSink.next(preDestroyPayload);
     }
 }
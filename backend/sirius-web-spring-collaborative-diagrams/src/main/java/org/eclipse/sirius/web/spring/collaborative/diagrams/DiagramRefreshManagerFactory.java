@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramRefreshManager;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
+import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to create the diagram refresh managers.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramRefreshManagerFactory {
+
+    private final IRepresentationService representationService;
+
+    private final IDiagramService diagramService;
+
+    private final ILayoutService layoutService;
+
+    private final DiagramDeltaProvider diagramDeltaProvider;
+
+    private final boolean incrementalRefreshEnabled;
+
+    private final DiagramLayoutScheduler diagramLayoutScheduler;
+
+    public DiagramRefreshManagerFactory(IRepresentationService representationService, IDiagramService diagramService, ILayoutService layoutService, ObjectMapper objectMapper,
+            @Value("${sirius.web.diagrams.incrementalRefresh.enabled:false}") boolean incrementalRefreshEnabled, DiagramLayoutScheduler diagramLayoutScheduler) {
+        this.representationService = Objects.requireNonNull(representationService);
+        this.diagramService = Objects.requireNonNull(diagramService);
+        this.layoutService = Objects.requireNonNull(layoutService);
+        this.diagramDeltaProvider = new DiagramDeltaProvider(Objects.requireNonNull(objectMapper));
+        this.incrementalRefreshEnabled = incrementalRefreshEnabled;
+        this.diagramLayoutScheduler = Objects.requireNonNull(diagramLayoutScheduler);
+    }
+
+    public IDiagramRefreshManager create() {
+        return new DiagramRefreshManager(this.representationService, this.diagramService, this.layoutService, this.diagramDeltaProvider, this.incrementalRefreshEnabled,
+                this.diagramLayoutScheduler);
+    }
+}
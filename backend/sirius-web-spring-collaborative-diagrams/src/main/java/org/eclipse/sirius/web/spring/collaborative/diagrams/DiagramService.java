@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,12 +27,13 @@ import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
 import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderer;
-import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
-import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -47,26 +46,28 @@ import org.springframework.stereotype.Service;
 @Service
 public class DiagramService implements IDiagramService {
 
-    private final IRepresentationRepository representationRepository;
-
-    private final ObjectMapper objectMapper;
+    private final IRepresentationService representationService;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramService.class);
 
-    public DiagramService(IRepresentationRepository representationRepository, ObjectMapper objectMapper) {
-        this.representationRepository = Objects.requireNonNull(representationRepository);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
+    public DiagramService(IRepresentationService representationService) {
+        this.representationService = Objects.requireNonNull(representationService);
     }
 
     @Override
     public Diagram create(DiagramCreationParameters parameters) {
+        return this.create(parameters, new DiagramRenderingCache(), null);
+    }
+
+    @Override
+    public Diagram create(DiagramCreationParameters parameters, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
         VariableManager variableManager = new VariableManager();
         variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, parameters.getId());
         variableManager.put(DiagramDescription.LABEL, parameters.getLabel());
         variableManager.put(VariableManager.SELF, parameters.getObject());
         variableManager.put(IEditingContext.EDITING_CONTEXT, parameters.getEditingContext());
 
-        DiagramComponentProps props = new DiagramComponentProps(variableManager, parameters.getDiagramDescription());
+        DiagramComponentProps props = new DiagramComponentProps(variableManager, parameters.getDiagramDescription(), cache, incrementalRenderingContext);
         Element element = new Element(DiagramComponent.class, props);
         Diagram diagram = new DiagramRenderer(this.logger).render(element);
 
@@ -96,8 +97,7 @@ public class DiagramService implements IDiagramService {
     @Override
     public Optional<Diagram> findById(UUID diagramId) {
         // @formatter:off
-        return this.representationRepository.findById(diagramId)
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+        return this.representationService.getRepresentation(diagramId)
                 .map(RepresentationDescriptor::getRepresentation)
                 .filter(Diagram.class::isInstance)
                 .map(Diagram.class::cast);
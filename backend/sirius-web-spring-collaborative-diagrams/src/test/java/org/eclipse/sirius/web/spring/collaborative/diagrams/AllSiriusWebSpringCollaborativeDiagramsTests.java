@@ -30,6 +30,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
     CodingRulesTestCases.class,
     SpringCodingRulesTestCases.class,
+    DiagramDeltaProviderTestCases.class,
+    DiagramLayoutSchedulerTestCases.class,
+    DiagramRefreshManagerTestCases.class,
     CreateDiagramEventHandlerTestCases.class,
     RenameDiagramEventHandlerTestCases.class,
 })
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.AddedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Test;
+
+/**
+ * Test cases of the computation of the delta between two versions of a diagram.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaProviderTestCases {
+
+    private static final String FIRST_NODE_ID = "firstNode"; //$NON-NLS-1$
+
+    private static final String SECOND_NODE_ID = "secondNode"; //$NON-NLS-1$
+
+    private static final String CHILD_NODE_ID = "childNode"; //$NON-NLS-1$
+
+    private static final String EDGE_ID = "edge"; //$NON-NLS-1$
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    private final DiagramDeltaProvider diagramDeltaProvider = new DiagramDeltaProvider(new ObjectMapper());
+
+    @Test
+    public void testSameDiagram() {
+        Node firstNode = this.testDiagramBuilder.getNode(FIRST_NODE_ID);
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, FIRST_NODE_ID, FIRST_NODE_ID);
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID())).nodes(List.of(firstNode)).edges(List.of(edge)).build();
+        Diagram newDiagram = Diagram.newDiagram(diagram).build();
+
+        Optional<DiagramDeltaEventPayload> optionalDelta = this.diagramDeltaProvider.getDelta(diagram, newDiagram);
+        assertThat(optionalDelta).isPresent();
+        assertThat(optionalDelta.get().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testAddedUpdatedAndRemovedNodes() {
+        Node firstNode = this.testDiagramBuilder.getNode(FIRST_NODE_ID);
+        Node secondNode = this.testDiagramBuilder.getNode(SECOND_NODE_ID);
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID())).nodes(List.of(firstNode, secondNode)).build();
+
+        Label newLabel = Label.newLabel(firstNode.getLabel()).text("newText").build(); //$NON-NLS-1$
+        Node childNode = this.testDiagramBuilder.getNode(CHILD_NODE_ID);
+        Node newFirstNode = Node.newNode(firstNode).label(newLabel).childNodes(List.of(childNode)).build();
+        Diagram newDiagram = Diagram.newDiagram(diagram).nodes(List.of(newFirstNode)).build();
+
+        Optional<DiagramDeltaEventPayload> optionalDelta = this.diagramDeltaProvider.getDelta(diagram, newDiagram);
+        assertThat(optionalDelta).isPresent();
+
+        DiagramDeltaEventPayload delta = optionalDelta.get();
+        assertThat(delta.getUpdatedNodes()).extracting(Node::getId).containsExactly(FIRST_NODE_ID);
+        assertThat(delta.getUpdatedNodes().get(0).getChildNodes()).isEmpty();
+        assertThat(delta.getAddedNodes()).extracting(AddedNode::getParentId).containsExactly(FIRST_NODE_ID);
+        assertThat(delta.getAddedNodes()).extracting(AddedNode::getNode).extracting(Node::getId).containsExactly(CHILD_NODE_ID);
+        assertThat(delta.getRemovedNodeIds()).containsExactly(SECOND_NODE_ID);
+    }
+
+    @Test
+    public void testMovedNode() {
+        Node childNode = this.testDiagramBuilder.getNode(CHILD_NODE_ID);
+        Node firstNode = Node.newNode(this.testDiagramBuilder.getNode(FIRST_NODE_ID)).childNodes(List.of(childNode)).build();
+        Node secondNode = this.testDiagramBuilder.getNode(SECOND_NODE_ID);
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID())).nodes(List.of(firstNode, secondNode)).build();
+
+        Node newFirstNode = Node.newNode(firstNode).childNodes(List.of()).build();
+        Node newSecondNode = Node.newNode(secondNode).childNodes(List.of(childNode)).build();
+        Diagram newDiagram = Diagram.newDiagram(diagram).nodes(List.of(newFirstNode, newSecondNode)).build();
+
+        DiagramDeltaEventPayload delta = this.diagramDeltaProvider.getDelta(diagram, newDiagram).get();
+        assertThat(delta.getUpdatedNodes()).isEmpty();
+        assertThat(delta.getRemovedNodeIds()).containsExactly(CHILD_NODE_ID);
+        assertThat(delta.getAddedNodes()).extracting(AddedNode::getParentId).containsExactly(SECOND_NODE_ID);
+    }
+
+    @Test
+    public void testEdges() {
+        Node firstNode = this.testDiagramBuilder.getNode(FIRST_NODE_ID);
+        Node secondNode = this.testDiagramBuilder.getNode(SECOND_NODE_ID);
+        Edge edge = this.testDiagramBuilder.getEdge(EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID);
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID())).nodes(List.of(firstNode, secondNode)).edges(List.of(edge)).build();
+
+        Edge newEdge = Edge.newEdge(edge).targetId(FIRST_NODE_ID).build();
+        Edge addedEdge = this.testDiagramBuilder.getEdge("addedEdge", SECOND_NODE_ID, FIRST_NODE_ID); //$NON-NLS-1$
+        Diagram newDiagram = Diagram.newDiagram(diagram).edges(List.of(newEdge, addedEdge)).build();
+
+        DiagramDeltaEventPayload delta = this.diagramDeltaProvider.getDelta(diagram, newDiagram).get();
+        assertThat(delta.getUpdatedEdges()).extracting(Edge::getId).containsExactly(EDGE_ID);
+        assertThat(delta.getAddedEdges()).containsExactly(addedEdge);
+        assertThat(delta.getRemovedEdgeIds()).isEmpty();
+
+        Diagram diagramWithoutEdges = Diagram.newDiagram(diagram).edges(List.of()).build();
+        delta = this.diagramDeltaProvider.getDelta(diagram, diagramWithoutEdges).get();
+        assertThat(delta.getRemovedEdgeIds()).containsExactly(EDGE_ID);
+    }
+
+    @Test
+    public void testRenamedDiagram() {
+        Diagram diagram = this.testDiagramBuilder.getDiagram(UUID.randomUUID());
+        Diagram newDiagram = Diagram.newDiagram(diagram).label("newLabel").build(); //$NON-NLS-1$
+
+        assertThat(this.diagramDeltaProvider.getDelta(diagram, newDiagram)).isEmpty();
+    }
+
+    @Test
+    public void testResizedAndMovedDiagram() {
+        Diagram diagram = this.testDiagramBuilder.getDiagram(UUID.randomUUID());
+        Size newSize = Size.newSize().width(diagram.getSize().getWidth() + 1).height(diagram.getSize().getHeight()).build();
+        Diagram resizedDiagram = Diagram.newDiagram(diagram).size(newSize).build();
+        assertThat(this.diagramDeltaProvider.getDelta(diagram, resizedDiagram)).isEmpty();
+
+        Position newPosition = Position.newPosition().x(diagram.getPosition().getX()).y(diagram.getPosition().getY() + 1).build();
+        Diagram movedDiagram = Diagram.newDiagram(diagram).position(newPosition).build();
+        assertThat(this.diagramDeltaProvider.getDelta(diagram, movedDiagram)).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of the diagram layout scheduler.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramLayoutSchedulerTestCases {
+
+    @Test
+    public void testLayoutNotSubmittedWithoutThreads() {
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(0);
+        AtomicInteger layoutCount = new AtomicInteger();
+
+        assertThat(diagramLayoutScheduler.isAsynchronousLayoutEnabled()).isFalse();
+        assertThat(diagramLayoutScheduler.submit(layoutCount::incrementAndGet)).isEmpty();
+        assertThat(layoutCount.get()).isEqualTo(0);
+        diagramLayoutScheduler.preDestroy();
+    }
+
+    @Test
+    public void testLayoutExecutedBySharedExecutor() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(executorService);
+        AtomicInteger layoutCount = new AtomicInteger();
+
+        assertThat(diagramLayoutScheduler.isAsynchronousLayoutEnabled()).isTrue();
+        Optional<Future<?>> optionalFuture = diagramLayoutScheduler.submit(layoutCount::incrementAndGet);
+        assertThat(optionalFuture).isPresent();
+        assertThat(layoutCount.get()).isEqualTo(0);
+
+        executorService.runAll();
+        assertThat(layoutCount.get()).isEqualTo(1);
+        assertThat(optionalFuture.get().isDone()).isTrue();
+        diagramLayoutScheduler.preDestroy();
+        assertThat(executorService.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testCancelledLayoutNotExecuted() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(executorService);
+        AtomicInteger layoutCount = new AtomicInteger();
+
+        Optional<Future<?>> optionalFuture = diagramLayoutScheduler.submit(layoutCount::incrementAndGet);
+        assertThat(optionalFuture).isPresent();
+        optionalFuture.get().cancel(false);
+
+        executorService.runAll();
+        assertThat(layoutCount.get()).isEqualTo(0);
+        diagramLayoutScheduler.preDestroy();
+    }
+
+    @Test
+    public void testRejectedLayoutNotSubmitted() {
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(executorService);
+        diagramLayoutScheduler.preDestroy();
+        AtomicInteger layoutCount = new AtomicInteger();
+
+        assertThat(diagramLayoutScheduler.submit(layoutCount::incrementAndGet)).isEmpty();
+        executorService.runAll();
+        assertThat(layoutCount.get()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.handlers.NoOpDiagramService;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.handlers.NoOpRepresentationService;
+import org.junit.Test;
+
+/**
+ * Unit tests of the diagram refresh manager.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRefreshManagerTestCases {
+
+    private static final String LABEL = "label"; //$NON-NLS-1$
+
+    private final UUID projectId = UUID.randomUUID();
+
+    private final UUID diagramId = UUID.randomUUID();
+
+    private DiagramCreationParameters getDiagramCreationParameters(RecordingEditingContext editingContext) {
+        // @formatter:off
+        DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID())
+                .label(LABEL)
+                .idProvider(variableManager -> UUID.randomUUID())
+                .canCreatePredicate(variableManager -> Boolean.TRUE)
+                .edgeDescriptions(new ArrayList<>())
+                .labelProvider(variableManager -> LABEL)
+                .toolSections(List.of())
+                .nodeDescriptions(new ArrayList<>())
+                .targetObjectIdProvider(variableManager -> "targetObjectId") //$NON-NLS-1$
+                .build();
+
+        return DiagramCreationParameters.newDiagramCreationParameters(this.diagramId)
+                .label(LABEL)
+                .object(new Object())
+                .diagramDescription(diagramDescription)
+                .editingContext(editingContext)
+                .build();
+        // @formatter:on
+    }
+
+    private IDiagramService getDiagramService(List<Boolean> incrementalRenderings) {
+        return new NoOpDiagramService() {
+            @Override
+            public Diagram create(DiagramCreationParameters parameters, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
+                incrementalRenderings.add(incrementalRenderingContext != null);
+                return new TestDiagramBuilder().getDiagram(parameters.getId());
+            }
+        };
+    }
+
+    private ILayoutService getLayoutService() {
+        return new ILayoutService() {
+            @Override
+            public Diagram layout(Diagram diagram) {
+                return diagram;
+            }
+
+            @Override
+            public Diagram incrementalLayout(Diagram previousDiagram, Diagram diagram) {
+                return diagram;
+            }
+        };
+    }
+
+    /**
+     * Returns a diagram service labelling each rendered diagram with the number of the rendering.
+     */
+    private IDiagramService getDiagramService() {
+        AtomicInteger renderingCount = new AtomicInteger();
+        return new NoOpDiagramService() {
+            @Override
+            public Diagram create(DiagramCreationParameters parameters, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
+                Diagram diagram = new TestDiagramBuilder().getDiagram(parameters.getId());
+                return Diagram.newDiagram(diagram).label(String.valueOf(renderingCount.incrementAndGet())).build();
+            }
+        };
+    }
+
+    private IRepresentationService getRepresentationService(List<String> savedLabels) {
+        return new NoOpRepresentationService() {
+            @Override
+            public void save(RepresentationDescriptor representationDescriptor) {
+                savedLabels.add(representationDescriptor.getLabel());
+            }
+        };
+    }
+
+    /**
+     * Returns a layout service recording the label of the diagrams laid out and running the action associated to the
+     * label of a diagram, if any, during its layout.
+     */
+    private ILayoutService getLayoutService(List<String> layoutedLabels, Map<String, Runnable> labelToLayoutAction) {
+        return new ILayoutService() {
+            @Override
+            public Diagram layout(Diagram diagram) {
+                return this.incrementalLayout(null, diagram);
+            }
+
+            @Override
+            public Diagram incrementalLayout(Diagram previousDiagram, Diagram diagram) {
+                layoutedLabels.add(diagram.getLabel());
+                labelToLayoutAction.getOrDefault(diagram.getLabel(), () -> {
+                    // Do nothing
+                }).run();
+                return diagram;
+            }
+        };
+    }
+
+    private List<String> getPublishedLabels(DiagramRefreshManager diagramRefreshManager) {
+        List<String> publishedLabels = Collections.synchronizedList(new ArrayList<>());
+        // @formatter:off
+        diagramRefreshManager.getFlux()
+            .filter(DiagramRefreshedEventPayload.class::isInstance)
+            .map(DiagramRefreshedEventPayload.class::cast)
+            .map(payload -> payload.getDiagram().getLabel())
+            .subscribe(publishedLabels::add);
+        // @formatter:on
+        return publishedLabels;
+    }
+
+    @Test
+    public void testPreviousRenderingReusedAfterSkippedRefreshes() {
+        List<Boolean> incrementalRenderings = new ArrayList<>();
+        RecordingEditingContext editingContext = new RecordingEditingContext();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(editingContext);
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(0);
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(new NoOpRepresentationService(), this.getDiagramService(incrementalRenderings), this.getLayoutService(),
+                new DiagramDeltaProvider(new ObjectMapper()), true, diagramLayoutScheduler);
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        assertThat(incrementalRenderings).containsExactly(false);
+
+        Object otherObject = new Object();
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        diagramRefreshManager.skipRefresh(diagramCreationParameters);
+        editingContext.clearChanges();
+
+        // Nothing has changed during this generation
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        editingContext.clearChanges();
+        assertThat(incrementalRenderings).containsExactly(false);
+
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        diagramRefreshManager.skipRefresh(diagramCreationParameters);
+        editingContext.clearChanges();
+        assertThat(editingContext.getGeneration()).isEqualTo(2);
+
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        assertThat(incrementalRenderings).containsExactly(false, true);
+
+        diagramRefreshManager.dispose();
+        diagramLayoutScheduler.preDestroy();
+    }
+
+    @Test
+    public void testWholeDiagramRenderedAfterMissedChanges() {
+        List<Boolean> incrementalRenderings = new ArrayList<>();
+        RecordingEditingContext editingContext = new RecordingEditingContext();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(editingContext);
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(0);
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(new NoOpRepresentationService(), this.getDiagramService(incrementalRenderings), this.getLayoutService(),
+                new DiagramDeltaProvider(new ObjectMapper()), true, diagramLayoutScheduler);
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+
+        // The diagram is neither refreshed nor told that its refresh has been skipped
+        Object otherObject = new Object();
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        editingContext.clearChanges();
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        editingContext.clearChanges();
+
+        editingContext.setImpactedObjects(Set.of(otherObject));
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        assertThat(incrementalRenderings).containsExactly(false, false);
+
+        diagramRefreshManager.dispose();
+        diagramLayoutScheduler.preDestroy();
+    }
+
+    @Test
+    public void testSupersededLayoutCancelled() {
+        List<String> savedLabels = new ArrayList<>();
+        List<String> layoutedLabels = new ArrayList<>();
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(layoutedLabels, Map.of()), new DiagramDeltaProvider(new ObjectMapper()), false, new DiagramLayoutScheduler(executorService));
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        assertThat(savedLabels).containsExactly("1"); //$NON-NLS-1$
+
+        executorService.runAll();
+        assertThat(layoutedLabels).containsExactly("1", "3"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedLabels).containsExactly("1", "3"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(publishedLabels).containsExactly("1", "3"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(diagramRefreshManager.getDiagram().getLabel()).isEqualTo("3"); //$NON-NLS-1$
+
+        diagramRefreshManager.dispose();
+    }
+
+    @Test
+    public void testRunningSupersededLayoutDiscarded() {
+        List<String> savedLabels = new ArrayList<>();
+        List<String> layoutedLabels = new ArrayList<>();
+        Map<String, Runnable> labelToLayoutAction = new HashMap<>();
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(layoutedLabels, labelToLayoutAction), new DiagramDeltaProvider(new ObjectMapper()), false, new DiagramLayoutScheduler(executorService));
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        // The diagram is refreshed once again while its previous version is being laid out
+        labelToLayoutAction.put("2", () -> diagramRefreshManager.refresh(this.projectId, diagramCreationParameters)); //$NON-NLS-1$
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+
+        executorService.runAll();
+        assertThat(layoutedLabels).containsExactly("1", "2", "3"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertThat(savedLabels).containsExactly("1", "3"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(publishedLabels).containsExactly("1", "3"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        diagramRefreshManager.dispose();
+    }
+
+    @Test
+    public void testPendingLayoutCancelledByDispose() {
+        List<String> savedLabels = new ArrayList<>();
+        List<String> layoutedLabels = new ArrayList<>();
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(layoutedLabels, Map.of()), new DiagramDeltaProvider(new ObjectMapper()), false, new DiagramLayoutScheduler(executorService));
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        diagramRefreshManager.dispose();
+
+        executorService.runAll();
+        assertThat(layoutedLabels).containsExactly("1"); //$NON-NLS-1$
+        assertThat(savedLabels).containsExactly("1"); //$NON-NLS-1$
+        assertThat(publishedLabels).containsExactly("1"); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testRunningLayoutDiscardedAfterDispose() {
+        List<String> savedLabels = new ArrayList<>();
+        List<String> layoutedLabels = new ArrayList<>();
+        Map<String, Runnable> labelToLayoutAction = new HashMap<>();
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(layoutedLabels, labelToLayoutAction), new DiagramDeltaProvider(new ObjectMapper()), false, new DiagramLayoutScheduler(executorService));
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        labelToLayoutAction.put("2", diagramRefreshManager::dispose); //$NON-NLS-1$
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+
+        executorService.runAll();
+        assertThat(layoutedLabels).containsExactly("1", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedLabels).containsExactly("1"); //$NON-NLS-1$
+        assertThat(publishedLabels).containsExactly("1"); //$NON-NLS-1$
+        assertThat(diagramRefreshManager.getDiagram().getLabel()).isEqualTo("1"); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testSynchronousLayoutWithoutThreads() {
+        List<String> savedLabels = new ArrayList<>();
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(new ArrayList<>(), Map.of()), new DiagramDeltaProvider(new ObjectMapper()), false, new DiagramLayoutScheduler(0));
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        assertThat(savedLabels).containsExactly("1", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(publishedLabels).containsExactly("1", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        diagramRefreshManager.dispose();
+    }
+
+    @Test
+    public void testSynchronousLayoutWhenRejected() {
+        List<String> savedLabels = new ArrayList<>();
+        ManualExecutorService executorService = new ManualExecutorService();
+        DiagramLayoutScheduler diagramLayoutScheduler = new DiagramLayoutScheduler(executorService);
+        DiagramCreationParameters diagramCreationParameters = this.getDiagramCreationParameters(new RecordingEditingContext());
+        DiagramRefreshManager diagramRefreshManager = new DiagramRefreshManager(this.getRepresentationService(savedLabels), this.getDiagramService(),
+                this.getLayoutService(new ArrayList<>(), Map.of()), new DiagramDeltaProvider(new ObjectMapper()), false, diagramLayoutScheduler);
+        diagramRefreshManager.initialize(this.projectId, diagramCreationParameters);
+        List<String> publishedLabels = this.getPublishedLabels(diagramRefreshManager);
+
+        diagramLayoutScheduler.preDestroy();
+        diagramRefreshManager.refresh(this.projectId, diagramCreationParameters);
+        assertThat(savedLabels).containsExactly("1", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(publishedLabels).containsExactly("1", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        diagramRefreshManager.dispose();
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service which only runs its tasks, in the calling thread, when asked to. It rejects the tasks submitted after
+ * its shutdown.
+ *
+ * @author sbegaudeau
+ */
+public class ManualExecutorService extends AbstractExecutorService {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private boolean shutdown;
+
+    /**
+     * Runs all the tasks submitted, including those submitted by the tasks being run.
+     */
+    public void runAll() {
+        Runnable task = this.tasks.poll();
+        while (task != null) {
+            task.run();
+            task = this.tasks.poll();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (this.shutdown) {
+            RejectedExecutionException exception = new RejectedExecutionException();
+            throw exception;
+        }
+        this.tasks.add(command);
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        List<Runnable> remainingTasks = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        return remainingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.shutdown && this.tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return this.isTerminated();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextChangeRecorder;
+
+/**
+ * Implementation of the editing context which reports the impacted objects given by the tests and starts a new
+ * generation each time they are cleared.
+ *
+ * @author sbegaudeau
+ */
+public class RecordingEditingContext implements IEditingContext, IEditingContextChangeRecorder {
+
+    private final UUID projectId = UUID.randomUUID();
+
+    private Set<Object> impactedObjects = Set.of();
+
+    private long generation;
+
+    public void setImpactedObjects(Set<Object> impactedObjects) {
+        this.impactedObjects = Objects.requireNonNull(impactedObjects);
+    }
+
+    @Override
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    @Override
+    public Object getDomain() {
+        return null;
+    }
+
+    @Override
+    public Set<Object> getImpactedObjects() {
+        return this.impactedObjects;
+    }
+
+    @Override
+    public Map<Object, Set<Object>> getModifiedObjects() {
+        Map<Object, Set<Object>> modifiedObjects = new HashMap<>();
+        this.impactedObjects.forEach(impactedObject -> modifiedObjects.put(impactedObject, Set.of(impactedObject)));
+        return modifiedObjects;
+    }
+
+    @Override
+    public boolean hasChanges() {
+        return !this.impactedObjects.isEmpty();
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public void clearChanges() {
+        if (this.hasChanges()) {
+            this.impactedObjects = Set.of();
+            this.generation = this.generation + 1;
+        }
+    }
+
+}
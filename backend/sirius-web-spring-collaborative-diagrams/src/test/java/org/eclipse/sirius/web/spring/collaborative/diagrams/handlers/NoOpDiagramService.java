@@ -19,6 +19,8 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParamete
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.IncrementalRenderingContext;
 
 /**
  * Implementation of the diagram service which does nothing.
@@ -32,6 +34,11 @@ public class NoOpDiagramService implements IDiagramService {
         return null;
     }
 
+    @Override
+    public Diagram create(DiagramCreationParameters parameters, DiagramRenderingCache cache, IncrementalRenderingContext incrementalRenderingContext) {
+        return null;
+    }
+
     @Override
     public Optional<Diagram> findById(UUID diagramId) {
         return Optional.empty();
@@ -22,6 +22,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormEventHandler;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormEventProcessor;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormInput;
@@ -140,6 +141,17 @@ public class FormEventProcessor implements IFormEventProcessor {
         this.sink.next(new FormRefreshedEventPayload(form));
     }
 
+    @Override
+    public void skipRefresh() {
+        // Do nothing
+    }
+
+    @Override
+    public Optional<RepresentationDependencies> getDependencies() {
+        // The widgets of the form may display any object reachable from its target, it must thus be refreshed after any change
+        return Optional.empty();
+    }
+
     private Form refreshForm() {
         VariableManager variableManager = new VariableManager();
         variableManager.put(VariableManager.SELF, this.object);
@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventHandler;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventProcessor;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeInput;
@@ -115,6 +116,17 @@ public class TreeEventProcessor implements ITreeEventProcessor {
         this.sink.next(new TreeRefreshedEventPayload(tree));
     }
 
+    @Override
+    public void skipRefresh() {
+        // Do nothing
+    }
+
+    @Override
+    public Optional<RepresentationDependencies> getDependencies() {
+        // The tree displays the content of all the resources of the editing context, it must thus be refreshed after any change
+        return Optional.empty();
+    }
+
     private Tree refreshTree() {
         Tree tree = this.treeService.create(this.treeCreationParameters);
         this.logger.debug(MessageFormat.format("Tree refreshed: {0})", tree)); //$NON-NLS-1$
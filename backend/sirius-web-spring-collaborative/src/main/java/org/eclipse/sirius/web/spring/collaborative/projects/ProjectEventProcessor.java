@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.spring.collaborative.projects;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -21,13 +22,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.eclipse.sirius.web.collaborative.api.dto.BatchInput;
+import org.eclipse.sirius.web.collaborative.api.dto.BatchSuccessPayload;
 import org.eclipse.sirius.web.collaborative.api.dto.DeleteRepresentationInput;
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
 import org.eclipse.sirius.web.collaborative.api.dto.RenameRepresentationSuccessPayload;
@@ -43,6 +45,7 @@ import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.ISemanticRepresentation;
 import org.eclipse.sirius.web.services.api.Context;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
 import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.services.api.dto.IProjectInput;
@@ -50,6 +53,7 @@ import org.eclipse.sirius.web.services.api.dto.IRepresentationInput;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatchFactory;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextChangeRecorder;
 import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
 import org.eclipse.sirius.web.services.api.representations.RenameRepresentationInput;
@@ -62,10 +66,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 
 /**
- * Handles all the inputs which concern a particular project one at a time, in order of arrival, and in a dedicated
- * thread and emit the output events.
+ * Handles all the inputs which concern a particular project one at a time, in order of arrival, and emit the output
+ * events. The inputs are handled by a serial executor backed by the pool of threads shared by all the projects.
  *
  * @author sbegaudeau
  * @author pcdavid
@@ -90,30 +95,41 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
     private final IStopWatchFactory stopWatchFactory;
 
-    private final ExecutorService executor;
+    private final RepresentationRefreshPolicy representationRefreshPolicy;
+
+    private final SerialExecutor executor;
 
     private final Map<UUID, IRepresentationEventProcessor> representationEventProcessors = new ConcurrentHashMap<>();
 
+    private final RepresentationDependencyIndex representationDependencyIndex = new RepresentationDependencyIndex();
+
+    private final Set<UUID> targetedRepresentationIds = new HashSet<>();
+
+    private final Map<UUID, Long> representationIdToRefreshDuration = new ConcurrentHashMap<>();
+
     private final DirectProcessor<IPayload> flux;
 
     private final FluxSink<IPayload> sink;
 
-    public ProjectEventProcessor(UUID projectId, IEditingContextManager editingContextManager, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
-            List<IProjectEventHandler> projectEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory, IStopWatchFactory stopWatchFactory) {
+    private volatile long lastActivityTimestamp = System.currentTimeMillis();
+
+    private Predicate<IRepresentation> deferredRefreshPredicate;
+
+    private long deferredRefreshTimestamp;
+
+    private int deferredRefreshCount;
+
+    public ProjectEventProcessor(UUID projectId, ProjectEventProcessorParameters parameters) {
         this.projectId = Objects.requireNonNull(projectId);
-        this.editingContextManager = Objects.requireNonNull(editingContextManager);
+        this.editingContextManager = parameters.getEditingContextManager();
         this.editingContext = this.editingContextManager.createEditingContext(projectId);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-        this.stopWatchFactory = Objects.requireNonNull(stopWatchFactory);
-
-        this.executor = Executors.newSingleThreadExecutor((Runnable runnable) -> {
-            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-            thread.setName("FIFO Event Handler for project " + this.projectId); //$NON-NLS-1$
-            return thread;
-        });
+        this.applicationEventPublisher = parameters.getApplicationEventPublisher();
+        this.objectService = parameters.getObjectService();
+        this.projectEventHandlers = parameters.getProjectEventHandlers();
+        this.representationEventProcessorComposedFactory = parameters.getRepresentationEventProcessorComposedFactory();
+        this.stopWatchFactory = parameters.getStopWatchFactory();
+        this.representationRefreshPolicy = parameters.getRepresentationRefreshPolicy();
+        this.executor = parameters.getExecutor();
 
         this.flux = DirectProcessor.create();
         this.sink = this.flux.sink();
@@ -125,14 +141,10 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
     }
 
     @Override
-    public Optional<IPayload> handle(IInput input, Context context) {
-        if (this.executor.isShutdown()) {
-            this.logger.warn("Handler for project {} is shutdown", this.projectId); //$NON-NLS-1$
-            return Optional.empty();
-        }
+    public Mono<IPayload> handle(IInput input, Context context) {
+        this.lastActivityTimestamp = System.currentTimeMillis();
 
-        Optional<IPayload> optionalPayload = Optional.empty();
-        Future<Optional<EventHandlerResponse>> future = this.executor.submit(() -> {
+        Optional<CompletableFuture<Optional<IPayload>>> optionalFuture = this.executor.supply(() -> {
             Optional<EventHandlerResponse> optionalResponse = Optional.empty();
             if (context.getPrincipal() instanceof Authentication) {
                 try {
@@ -142,26 +154,40 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
                     SecurityContextHolder.getContext().setAuthentication(null);
                 }
             }
-            return optionalResponse;
+
+            Optional<IPayload> optionalPayload = optionalResponse.map(EventHandlerResponse::getPayload);
+            optionalPayload.ifPresent(outputPayload -> this.emitRenamedEventIfNeeded(input, outputPayload));
+            return optionalPayload;
         });
-        try {
-            // Block until the event has been processed
-            Optional<EventHandlerResponse> optionalResponse = future.get();
 
-            optionalPayload = optionalResponse.map(EventHandlerResponse::getPayload);
-        } catch (InterruptedException | ExecutionException exception) {
-            this.logger.error(exception.getMessage(), exception);
+        Mono<IPayload> payload = Mono.empty();
+        if (optionalFuture.isPresent()) {
+            // @formatter:off
+            payload = Mono.fromFuture(optionalFuture.get())
+                    .flatMap(Mono::justOrEmpty)
+                    .onErrorResume(throwable -> {
+                        this.logger.error(throwable.getMessage(), throwable);
+                        return Mono.empty();
+                    });
+            // @formatter:on
+        } else {
+            this.logger.warn("Handler for project {} is shutdown", this.projectId); //$NON-NLS-1$
         }
+        return payload;
+    }
 
-        if (input instanceof RenameRepresentationInput && optionalPayload.isPresent()) {
-            IPayload payload = optionalPayload.get();
-            if (payload instanceof RenameRepresentationSuccessPayload) {
-                UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
-                String newLabel = ((RenameRepresentationInput) input).getNewLabel();
-                this.sink.next(new RepresentationRenamedEventPayload(representationId, newLabel));
+    private void emitRenamedEventIfNeeded(IInput input, IPayload payload) {
+        if (input instanceof BatchInput && payload instanceof BatchSuccessPayload) {
+            List<IInput> inputs = ((BatchInput) input).getInputs();
+            List<IPayload> payloads = ((BatchSuccessPayload) payload).getPayloads();
+            for (int i = 0; i < inputs.size() && i < payloads.size(); i++) {
+                this.emitRenamedEventIfNeeded(inputs.get(i), payloads.get(i));
             }
+        } else if (input instanceof RenameRepresentationInput && payload instanceof RenameRepresentationSuccessPayload) {
+            UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
+            String newLabel = ((RenameRepresentationInput) input).getNewLabel();
+            this.sink.next(new RepresentationRenamedEventPayload(representationId, newLabel));
         }
-        return optionalPayload;
     }
 
     /**
@@ -179,17 +205,10 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
         IStopWatch stopWatch = this.stopWatchFactory.createStopWatch(input.getClass().getSimpleName());
 
         stopWatch.start("Processing event"); //$NON-NLS-1$
-        if (input instanceof IProjectInput) {
-            optionalResponse = this.handleProjectInput((IProjectInput) input, context);
-
-            if (input instanceof RenameRepresentationInput) {
-                UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
-                if (this.representationEventProcessors.containsKey(representationId)) {
-                    this.handleRepresentationInput((IRepresentationInput) input, context);
-                }
-            }
-        } else if (input instanceof IRepresentationInput) {
-            optionalResponse = this.handleRepresentationInput((IRepresentationInput) input, context);
+        if (input instanceof BatchInput) {
+            optionalResponse = this.handleBatchInput((BatchInput) input, context);
+        } else {
+            optionalResponse = this.handleInput(input, context);
         }
         stopWatch.stop();
 
@@ -197,30 +216,241 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
             EventHandlerResponse response = optionalResponse.get();
 
             this.disposeRepresentationIfNeeded(context);
+            this.addTargetedRepresentationIds(input);
 
-            // @formatter:off
-            this.representationEventProcessors.values().stream()
-                .filter(representationEventProcessor -> {
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    return response.getShouldRefreshPredicate().test(representation);
-                })
-                .forEach(representationEventProcessor -> {
-                    representationEventProcessor.refresh(stopWatch);
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.projectId, representation));
-                });
-            // @formatter:on
+            if (this.shouldDeferRefresh()) {
+                this.deferRefresh(response.getShouldRefreshPredicate());
+            } else {
+                this.refreshRepresentations(response.getShouldRefreshPredicate(), stopWatch);
+            }
 
             if (response.isEditingContextDirty()) {
                 this.editingContextManager.persist(this.projectId, this.editingContext, stopWatch);
             }
         }
 
+        if (this.deferredRefreshPredicate == null) {
+            this.clearChanges();
+        }
+
         this.logger.debug(System.lineSeparator() + stopWatch.prettyPrint());
 
         return optionalResponse;
     }
 
+    private void addTargetedRepresentationIds(IInput input) {
+        if (input instanceof BatchInput) {
+            ((BatchInput) input).getInputs().forEach(this::addTargetedRepresentationIds);
+        } else if (input instanceof IRepresentationInput) {
+            this.targetedRepresentationIds.add(((IRepresentationInput) input).getRepresentationId());
+        }
+    }
+
+    /**
+     * Indicates if the refresh of the representations should be deferred. It is the case when the refresh coalescing
+     * is enabled, some inputs are still waiting to be handled and the oldest deferred refresh is not too old.
+     *
+     * @return <code>true</code> if the refresh should be deferred, <code>false</code> otherwise
+     */
+    private boolean shouldDeferRefresh() {
+        boolean shouldDefer = this.representationRefreshPolicy.isRefreshCoalescingEnabled() && !this.executor.isShutdown() && this.executor.hasPendingTasks();
+        if (shouldDefer && this.deferredRefreshPredicate != null) {
+            long deferredRefreshDelay = System.currentTimeMillis() - this.deferredRefreshTimestamp;
+            shouldDefer = deferredRefreshDelay < this.representationRefreshPolicy.getRefreshCoalescingMaxDelay();
+        }
+        return shouldDefer;
+    }
+
+    /**
+     * Defers the refresh of the representations matching the given predicate. The first deferred refresh schedules a
+     * task at the end of the queue of the project which will refresh all the representations concerned by the deferred
+     * refreshes once the inputs currently waiting have been handled. The changes recorded in the editing context are
+     * kept until this refresh in order to let the representations know all the objects impacted since their last
+     * rendering.
+     *
+     * @param shouldRefreshPredicate
+     *            The predicate used to find the representations to refresh
+     */
+    private void deferRefresh(Predicate<IRepresentation> shouldRefreshPredicate) {
+        if (this.deferredRefreshPredicate == null) {
+            this.deferredRefreshPredicate = shouldRefreshPredicate;
+            this.deferredRefreshTimestamp = System.currentTimeMillis();
+            this.executor.execute(this::refreshDeferredRepresentations);
+        } else {
+            this.deferredRefreshPredicate = this.deferredRefreshPredicate.or(shouldRefreshPredicate);
+        }
+        this.deferredRefreshCount++;
+    }
+
+    private void refreshDeferredRepresentations() {
+        if (this.deferredRefreshPredicate != null) {
+            IStopWatch stopWatch = this.stopWatchFactory.createStopWatch("DeferredRefresh"); //$NON-NLS-1$
+            this.refreshRepresentations(representation -> false, stopWatch);
+            this.clearChanges();
+
+            this.logger.debug(System.lineSeparator() + stopWatch.prettyPrint());
+        }
+    }
+
+    /**
+     * Refreshes the representations matching the given predicate along with the representations concerned by the
+     * deferred refreshes and publishes a {@link RepresentationRefreshedEvent} for each of them. The representations
+     * are refreshed one after the other since they share the lazily created EMF structures of the editing context,
+     * such as the adapters of the item providers. The matching representations which have not been impacted by the
+     * latest changes are only told that their refresh has been skipped.
+     *
+     * @param shouldRefreshPredicate
+     *            The predicate used to find the representations to refresh
+     * @param stopWatch
+     *            The stop watch
+     */
+    private void refreshRepresentations(Predicate<IRepresentation> shouldRefreshPredicate, IStopWatch stopWatch) {
+        Predicate<IRepresentation> predicate = shouldRefreshPredicate;
+        if (this.deferredRefreshPredicate != null) {
+            this.logger.debug("Refreshing the representations of the project {} after {} deferred refreshes", this.projectId, this.deferredRefreshCount); //$NON-NLS-1$
+            predicate = predicate.or(this.deferredRefreshPredicate);
+            this.deferredRefreshPredicate = null;
+            this.deferredRefreshCount = 0;
+        }
+
+        Predicate<IRepresentation> impactPredicate = this.getImpactPredicate();
+        List<IRepresentationEventProcessor> representationEventProcessorsToRefresh = new ArrayList<>();
+        for (IRepresentationEventProcessor representationEventProcessor : this.representationEventProcessors.values()) {
+            IRepresentation representation = representationEventProcessor.getRepresentation();
+            if (predicate.test(representation)) {
+                if (impactPredicate.test(representation)) {
+                    representationEventProcessorsToRefresh.add(representationEventProcessor);
+                } else {
+                    representationEventProcessor.skipRefresh();
+                }
+            }
+        }
+
+        for (IRepresentationEventProcessor representationEventProcessor : representationEventProcessorsToRefresh) {
+            this.refreshRepresentation(representationEventProcessor, stopWatch);
+
+            IRepresentation representation = representationEventProcessor.getRepresentation();
+            this.representationDependencyIndex.update(representation.getId(), representationEventProcessor.getDependencies());
+            this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.projectId, representation));
+        }
+    }
+
+    /**
+     * Refreshes the given representation and records the duration of its refresh.
+     *
+     * @param representationEventProcessor
+     *            The representation event processor to refresh
+     * @param stopWatch
+     *            The stop watch of the input being handled
+     */
+    private void refreshRepresentation(IRepresentationEventProcessor representationEventProcessor, IStopWatch stopWatch) {
+        UUID representationId = representationEventProcessor.getRepresentation().getId();
+
+        long start = System.currentTimeMillis();
+        representationEventProcessor.refresh(stopWatch);
+        long duration = System.currentTimeMillis() - start;
+
+        this.representationIdToRefreshDuration.put(representationId, duration);
+        this.logger.debug("Representation {} refreshed in {}ms", representationId, duration); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the predicate used to keep only the representations which may have been impacted by the changes recorded
+     * in the editing context when the dependency tracking is enabled. The representations targeted by the inputs
+     * handled since the last refresh are always considered as impacted since their inputs may have modified them
+     * without changing any semantic object. Without any recorded change, nothing can be deduced and all the
+     * representations are considered as impacted.
+     *
+     * @return The predicate used to find the representations impacted by the latest changes
+     */
+    private Predicate<IRepresentation> getImpactPredicate() {
+        Predicate<IRepresentation> impactPredicate = representation -> true;
+
+        Optional<Map<Object, Set<Object>>> optionalModifiedObjects = Optional.empty();
+        if (this.representationRefreshPolicy.isDependencyTrackingEnabled()) {
+            // @formatter:off
+            optionalModifiedObjects = Optional.of(this.editingContext)
+                    .filter(IEditingContextChangeRecorder.class::isInstance)
+                    .map(IEditingContextChangeRecorder.class::cast)
+                    .filter(IEditingContextChangeRecorder::hasChanges)
+                    .map(IEditingContextChangeRecorder::getModifiedObjects);
+            // @formatter:on
+        }
+
+        if (optionalModifiedObjects.isPresent()) {
+            Map<Object, Set<Object>> modifiedObjects = optionalModifiedObjects.get();
+            Set<UUID> representationIds = Set.copyOf(this.targetedRepresentationIds);
+            impactPredicate = representation -> {
+                boolean isImpacted = representationIds.contains(representation.getId()) || this.representationDependencyIndex.isImpacted(representation.getId(), modifiedObjects);
+                if (!isImpacted) {
+                    this.logger.debug("The representation {} has not been impacted by the latest changes", representation.getId()); //$NON-NLS-1$
+                }
+                return isImpacted;
+            };
+        }
+        this.targetedRepresentationIds.clear();
+
+        return impactPredicate;
+    }
+
+    private void clearChanges() {
+        // @formatter:off
+        Optional.of(this.editingContext)
+            .filter(IEditingContextChangeRecorder.class::isInstance)
+            .map(IEditingContextChangeRecorder.class::cast)
+            .ifPresent(IEditingContextChangeRecorder::clearChanges);
+        // @formatter:on
+    }
+
+    private Optional<EventHandlerResponse> handleInput(IInput input, Context context) {
+        Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+        if (input instanceof IProjectInput) {
+            optionalResponse = this.handleProjectInput((IProjectInput) input, context);
+
+            if (input instanceof RenameRepresentationInput) {
+                UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
+                if (this.representationEventProcessors.containsKey(representationId)) {
+                    this.handleRepresentationInput((IRepresentationInput) input, context);
+                }
+            }
+        } else if (input instanceof IRepresentationInput) {
+            optionalResponse = this.handleRepresentationInput((IRepresentationInput) input, context);
+        }
+        return optionalResponse;
+    }
+
+    /**
+     * Handles all the inputs of the batch one after the other and merges their responses. The representations will
+     * thus be refreshed only once and the editing context will be persisted only once for the whole batch. Since the
+     * representations are not refreshed between two inputs of the batch, all the inputs of the batch see the
+     * representations as they were before the batch.
+     *
+     * @param batchInput
+     *            The batch input
+     * @param context
+     *            The context
+     * @return The merged response of the inputs of the batch
+     */
+    private Optional<EventHandlerResponse> handleBatchInput(BatchInput batchInput, Context context) {
+        boolean isEditingContextDirty = false;
+        Predicate<IRepresentation> shouldRefreshPredicate = representation -> false;
+        List<IPayload> payloads = new ArrayList<>();
+
+        for (IInput input : batchInput.getInputs()) {
+            Optional<EventHandlerResponse> optionalResponse = this.handleInput(input, context);
+            if (optionalResponse.isPresent()) {
+                EventHandlerResponse response = optionalResponse.get();
+                isEditingContextDirty = isEditingContextDirty || response.isEditingContextDirty();
+                shouldRefreshPredicate = shouldRefreshPredicate.or(response.getShouldRefreshPredicate());
+                payloads.add(response.getPayload());
+            } else {
+                payloads.add(new ErrorPayload(MessageFormat.format("No handler found for event: {0}", input))); //$NON-NLS-1$
+            }
+        }
+
+        return Optional.of(new EventHandlerResponse(isEditingContextDirty, shouldRefreshPredicate, new BatchSuccessPayload(payloads)));
+    }
+
     /**
      * Return <code>true</code> whether the given representation is not attached to a semantic element,
      * <code>false</code> otherwise.
@@ -299,6 +529,7 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
     @Override
     public <T extends IRepresentationEventProcessor> Optional<T> acquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
             SubscriptionDescription subscriptionDescription, Context context) {
+        this.lastActivityTimestamp = System.currentTimeMillis();
         // @formatter:off
         var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(configuration.getId()))
                 .filter(representationEventProcessorClass::isInstance)
@@ -310,6 +541,7 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
             if (optionalRepresentationEventProcessor.isPresent()) {
                 var representationEventProcessor = optionalRepresentationEventProcessor.get();
                 this.representationEventProcessors.put(configuration.getId(), representationEventProcessor);
+                this.representationDependencyIndex.update(configuration.getId(), representationEventProcessor.getDependencies());
                 representationEventProcessor.getSubscriptionManager().add(subscriptionDescription);
             } else {
                 this.logger.warn("The representation with the id {} does not exist", configuration.getId()); //$NON-NLS-1$
@@ -324,6 +556,7 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
     @Override
     public void release(SubscriptionDescription subscriptionDescription, Context context) {
+        this.lastActivityTimestamp = System.currentTimeMillis();
         Optional<UUID> representationIDToRemove = Optional.empty();
         // @formatter:off
         Set<Entry<UUID, IRepresentationEventProcessor>> entries = this.representationEventProcessors.entrySet();
@@ -347,6 +580,8 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
     private void disposeRepresentation(UUID representationId) {
         Optional.ofNullable(this.representationEventProcessors.remove(representationId)).ifPresent(IRepresentationEventProcessor::dispose);
+        this.representationDependencyIndex.remove(representationId);
+        this.representationIdToRefreshDuration.remove(representationId);
     }
 
     @Override
@@ -354,12 +589,76 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
         return this.flux;
     }
 
+    /**
+     * Returns the last time at which an input has been handled or a subscription has been started or terminated.
+     *
+     * @return The timestamp of the last activity of the processor
+     */
+    public long getLastActivityTimestamp() {
+        return this.lastActivityTimestamp;
+    }
+
+    /**
+     * Returns the duration, in milliseconds, of the last refresh of each representation currently opened.
+     *
+     * @return The duration of the last refresh of the representations indexed by their identifier
+     */
+    public Map<UUID, Long> getRefreshDurations() {
+        return Map.copyOf(this.representationIdToRefreshDuration);
+    }
+
+    /**
+     * Indicates if someone is still interested in the project, either through the subscription to a representation or
+     * through the subscription to the events of the project.
+     *
+     * @return <code>true</code> if the processor has active subscriptions, <code>false</code> otherwise
+     */
+    public boolean hasActiveSubscriptions() {
+        return !this.representationEventProcessors.isEmpty() || this.flux.hasDownstreams();
+    }
+
+    /**
+     * Computes a rough estimation of the memory used by the editing context. The estimation is only computed if the
+     * processor is idle, in the calling thread, while the inputs received in the meantime wait for its end. A busy
+     * processor is never evicted, it is thus considered as empty without waiting for its inputs to be handled.
+     *
+     * @return The estimated size of the editing context in bytes or 0 if the processor is busy
+     */
+    public long getEstimatedSize() {
+        AtomicLong estimatedSize = new AtomicLong();
+        this.executor.runIfIdle(() -> estimatedSize.set(this.editingContextManager.getEstimatedSize(this.editingContext)));
+        return estimatedSize.get();
+    }
+
+    /**
+     * Records an activity of the processor. It is used when the processor is acquired by someone who will subscribe to
+     * its events or to one of its representations later.
+     */
+    public void markActive() {
+        this.lastActivityTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Stops the processor if it has no activity since the given timestamp, no active subscriptions and no input being
+     * handled or waiting to be handled. The inputs received afterwards are ignored and the processor should then be
+     * disposed.
+     *
+     * @param evictionTimestamp
+     *            The time at which the processor has been selected to be evicted
+     * @return <code>true</code> if the processor has been stopped, <code>false</code> if it is still in use
+     */
+    public boolean stopIfIdle(long evictionTimestamp) {
+        return this.lastActivityTimestamp < evictionTimestamp && !this.hasActiveSubscriptions() && this.executor.shutdownIfIdle();
+    }
+
     @Override
     public void dispose() {
         this.executor.shutdown();
 
         this.representationEventProcessors.values().stream().forEach(IRepresentationEventProcessor::dispose);
         this.representationEventProcessors.clear();
+        this.representationDependencyIndex.clear();
+        this.representationIdToRefreshDuration.clear();
         this.flux.onComplete();
     }
 
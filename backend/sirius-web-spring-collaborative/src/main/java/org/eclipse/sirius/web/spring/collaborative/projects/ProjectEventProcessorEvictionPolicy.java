@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Policy used to find the project event processors which should be disposed to release the memory used by their
+ * editing context.
+ *
+ * <p>
+ * Only the processors without active subscriptions can be evicted. A processor is evicted if it has been idle for
+ * longer than the idle timeout, if there are more live processors than the maximum allowed, or if the estimated size
+ * of its editing context is above the heap budget of an editing context. The last two rules only apply to processors
+ * which have been idle for at least one eviction interval, and the least recently used processors are evicted first.
+ * Each rule is disabled when its value is 0.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ProjectEventProcessorEvictionPolicy {
+
+    private final Duration idleTimeout;
+
+    private final int maxLiveProjects;
+
+    private final long editingContextHeapBudget;
+
+    private final Duration evictionInterval;
+
+    public ProjectEventProcessorEvictionPolicy(@Value("${sirius.web.projects.eviction.idleTimeout:0}") long idleTimeout,
+            @Value("${sirius.web.projects.eviction.maxLiveProjects:0}") int maxLiveProjects,
+            @Value("${sirius.web.projects.eviction.editingContextHeapBudget:0}") long editingContextHeapBudget,
+            @Value("${sirius.web.projects.eviction.interval:60000}") long evictionInterval) {
+        this.idleTimeout = Duration.ofMillis(idleTimeout);
+        this.maxLiveProjects = maxLiveProjects;
+        this.editingContextHeapBudget = editingContextHeapBudget;
+        this.evictionInterval = Duration.ofMillis(evictionInterval);
+    }
+
+    public boolean isEnabled() {
+        return !this.idleTimeout.isZero() || this.maxLiveProjects > 0 || this.editingContextHeapBudget > 0;
+    }
+
+    public Duration getEvictionInterval() {
+        return this.evictionInterval;
+    }
+
+    /**
+     * Returns the processors which should be evicted, the least recently used first.
+     *
+     * @param processors
+     *            All the live processors
+     * @param now
+     *            The current time in milliseconds
+     * @return The processors to evict
+     */
+    public List<ProjectEventProcessor> getProcessorsToEvict(Collection<ProjectEventProcessor> processors, long now) {
+        // @formatter:off
+        List<ProjectEventProcessor> candidates = processors.stream()
+                .filter(processor -> !processor.hasActiveSubscriptions())
+                .sorted(Comparator.comparingLong(ProjectEventProcessor::getLastActivityTimestamp))
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        List<ProjectEventProcessor> processorsToEvict = new ArrayList<>();
+        int liveProjectCount = processors.size();
+        for (ProjectEventProcessor candidate : candidates) {
+            long idleTime = now - candidate.getLastActivityTimestamp();
+            boolean isIdle = !this.idleTimeout.isZero() && idleTime > this.idleTimeout.toMillis();
+            boolean canBeReclaimed = idleTime > this.evictionInterval.toMillis();
+            boolean hasTooManyProjects = this.maxLiveProjects > 0 && liveProjectCount > this.maxLiveProjects;
+            if (isIdle || (canBeReclaimed && (hasTooManyProjects || this.isAboveHeapBudget(candidate)))) {
+                processorsToEvict.add(candidate);
+                liveProjectCount = liveProjectCount - 1;
+            }
+        }
+        return processorsToEvict;
+    }
+
+    private boolean isAboveHeapBudget(ProjectEventProcessor processor) {
+        return this.editingContextHeapBudget > 0 && processor.getEstimatedSize() > this.editingContextHeapBudget;
+    }
+}
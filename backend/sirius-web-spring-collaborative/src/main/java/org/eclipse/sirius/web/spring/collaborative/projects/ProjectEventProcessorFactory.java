@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.services.api.monitoring.IStopWatchFactory;
+import org.eclipse.sirius.web.services.api.objects.IObjectService;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to create the project event processors.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ProjectEventProcessorFactory {
+
+    private final IEditingContextManager editingContextManager;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final IObjectService objectService;
+
+    private final List<IProjectEventHandler> projectEventHandlers;
+
+    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+    private final IStopWatchFactory stopWatchFactory;
+
+    private final RepresentationRefreshPolicy representationRefreshPolicy;
+
+    public ProjectEventProcessorFactory(IEditingContextManager editingContextManager, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
+            List<IProjectEventHandler> projectEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory, IStopWatchFactory stopWatchFactory,
+            RepresentationRefreshPolicy representationRefreshPolicy) {
+        this.editingContextManager = Objects.requireNonNull(editingContextManager);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+        this.objectService = Objects.requireNonNull(objectService);
+        this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
+        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+        this.stopWatchFactory = Objects.requireNonNull(stopWatchFactory);
+        this.representationRefreshPolicy = Objects.requireNonNull(representationRefreshPolicy);
+    }
+
+    /**
+     * Creates the processor of the given project.
+     *
+     * @param projectId
+     *            The identifier of the project
+     * @param executor
+     *            The executor used to handle the inputs of the project one at a time
+     * @return The project event processor
+     */
+    public ProjectEventProcessor createProjectEventProcessor(UUID projectId, SerialExecutor executor) {
+        // @formatter:off
+        ProjectEventProcessorParameters parameters = ProjectEventProcessorParameters.newProjectEventProcessorParameters(executor)
+                .editingContextManager(this.editingContextManager)
+                .applicationEventPublisher(this.applicationEventPublisher)
+                .objectService(this.objectService)
+                .projectEventHandlers(this.projectEventHandlers)
+                .representationEventProcessorComposedFactory(this.representationEventProcessorComposedFactory)
+                .stopWatchFactory(this.stopWatchFactory)
+                .representationRefreshPolicy(this.representationRefreshPolicy)
+                .build();
+        // @formatter:on
+        return new ProjectEventProcessor(projectId, parameters);
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.services.api.monitoring.IStopWatchFactory;
+import org.eclipse.sirius.web.services.api.objects.IObjectService;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * The collaborators used by a project event processor to handle its inputs. This class uses the builder pattern since
+ * the project event processors need more collaborators than a constructor should receive.
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+public final class ProjectEventProcessorParameters {
+
+    private SerialExecutor executor;
+
+    private IEditingContextManager editingContextManager;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private IObjectService objectService;
+
+    private List<IProjectEventHandler> projectEventHandlers;
+
+    private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+    private IStopWatchFactory stopWatchFactory;
+
+    private RepresentationRefreshPolicy representationRefreshPolicy;
+
+    private ProjectEventProcessorParameters() {
+        // Prevent instantiation
+    }
+
+    public SerialExecutor getExecutor() {
+        return this.executor;
+    }
+
+    public IEditingContextManager getEditingContextManager() {
+        return this.editingContextManager;
+    }
+
+    public ApplicationEventPublisher getApplicationEventPublisher() {
+        return this.applicationEventPublisher;
+    }
+
+    public IObjectService getObjectService() {
+        return this.objectService;
+    }
+
+    public List<IProjectEventHandler> getProjectEventHandlers() {
+        return this.projectEventHandlers;
+    }
+
+    public IRepresentationEventProcessorComposedFactory getRepresentationEventProcessorComposedFactory() {
+        return this.representationEventProcessorComposedFactory;
+    }
+
+    public IStopWatchFactory getStopWatchFactory() {
+        return this.stopWatchFactory;
+    }
+
+    public RepresentationRefreshPolicy getRepresentationRefreshPolicy() {
+        return this.representationRefreshPolicy;
+    }
+
+    public static Builder newProjectEventProcessorParameters(SerialExecutor executor) {
+        return new Builder(executor);
+    }
+
+    /**
+     * The builder of the project event processor parameters.
+     *
+     * @author sbegaudeau
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private SerialExecutor executor;
+
+        private IEditingContextManager editingContextManager;
+
+        private ApplicationEventPublisher applicationEventPublisher;
+
+        private IObjectService objectService;
+
+        private List<IProjectEventHandler> projectEventHandlers;
+
+        private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+        private IStopWatchFactory stopWatchFactory;
+
+        private RepresentationRefreshPolicy representationRefreshPolicy;
+
+        private Builder(SerialExecutor executor) {
+            this.executor = Objects.requireNonNull(executor);
+        }
+
+        public Builder editingContextManager(IEditingContextManager editingContextManager) {
+            this.editingContextManager = Objects.requireNonNull(editingContextManager);
+            return this;
+        }
+
+        public Builder applicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+            this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+            return this;
+        }
+
+        public Builder objectService(IObjectService objectService) {
+            this.objectService = Objects.requireNonNull(objectService);
+            return this;
+        }
+
+        public Builder projectEventHandlers(List<IProjectEventHandler> projectEventHandlers) {
+            this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
+            return this;
+        }
+
+        public Builder representationEventProcessorComposedFactory(IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory) {
+            this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+            return this;
+        }
+
+        public Builder stopWatchFactory(IStopWatchFactory stopWatchFactory) {
+            this.stopWatchFactory = Objects.requireNonNull(stopWatchFactory);
+            return this;
+        }
+
+        public Builder representationRefreshPolicy(RepresentationRefreshPolicy representationRefreshPolicy) {
+            this.representationRefreshPolicy = Objects.requireNonNull(representationRefreshPolicy);
+            return this;
+        }
+
+        public ProjectEventProcessorParameters build() {
+            ProjectEventProcessorParameters projectEventProcessorParameters = new ProjectEventProcessorParameters();
+            projectEventProcessorParameters.executor = this.executor;
+            projectEventProcessorParameters.editingContextManager = Objects.requireNonNull(this.editingContextManager);
+            projectEventProcessorParameters.applicationEventPublisher = Objects.requireNonNull(this.applicationEventPublisher);
+            projectEventProcessorParameters.objectService = Objects.requireNonNull(this.objectService);
+            projectEventProcessorParameters.projectEventHandlers = Objects.requireNonNull(this.projectEventHandlers);
+            projectEventProcessorParameters.representationEventProcessorComposedFactory = Objects.requireNonNull(this.representationEventProcessorComposedFactory);
+            projectEventProcessorParameters.stopWatchFactory = Objects.requireNonNull(this.stopWatchFactory);
+            projectEventProcessorParameters.representationRefreshPolicy = Objects.requireNonNull(this.representationRefreshPolicy);
+            return projectEventProcessorParameters;
+        }
+    }
+}
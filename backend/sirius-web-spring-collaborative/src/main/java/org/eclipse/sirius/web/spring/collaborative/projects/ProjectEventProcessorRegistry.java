@@ -13,35 +13,47 @@
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
 
-import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
-import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
-import org.eclipse.sirius.web.services.api.monitoring.IStopWatchFactory;
-import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
 import org.eclipse.sirius.web.services.api.projects.IProjectService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Registry of the project event processors.
  *
+ * <p>
+ * If an eviction policy is configured, the registry periodically disposes the project event processors selected by
+ * this policy and then flushes their changes. A processor is only evicted if it is idle and if it has not been used
+ * since it has been selected, which is checked while the processor is locked in the registry. Since the inputs are
+ * submitted to the processors and the processors are acquired while they are locked in the registry too, an input or
+ * a subscription is either handled before the eviction or by a new processor.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -53,28 +65,37 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
 
     private final IEditingContextManager editingContextManager;
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProjectEventProcessorFactory projectEventProcessorFactory;
 
-    private final IObjectService objectService;
+    private final ProjectEventScheduler projectEventScheduler;
 
-    private final List<IProjectEventHandler> projectEventHandlers;
+    private final ProjectEventProcessorEvictionPolicy evictionPolicy;
 
-    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+    private final ScheduledExecutorService evictionExecutor;
 
-    private final IStopWatchFactory stopWatchFactory;
+    private final AtomicLong evictionCount = new AtomicLong();
 
     private final ConcurrentMap<UUID, ProjectEventProcessor> projectEventProcessors = new ConcurrentHashMap<>();
 
-    public ProjectEventProcessorRegistry(IProjectService projectService, IEditingContextManager editingContextManager, IObjectService objectService,
-            ApplicationEventPublisher applicationEventPublisher, List<IProjectEventHandler> projectEventHandlers,
-            IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory, IStopWatchFactory stopWatchFactory) {
+    public ProjectEventProcessorRegistry(IProjectService projectService, IEditingContextManager editingContextManager, ProjectEventProcessorFactory projectEventProcessorFactory,
+            ProjectEventScheduler projectEventScheduler, ProjectEventProcessorEvictionPolicy evictionPolicy) {
         this.projectService = Objects.requireNonNull(projectService);
         this.editingContextManager = Objects.requireNonNull(editingContextManager);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-        this.stopWatchFactory = Objects.requireNonNull(stopWatchFactory);
+        this.projectEventProcessorFactory = Objects.requireNonNull(projectEventProcessorFactory);
+        this.projectEventScheduler = Objects.requireNonNull(projectEventScheduler);
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+
+        if (evictionPolicy.isEnabled()) {
+            this.evictionExecutor = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Project event processors eviction"); //$NON-NLS-1$
+                return thread;
+            });
+            long interval = evictionPolicy.getEvictionInterval().toMillis();
+            this.evictionExecutor.scheduleWithFixedDelay(this::evictProjectEventProcessors, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.evictionExecutor = null;
+        }
     }
 
     @Override
@@ -84,18 +105,38 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
 
     @Override
     public Optional<IPayload> dispatchEvent(UUID projectId, IInput input, Context context) {
-        // @formatter:off
-        return this.getOrCreateProjectEventProcessor(projectId)
-                .flatMap(processor -> processor.handle(input, context));
-        // @formatter:on
+        return this.dispatchEventAsync(projectId, input, context).blockOptional();
+    }
+
+    @Override
+    public Mono<IPayload> dispatchEventAsync(UUID projectId, IInput input, Context context) {
+        if (this.projectService.existsById(projectId)) {
+            AtomicReference<Mono<IPayload>> payload = new AtomicReference<>(Mono.empty());
+            this.projectEventProcessors.compute(projectId, (id, currentProjectEventProcessor) -> {
+                ProjectEventProcessor projectEventProcessor = currentProjectEventProcessor;
+                if (projectEventProcessor == null) {
+                    projectEventProcessor = this.createProjectEventProcessor(id);
+                }
+                payload.set(projectEventProcessor.handle(input, context));
+                return projectEventProcessor;
+            });
+            return payload.get();
+        }
+
+        this.logger.error(MessageFormat.format("The project \"{0}\" does not exist", projectId)); //$NON-NLS-1$
+        return Mono.empty();
     }
 
     @Override
     public Optional<IProjectEventProcessor> getOrCreateProjectEventProcessor(UUID projectId) {
         if (this.projectService.existsById(projectId)) {
-            ProjectEventProcessor projectEventHandler = this.projectEventProcessors.computeIfAbsent(projectId, id -> {
-                return new ProjectEventProcessor(id, this.editingContextManager, this.applicationEventPublisher, this.objectService, this.projectEventHandlers,
-                        this.representationEventProcessorComposedFactory, this.stopWatchFactory);
+            ProjectEventProcessor projectEventHandler = this.projectEventProcessors.compute(projectId, (id, currentProjectEventProcessor) -> {
+                ProjectEventProcessor projectEventProcessor = currentProjectEventProcessor;
+                if (projectEventProcessor == null) {
+                    projectEventProcessor = this.createProjectEventProcessor(id);
+                }
+                projectEventProcessor.markActive();
+                return projectEventProcessor;
             });
             return Optional.of(projectEventHandler);
         }
@@ -104,6 +145,10 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
         return Optional.empty();
     }
 
+    private ProjectEventProcessor createProjectEventProcessor(UUID projectId) {
+        return this.projectEventProcessorFactory.createProjectEventProcessor(projectId, this.projectEventScheduler.createSerialExecutor());
+    }
+
     @Override
     public void dispose(UUID projectId) {
         // @formatter:off
@@ -112,9 +157,65 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
         // @formatter:on
     }
 
+    /**
+     * Disposes the project event processors selected by the eviction policy.
+     */
+    public void evictProjectEventProcessors() {
+        long evictionTimestamp = System.currentTimeMillis();
+        var processorsToEvict = this.evictionPolicy.getProcessorsToEvict(new ArrayList<>(this.projectEventProcessors.values()), evictionTimestamp);
+        this.evictProjectEventProcessors(processorsToEvict, evictionTimestamp);
+    }
+
+    /**
+     * Disposes the given project event processors, except the ones which have been used since they have been selected.
+     *
+     * @param processorsToEvict
+     *            The processors to evict
+     * @param evictionTimestamp
+     *            The time at which the processors have been selected
+     */
+    public void evictProjectEventProcessors(List<ProjectEventProcessor> processorsToEvict, long evictionTimestamp) {
+        long evictedCount = processorsToEvict.stream().filter(projectEventProcessor -> this.evict(projectEventProcessor, evictionTimestamp)).count();
+        this.logger.debug("{} project event processors evicted, {} still alive", evictedCount, this.projectEventProcessors.size()); //$NON-NLS-1$
+    }
+
+    /**
+     * Removes the given processor from the registry if it is idle, and then disposes it and flushes its changes. Since
+     * it has been stopped while being idle, all the inputs it has received have already been handled.
+     */
+    private boolean evict(ProjectEventProcessor projectEventProcessor, long evictionTimestamp) {
+        UUID projectId = projectEventProcessor.getProjectId();
+        AtomicReference<ProjectEventProcessor> evictedProjectEventProcessor = new AtomicReference<>();
+        this.projectEventProcessors.computeIfPresent(projectId, (id, currentProjectEventProcessor) -> {
+            Optional<ProjectEventProcessor> optionalProjectEventProcessor = Optional.of(currentProjectEventProcessor);
+            if (currentProjectEventProcessor == projectEventProcessor && projectEventProcessor.stopIfIdle(evictionTimestamp)) {
+                evictedProjectEventProcessor.set(projectEventProcessor);
+                optionalProjectEventProcessor = Optional.empty();
+            }
+            return optionalProjectEventProcessor.orElse(null);
+        });
+
+        Optional<ProjectEventProcessor> optionalEvictedProjectEventProcessor = Optional.ofNullable(evictedProjectEventProcessor.get());
+        optionalEvictedProjectEventProcessor.ifPresent(evicted -> {
+            evicted.dispose();
+            this.editingContextManager.flush(projectId);
+            this.evictionCount.incrementAndGet();
+        });
+        return optionalEvictedProjectEventProcessor.isPresent();
+    }
+
+    public int getLiveProjectEventProcessorCount() {
+        return this.projectEventProcessors.size();
+    }
+
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+
     @PreDestroy
     public void preDestroy() {
         this.logger.debug("Shutting down all the project event processors"); //$NON-NLS-1$
+        Optional.ofNullable(this.evictionExecutor).ifPresent(ExecutorService::shutdown);
         this.projectEventProcessors.values().forEach(ProjectEventProcessor::preDestroy);
     }
 }
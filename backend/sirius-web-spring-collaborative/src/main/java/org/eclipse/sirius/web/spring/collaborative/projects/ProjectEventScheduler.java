@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pool of threads shared by all the project event processors.
+ *
+ * <p>
+ * Each project event processor handles its inputs with its own {@link SerialExecutor} in order to keep processing
+ * them one at a time, in order of arrival, while using a bounded number of threads for the whole server. By default,
+ * the pool contains two threads per available processor.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ProjectEventScheduler {
+
+    private final ExecutorService executorService;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public ProjectEventScheduler(@Value("${sirius.web.projects.eventProcessing.threadCount:0}") int threadCount) {
+        int poolSize = threadCount;
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors() * 2;
+        }
+        this.executorService = Executors.newFixedThreadPool(poolSize, (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("FIFO Event Handler " + this.threadCount.incrementAndGet()); //$NON-NLS-1$
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a new executor which will run its tasks one at a time on the shared pool of threads.
+     *
+     * @return A new serial executor
+     */
+    public SerialExecutor createSerialExecutor() {
+        return new SerialExecutor(this.executorService);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        this.executorService.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
+
+/**
+ * Keeps track of the semantic objects used by the last rendering of each representation of a project.
+ *
+ * <p>
+ * A representation whose dependencies are unknown is considered as impacted by any change. Only the objects which have
+ * been read through the semantic elements of the representation are known while its expressions may read any other
+ * object. A representation is thus considered as impacted by the modification of any object outside of the
+ * containment subtree of its target object. In this subtree, a representation is only impacted by the modification of
+ * its target object or of an object contained in one of the objects it has read.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDependencyIndex {
+
+    private final Map<UUID, RepresentationDependencies> representationIdToDependencies = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the dependencies of the given representation.
+     *
+     * @param representationId
+     *            The identifier of the representation
+     * @param optionalDependencies
+     *            The semantic objects used by the last rendering of the representation, if they are known
+     */
+    public void update(UUID representationId, Optional<RepresentationDependencies> optionalDependencies) {
+        if (optionalDependencies.isPresent()) {
+            this.representationIdToDependencies.put(representationId, optionalDependencies.get());
+        } else {
+            this.representationIdToDependencies.remove(representationId);
+        }
+    }
+
+    public void remove(UUID representationId) {
+        this.representationIdToDependencies.remove(representationId);
+    }
+
+    public void clear() {
+        this.representationIdToDependencies.clear();
+    }
+
+    /**
+     * Indicates if the given representation may have been impacted by the modification of the given objects.
+     *
+     * @param representationId
+     *            The identifier of the representation
+     * @param modifiedObjects
+     *            The modified objects, each one associated to itself along with all its containers
+     * @return <code>true</code> if the representation may have been impacted by some modifications or if its
+     *         dependencies are unknown, <code>false</code> otherwise
+     */
+    public boolean isImpacted(UUID representationId, Map<Object, Set<Object>> modifiedObjects) {
+        RepresentationDependencies dependencies = this.representationIdToDependencies.get(representationId);
+
+        boolean isImpacted = true;
+        if (dependencies != null) {
+            isImpacted = modifiedObjects.entrySet().stream().anyMatch(entry -> this.isImpacted(dependencies, entry));
+        }
+        return isImpacted;
+    }
+
+    private boolean isImpacted(RepresentationDependencies dependencies, Entry<Object, Set<Object>> modifiedObjectEntry) {
+        Object targetObject = dependencies.getTargetObject();
+        Object modifiedObject = modifiedObjectEntry.getKey();
+        Set<Object> impactedObjects = modifiedObjectEntry.getValue();
+
+        boolean isInTargetObjectSubtree = impactedObjects.contains(targetObject);
+        // @formatter:off
+        return !isInTargetObjectSubtree
+                || targetObject.equals(modifiedObject)
+                || impactedObjects.stream()
+                        .filter(impactedObject -> !targetObject.equals(impactedObject))
+                        .anyMatch(dependencies.getReadObjects()::contains);
+        // @formatter:on
+    }
+
+}
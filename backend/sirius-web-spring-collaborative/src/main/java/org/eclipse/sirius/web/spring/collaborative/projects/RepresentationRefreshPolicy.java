@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Configuration of the refresh of the representations after the handling of an input.
+ *
+ * <p>
+ * When the refresh coalescing is enabled, the project event processors defer the refresh of their representations
+ * while some inputs are still waiting in their queue, for at most the configured delay, in order to render the
+ * representations only once for a burst of inputs.
+ * </p>
+ * <p>
+ * When the dependency tracking is enabled, the project event processors only refresh the representations whose last
+ * rendering has read some of the semantic objects impacted by the changes recorded in the editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationRefreshPolicy {
+
+    private final boolean refreshCoalescingEnabled;
+
+    private final long refreshCoalescingMaxDelay;
+
+    private final boolean dependencyTrackingEnabled;
+
+    public RepresentationRefreshPolicy(@Value("${sirius.web.projects.refresh.coalescing.enabled:false}") boolean refreshCoalescingEnabled,
+            @Value("${sirius.web.projects.refresh.coalescing.maxDelay:500}") long refreshCoalescingMaxDelay,
+            @Value("${sirius.web.projects.refresh.dependencyTracking.enabled:false}") boolean dependencyTrackingEnabled) {
+        this.refreshCoalescingEnabled = refreshCoalescingEnabled;
+        this.refreshCoalescingMaxDelay = refreshCoalescingMaxDelay;
+        this.dependencyTrackingEnabled = dependencyTrackingEnabled;
+    }
+
+    /**
+     * Indicates if the refresh of the representations should be deferred while some inputs are still waiting to be
+     * handled by the project event processor.
+     *
+     * @return <code>true</code> if the refresh of the representations should be coalesced, <code>false</code> otherwise
+     */
+    public boolean isRefreshCoalescingEnabled() {
+        return this.refreshCoalescingEnabled;
+    }
+
+    /**
+     * Returns the maximum time, in milliseconds, during which the refresh of the representations can be deferred.
+     *
+     * @return The maximum delay of a deferred refresh
+     */
+    public long getRefreshCoalescingMaxDelay() {
+        return this.refreshCoalescingMaxDelay;
+    }
+
+    /**
+     * Indicates if the representations which do not depend on any of the semantic objects impacted by the latest
+     * changes should not be refreshed.
+     *
+     * @return <code>true</code> if the dependencies of the representations should be tracked, <code>false</code>
+     *         otherwise
+     */
+    public boolean isDependencyTrackingEnabled() {
+        return this.dependencyTrackingEnabled;
+    }
+}
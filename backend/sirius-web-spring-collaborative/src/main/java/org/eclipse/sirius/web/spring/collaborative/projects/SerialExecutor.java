@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor running its tasks one at a time, in order of submission, on a shared executor.
+ *
+ * <p>
+ * Several serial executors can share the same pool of threads while still guaranteeing that the tasks submitted to
+ * each of them are executed sequentially. If the shared executor rejects a task, the serial executor is shut down and
+ * all its waiting tasks are rejected too, the futures returned by {@link #supply(Supplier)} being completed with a
+ * {@link RejectedExecutionException}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutor implements Executor {
+
+    private final Logger logger = LoggerFactory.getLogger(SerialExecutor.class);
+
+    private final Executor executor;
+
+    private final Queue<SerialTask> tasks = new ArrayDeque<>();
+
+    private Runnable activeTask;
+
+    private volatile boolean shutdown;
+
+    public SerialExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Submits the given task, which will be executed once all the tasks submitted before have been executed. The task
+     * is ignored if the executor has been shut down.
+     *
+     * @param runnable
+     *            The task to execute
+     */
+    @Override
+    public void execute(Runnable runnable) {
+        boolean isAccepted = this.submit(new SerialTask(runnable, () -> this.logger.warn("A task has been rejected by the shared executor"))); //$NON-NLS-1$
+        if (!isAccepted) {
+            this.logger.warn("A task has been submitted after the shutdown of the executor"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Submits the given supplier, which will be executed once all the tasks submitted before have been executed.
+     *
+     * @param supplier
+     *            The supplier to execute
+     * @return The future completed with the result of the supplier or an empty optional if the executor has been shut
+     *         down
+     */
+    public <T> Optional<CompletableFuture<T>> supply(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> future.completeAsync(supplier, Runnable::run);
+        Runnable rejectionHandler = () -> future.completeExceptionally(new RejectedExecutionException("The task has been rejected by the shared executor")); //$NON-NLS-1$
+
+        Optional<CompletableFuture<T>> optionalFuture = Optional.empty();
+        if (this.submit(new SerialTask(task, rejectionHandler))) {
+            optionalFuture = Optional.of(future);
+        }
+        return optionalFuture;
+    }
+
+    private boolean submit(SerialTask serialTask) {
+        List<SerialTask> rejectedTasks = List.of();
+        boolean isAccepted;
+        synchronized (this) {
+            isAccepted = !this.shutdown;
+            if (isAccepted) {
+                this.tasks.add(serialTask);
+                if (this.activeTask == null) {
+                    rejectedTasks = this.executeNextTask();
+                }
+            }
+        }
+        rejectedTasks.forEach(SerialTask::reject);
+        return isAccepted;
+    }
+
+    private void scheduleNext() {
+        this.executeNextTask().forEach(SerialTask::reject);
+    }
+
+    /**
+     * Executes the next waiting task on the shared executor. If the shared executor rejects it, this executor is shut
+     * down and all the waiting tasks are returned in order to be rejected outside of the lock, since their rejection
+     * handlers may complete some futures.
+     *
+     * @return The tasks rejected by the shared executor
+     */
+    private synchronized List<SerialTask> executeNextTask() {
+        List<SerialTask> rejectedTasks = new ArrayList<>();
+        SerialTask nextTask = this.tasks.poll();
+        this.activeTask = nextTask;
+        if (nextTask != null) {
+            try {
+                this.executor.execute(nextTask);
+            } catch (RejectedExecutionException exception) {
+                this.logger.error(exception.getMessage(), exception);
+                rejectedTasks.add(nextTask);
+                rejectedTasks.addAll(this.tasks);
+                this.tasks.clear();
+                this.activeTask = null;
+                this.shutdown = true;
+            }
+        }
+        return rejectedTasks;
+    }
+
+    /**
+     * Indicates if some tasks are waiting for the end of the task currently executed.
+     *
+     * @return <code>true</code> if some tasks are waiting to be executed, <code>false</code> otherwise
+     */
+    public synchronized boolean hasPendingTasks() {
+        return !this.tasks.isEmpty();
+    }
+
+    /**
+     * Runs the given task in the calling thread if no other task is being executed. The tasks submitted in the meantime
+     * will wait for the end of the given task.
+     *
+     * @param task
+     *            The task to run
+     * @return <code>true</code> if the task has been run, <code>false</code> if the executor was busy or shut down
+     */
+    public boolean runIfIdle(Runnable task) {
+        synchronized (this) {
+            if (this.activeTask != null || this.shutdown) {
+                return false;
+            }
+            this.activeTask = task;
+        }
+        try {
+            task.run();
+        } finally {
+            this.scheduleNext();
+        }
+        return true;
+    }
+
+    /**
+     * Shuts down the executor only if no task is being executed or waiting to be executed.
+     *
+     * @return <code>true</code> if the executor is now shut down without any task left, <code>false</code> otherwise
+     */
+    public synchronized boolean shutdownIfIdle() {
+        if (this.activeTask == null && this.tasks.isEmpty()) {
+            this.shutdown = true;
+        }
+        return this.shutdown && this.activeTask == null;
+    }
+
+    /**
+     * Rejects all the tasks submitted from now on. The tasks already submitted will still be executed.
+     */
+    public synchronized void shutdown() {
+        this.shutdown = true;
+    }
+
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    /**
+     * A task executed by the serial executor, which schedules the next task once it has been executed.
+     *
+     * @author sbegaudeau
+     */
+    private final class SerialTask implements Runnable {
+
+        private final Runnable task;
+
+        private final Runnable rejectionHandler;
+
+        SerialTask(Runnable task, Runnable rejectionHandler) {
+            this.task = Objects.requireNonNull(task);
+            this.rejectionHandler = Objects.requireNonNull(rejectionHandler);
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.task.run();
+            } finally {
+                SerialExecutor.this.scheduleNext();
+            }
+        }
+
+        public void reject() {
+            this.rejectionHandler.run();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.representations.LRUCache;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+
+/**
+ * Bounded cache of the representation descriptors deserialized from the database.
+ *
+ * <p>
+ * The least recently used descriptors are evicted once the maximum size of the cache has been reached. A maximum size
+ * lower or equal to zero disables the cache.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDescriptorCache {
+
+    private final LRUCache<UUID, RepresentationDescriptor> representationIdToDescriptor;
+
+    public RepresentationDescriptorCache(int maxSize) {
+        this.representationIdToDescriptor = new LRUCache<>(maxSize);
+    }
+
+    public Optional<RepresentationDescriptor> get(UUID representationId) {
+        return this.representationIdToDescriptor.get(representationId);
+    }
+
+    public void put(RepresentationDescriptor representationDescriptor) {
+        this.representationIdToDescriptor.put(representationDescriptor.getId(), representationDescriptor);
+    }
+
+    public void remove(UUID representationId) {
+        this.representationIdToDescriptor.remove(representationId);
+    }
+
+    public int size() {
+        return this.representationIdToDescriptor.size();
+    }
+}
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
@@ -60,7 +61,7 @@ public class RepresentationMapper {
         // @formatter:on
     }
 
-    public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity) {
+    public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity, String content) {
         RepresentationEntity representationEntity = new RepresentationEntity();
 
         representationEntity.setId(representationDescriptor.getId());
@@ -68,14 +69,26 @@ public class RepresentationMapper {
         representationEntity.setLabel(representationDescriptor.getLabel());
         representationEntity.setTargetObjectId(representationDescriptor.getTargetObjectId());
         representationEntity.setContentType(representationDescriptor.getRepresentation().getClass().getSimpleName());
+        representationEntity.setContent(content);
+
+        return representationEntity;
+    }
+
+    /**
+     * Serializes the representation of the given descriptor to JSON.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @return The JSON content of the representation or an empty optional if it could not be serialized
+     */
+    public Optional<String> toContent(RepresentationDescriptor representationDescriptor) {
+        Optional<String> optionalContent = Optional.empty();
         try {
-            String content = this.objectMapper.writeValueAsString(representationDescriptor.getRepresentation());
-            representationEntity.setContent(content);
+            optionalContent = Optional.of(this.objectMapper.writeValueAsString(representationDescriptor.getRepresentation()));
         } catch (JsonProcessingException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
-
-        return representationEntity;
+        return optionalContent;
     }
 
 }
@@ -14,26 +14,50 @@ package org.eclipse.sirius.web.spring.collaborative.representations;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadata;
 import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
 import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository;
+import org.eclipse.sirius.web.representations.LRUCache;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
 import org.eclipse.sirius.web.services.api.monitoring.IStopWatchFactory;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * The service to manipulate representations.
+ * <p>
+ * The representations deserialized from the database are kept in a bounded cache. Before using a cached
+ * representation, its metadata are retrieved without its content in order to make sure that it still exists and that
+ * it has not been renamed. Since all the representations are saved by this service, the cache is updated on each save
+ * and each deletion.
+ * </p>
+ * <p>
+ * A hash of the last content saved for each representation is also kept in a bounded cache in order to skip the saves
+ * of representations which have been refreshed without any visible change. The hash covers the content and all the
+ * metadata of the representation and it is only recorded once the representation has been persisted, a save is thus
+ * skipped without querying the database. The hash of a representation is forgotten when it is deleted.
+ * </p>
  *
  * @author gcoutable
  */
@@ -50,11 +74,25 @@ public class RepresentationService implements IRepresentationService {
 
     private final IStopWatchFactory stopWatchFactory;
 
-    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, IStopWatchFactory stopWatchFactory) {
+    private final RepresentationDescriptorCache representationDescriptorCache;
+
+    /**
+     * The hash of the last content saved for each representation.
+     */
+    private final LRUCache<UUID, String> representationIdToContentHash;
+
+    private final AtomicLong skippedSaveCount = new AtomicLong();
+
+    private final AtomicLong performedSaveCount = new AtomicLong();
+
+    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, IStopWatchFactory stopWatchFactory,
+            @Value("${sirius.web.representations.cache.maxSize:100}") int cacheMaxSize, @Value("${sirius.web.representations.contentHashes.maxSize:1000}") int contentHashesMaxSize) {
         this.projectRepository = Objects.requireNonNull(projectRepository);
         this.representationRepository = Objects.requireNonNull(representationRepository);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.stopWatchFactory = Objects.requireNonNull(stopWatchFactory);
+        this.representationDescriptorCache = new RepresentationDescriptorCache(cacheMaxSize);
+        this.representationIdToContentHash = new LRUCache<>(contentHashesMaxSize);
     }
 
     @Override
@@ -64,56 +102,187 @@ public class RepresentationService implements IRepresentationService {
 
     @Override
     public Optional<RepresentationDescriptor> getRepresentationDescriptorForProjectId(UUID projectId, UUID representationId) {
-        return this.representationRepository.findByIdAndProjectId(representationId, projectId).map(new RepresentationMapper(this.objectMapper)::toDTO);
+        // @formatter:off
+        return this.representationRepository.findMetadataById(representationId)
+                .filter(representationMetadata -> Objects.equals(projectId, representationMetadata.getProjectId()))
+                .map(List::of)
+                .map(this::getRepresentationDescriptors)
+                .flatMap(representationDescriptors -> representationDescriptors.stream().findFirst());
+        // @formatter:on
     }
 
     @Override
     public List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId) {
+        return this.getRepresentationDescriptors(this.representationRepository.findAllMetadataByProjectId(projectId));
+    }
+
+    @Override
+    public List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId) {
+        return this.getRepresentationDescriptors(this.representationRepository.findAllMetadataByTargetObjectId(objectId));
+    }
+
+    @Override
+    public List<RepresentationMetadata> getRepresentationMetadataForObjectId(String objectId) {
         // @formatter:off
-        return this.representationRepository.findAllByProjectId(projectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+        return this.representationRepository.findAllMetadataByTargetObjectId(objectId).stream()
+                .map(representationMetadata -> new RepresentationMetadata(representationMetadata.getId(), representationMetadata.getProjectId(),
+                        representationMetadata.getTargetObjectId(), representationMetadata.getLabel(), representationMetadata.getContentType()))
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
-    @Override
-    public List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId) {
+    /**
+     * Returns the representation descriptors matching the given metadata, in the same order. The descriptors are
+     * retrieved from the cache when they are up to date and all the other ones are loaded from the database at once.
+     *
+     * @param representationsMetadata
+     *            The metadata of the representations
+     * @return The representation descriptors
+     */
+    private List<RepresentationDescriptor> getRepresentationDescriptors(List<IRepresentationMetadata> representationsMetadata) {
+        Map<UUID, RepresentationDescriptor> representationIdToDescriptor = new HashMap<>();
+        List<UUID> representationIdsToLoad = new ArrayList<>();
+        for (IRepresentationMetadata representationMetadata : representationsMetadata) {
+            // @formatter:off
+            this.representationDescriptorCache.get(representationMetadata.getId())
+                .filter(representationDescriptor -> this.isUpToDate(representationDescriptor, representationMetadata))
+                .ifPresentOrElse(representationDescriptor -> representationIdToDescriptor.put(representationDescriptor.getId(), representationDescriptor),
+                        () -> representationIdsToLoad.add(representationMetadata.getId()));
+            // @formatter:on
+        }
+
+        if (!representationIdsToLoad.isEmpty()) {
+            this.logger.debug("{} representations found in the cache, {} representations to load", representationIdToDescriptor.size(), representationIdsToLoad.size()); //$NON-NLS-1$
+            RepresentationMapper representationMapper = new RepresentationMapper(this.objectMapper);
+            for (RepresentationEntity representationEntity : this.representationRepository.findAllById(representationIdsToLoad)) {
+                RepresentationDescriptor representationDescriptor = representationMapper.toDTO(representationEntity);
+                this.representationDescriptorCache.put(representationDescriptor);
+                representationIdToDescriptor.put(representationDescriptor.getId(), representationDescriptor);
+            }
+        }
+
         // @formatter:off
-        return this.representationRepository.findAllByTargetObjectId(objectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+        return representationsMetadata.stream()
+                .map(IRepresentationMetadata::getId)
+                .map(representationIdToDescriptor::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
+    private boolean isUpToDate(RepresentationDescriptor representationDescriptor, IRepresentationMetadata representationMetadata) {
+        return Objects.equals(representationDescriptor.getLabel(), representationMetadata.getLabel())
+                && Objects.equals(representationDescriptor.getTargetObjectId(), representationMetadata.getTargetObjectId());
+    }
+
     @Override
     public void save(RepresentationDescriptor representationDescriptor) {
         IStopWatch stopWatch = this.stopWatchFactory.createStopWatch("Saving representation"); //$NON-NLS-1$
+        stopWatch.start("Serialization to JSON"); //$NON-NLS-1$
+        RepresentationMapper representationMapper = new RepresentationMapper(this.objectMapper);
+        Optional<String> optionalContent = representationMapper.toContent(representationDescriptor);
+        stopWatch.stop();
+
+        if (optionalContent.isPresent()) {
+            String content = optionalContent.get();
+            String contentHash = this.getContentHash(representationDescriptor, content);
+            boolean isPersisted = this.isUnchanged(representationDescriptor, contentHash);
+            if (isPersisted) {
+                this.skippedSaveCount.incrementAndGet();
+                this.logger.debug("Representation {} unchanged, save skipped", representationDescriptor.getId()); //$NON-NLS-1$
+            } else {
+                isPersisted = this.saveEntity(representationDescriptor, representationMapper, content, stopWatch);
+                if (isPersisted && !contentHash.isEmpty()) {
+                    this.representationIdToContentHash.put(representationDescriptor.getId(), contentHash);
+                }
+            }
+
+            if (isPersisted) {
+                this.representationDescriptorCache.put(representationDescriptor);
+            }
+        }
+        this.logger.debug(System.lineSeparator() + stopWatch.prettyPrint());
+    }
+
+    /**
+     * Indicates if the hash of the representation matches the hash of the last content persisted by this service.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @param contentHash
+     *            The hash of the representation
+     * @return <code>true</code> if the representation does not need to be saved, <code>false</code> otherwise
+     */
+    private boolean isUnchanged(RepresentationDescriptor representationDescriptor, String contentHash) {
+        // @formatter:off
+        return !contentHash.isEmpty() && this.representationIdToContentHash.get(representationDescriptor.getId())
+                .filter(contentHash::equals)
+                .isPresent();
+        // @formatter:on
+    }
+
+    private boolean saveEntity(RepresentationDescriptor representationDescriptor, RepresentationMapper representationMapper, String content, IStopWatch stopWatch) {
         stopWatch.start("Finding ProjectEntity"); //$NON-NLS-1$
         var optionalProjectEntity = this.projectRepository.findById(representationDescriptor.getProjectId());
+        stopWatch.stop();
         if (optionalProjectEntity.isPresent()) {
             ProjectEntity projectEntity = optionalProjectEntity.get();
-            stopWatch.stop();
-            stopWatch.start("RepresentationEntity creation (incl. serialization to JSON)"); //$NON-NLS-1$
-            RepresentationEntity representationEntity = new RepresentationMapper(this.objectMapper).toEntity(representationDescriptor, projectEntity);
-            stopWatch.stop();
-            int length = representationEntity.getContent().length() / 1024;
+            RepresentationEntity representationEntity = representationMapper.toEntity(representationDescriptor, projectEntity, content);
+            int length = content.length() / 1024;
             stopWatch.start("Saving RepresentationEntity to database (" + length + " kiB)"); //$NON-NLS-1$ //$NON-NLS-2$
             this.representationRepository.save(representationEntity);
             stopWatch.stop();
+
+            this.performedSaveCount.incrementAndGet();
         }
-        this.logger.debug(System.lineSeparator() + stopWatch.prettyPrint());
+        return optionalProjectEntity.isPresent();
+    }
+
+    /**
+     * Computes a hash of everything persisted for the given representation.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @param content
+     *            The JSON content of the representation
+     * @return The hash of the representation or an empty string if it could not be computed
+     */
+    private String getContentHash(RepresentationDescriptor representationDescriptor, String content) {
+        String contentHash = ""; //$NON-NLS-1$
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+            String metadata = String.join(System.lineSeparator(), representationDescriptor.getProjectId().toString(), representationDescriptor.getTargetObjectId(), representationDescriptor.getLabel());
+            messageDigest.update(metadata.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+            contentHash = Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        return contentHash;
+    }
+
+    public long getSkippedSaveCount() {
+        return this.skippedSaveCount.get();
+    }
+
+    public long getPerformedSaveCount() {
+        return this.performedSaveCount.get();
     }
 
     @Override
     public Optional<RepresentationDescriptor> getRepresentation(UUID representationId) {
         // @formatter:off
-        return this.representationRepository.findById(representationId)
-                .map(new RepresentationMapper(this.objectMapper)::toDTO);
-        // @formatter:off
+        return this.representationRepository.findMetadataById(representationId)
+                .map(List::of)
+                .map(this::getRepresentationDescriptors)
+                .flatMap(representationDescriptors -> representationDescriptors.stream().findFirst());
+        // @formatter:on
     }
 
     @Override
     public void delete(UUID representationId) {
+        this.representationDescriptorCache.remove(representationId);
+        this.representationIdToContentHash.remove(representationId);
         this.representationRepository.deleteById(representationId);
     }
 }
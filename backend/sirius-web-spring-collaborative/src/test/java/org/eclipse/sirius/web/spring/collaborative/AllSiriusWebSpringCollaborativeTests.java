@@ -18,7 +18,12 @@ import org.eclipse.sirius.web.spring.collaborative.handlers.CreateChildEventHand
 import org.eclipse.sirius.web.spring.collaborative.handlers.CreateRootObjectEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.handlers.DeleteObjectEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.handlers.RenameObjectEventHandlerTestCases;
+import org.eclipse.sirius.web.spring.collaborative.projects.ProjectEventProcessorEvictionPolicyTestCases;
+import org.eclipse.sirius.web.spring.collaborative.projects.ProjectEventProcessorTestCases;
 import org.eclipse.sirius.web.spring.collaborative.projects.ProjectServiceTestCases;
+import org.eclipse.sirius.web.spring.collaborative.projects.SerialExecutorTestCases;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationDescriptorCacheTestCases;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationServiceTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -37,7 +42,12 @@ import org.junit.runners.Suite.SuiteClasses;
     CreateRootObjectEventHandlerTestCases.class,
     DeleteObjectEventHandlerTestCases.class,
     RenameObjectEventHandlerTestCases.class,
-    ProjectServiceTestCases.class
+    ProjectEventProcessorEvictionPolicyTestCases.class,
+    ProjectEventProcessorTestCases.class,
+    ProjectServiceTestCases.class,
+    SerialExecutorTestCases.class,
+    RepresentationDescriptorCacheTestCases.class,
+    RepresentationServiceTestCases.class
 })
 //@formatter:on
 public final class AllSiriusWebSpringCollaborativeTests {
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 
 /**
  * Implementation of the representation service which does nothing.
@@ -47,6 +48,11 @@ public class NoOpRepresentationService implements IRepresentationService {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<RepresentationMetadata> getRepresentationMetadataForObjectId(String objectId) {
+        return new ArrayList<>();
+    }
+
     @Override
     public void save(RepresentationDescriptor representationDescriptor) {
     }
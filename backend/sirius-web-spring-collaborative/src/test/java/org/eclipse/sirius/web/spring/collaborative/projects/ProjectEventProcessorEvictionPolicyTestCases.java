@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.services.api.Context;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.RenameObjectInput;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpEditingContext;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpObjectService;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpProjectService;
+import org.eclipse.sirius.web.spring.collaborative.stopwatch.NoOpStopWatch;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * Unit tests of the eviction of the project event processors.
+ *
+ * @author sbegaudeau
+ */
+public class ProjectEventProcessorEvictionPolicyTestCases {
+
+    private static final long IDLE_TIMEOUT = 1000;
+
+    private static final long EVICTION_INTERVAL = 3600000;
+
+    private static final String HANDLED = "handled"; //$NON-NLS-1$
+
+    private static final String FLUSHED = "flushed"; //$NON-NLS-1$
+
+    private static final int MAX_EVICTION_ATTEMPTS = 1000;
+
+    private IEditingContextManager getEditingContextManager(List<String> events) {
+        return new IEditingContextManager() {
+            @Override
+            public IEditingContext createEditingContext(UUID projectID) {
+                return new NoOpEditingContext();
+            }
+
+            @Override
+            public void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch) {
+                // Do nothing
+            }
+
+            @Override
+            public void flush(UUID projectId) {
+                events.add(FLUSHED);
+            }
+
+            @Override
+            public long getEstimatedSize(IEditingContext editingContext) {
+                return 0;
+            }
+        };
+    }
+
+    private IProjectEventHandler getProjectEventHandler(List<String> events, CountDownLatch latch) {
+        return new IProjectEventHandler() {
+            @Override
+            public boolean canHandle(IProjectInput projectInput) {
+                return projectInput instanceof RenameObjectInput;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IProjectInput projectInput, Context context) {
+                try {
+                    latch.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                events.add(HANDLED);
+                return new EventHandlerResponse(false, representation -> false, new IPayload() {
+                    // Empty payload
+                });
+            }
+        };
+    }
+
+    private ProjectEventProcessorFactory getProjectEventProcessorFactory(List<String> events, CountDownLatch latch) {
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass,
+                    IRepresentationConfiguration configuration, IEditingContext editingContext, Context context) {
+                return Optional.empty();
+            }
+        };
+        return new ProjectEventProcessorFactory(this.getEditingContextManager(events), new NoOpApplicationEventPublisher(), new NoOpObjectService(),
+                List.of(this.getProjectEventHandler(events, latch)), representationEventProcessorComposedFactory, id -> new NoOpStopWatch(), new RepresentationRefreshPolicy(false, 0, false));
+    }
+
+    @Test
+    public void testIdleProcessorEvicted() {
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        ProjectEventProcessorFactory projectEventProcessorFactory = this.getProjectEventProcessorFactory(new ArrayList<>(), new CountDownLatch(0));
+        ProjectEventProcessor projectEventProcessor = projectEventProcessorFactory.createProjectEventProcessor(UUID.randomUUID(), projectEventScheduler.createSerialExecutor());
+
+        ProjectEventProcessorEvictionPolicy evictionPolicy = new ProjectEventProcessorEvictionPolicy(IDLE_TIMEOUT, 0, 0, EVICTION_INTERVAL);
+        long lastActivityTimestamp = projectEventProcessor.getLastActivityTimestamp();
+        assertThat(evictionPolicy.getProcessorsToEvict(List.of(projectEventProcessor), lastActivityTimestamp + IDLE_TIMEOUT)).isEmpty();
+        assertThat(evictionPolicy.getProcessorsToEvict(List.of(projectEventProcessor), lastActivityTimestamp + IDLE_TIMEOUT + 1)).containsExactly(projectEventProcessor);
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+    }
+
+    @Test
+    public void testBusyProcessorEvictedOnceIdle() throws InterruptedException, ExecutionException {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        ProjectEventProcessorFactory projectEventProcessorFactory = this.getProjectEventProcessorFactory(events, latch);
+        NoOpProjectService projectService = new NoOpProjectService() {
+            @Override
+            public boolean existsById(UUID projectId) {
+                return true;
+            }
+        };
+        ProjectEventProcessorEvictionPolicy evictionPolicy = new ProjectEventProcessorEvictionPolicy(1, 0, 0, EVICTION_INTERVAL);
+        ProjectEventProcessorRegistry projectEventProcessorRegistry = new ProjectEventProcessorRegistry(projectService, this.getEditingContextManager(events),
+                projectEventProcessorFactory, projectEventScheduler, evictionPolicy);
+
+        UUID projectId = UUID.randomUUID();
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        CompletableFuture<IPayload> future = projectEventProcessorRegistry.dispatchEventAsync(projectId, new RenameObjectInput(projectId, "object", "Object"), context).toFuture(); //$NON-NLS-1$ //$NON-NLS-2$
+
+        // The processor has been idle for longer than the idle timeout but it is still handling its input
+        Thread.sleep(2);
+        projectEventProcessorRegistry.evictProjectEventProcessors();
+        assertThat(projectEventProcessorRegistry.getEvictionCount()).isEqualTo(0);
+        assertThat(projectEventProcessorRegistry.getLiveProjectEventProcessorCount()).isEqualTo(1);
+
+        latch.countDown();
+        future.get();
+
+        // The end of the task of the input may be reached slightly after the completion of its result
+        for (int i = 0; i < MAX_EVICTION_ATTEMPTS && projectEventProcessorRegistry.getEvictionCount() == 0; i++) {
+            Thread.sleep(2);
+            projectEventProcessorRegistry.evictProjectEventProcessors();
+        }
+
+        projectEventProcessorRegistry.preDestroy();
+        projectEventScheduler.preDestroy();
+
+        assertThat(projectEventProcessorRegistry.getEvictionCount()).isEqualTo(1);
+        assertThat(projectEventProcessorRegistry.getLiveProjectEventProcessorCount()).isEqualTo(0);
+        assertThat(events).containsExactly(HANDLED, FLUSHED);
+    }
+
+    @Test
+    public void testProcessorAcquiredAfterSelectionNotEvicted() throws InterruptedException {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        ProjectEventProcessorFactory projectEventProcessorFactory = this.getProjectEventProcessorFactory(events, new CountDownLatch(0));
+        NoOpProjectService projectService = new NoOpProjectService() {
+            @Override
+            public boolean existsById(UUID projectId) {
+                return true;
+            }
+        };
+        ProjectEventProcessorEvictionPolicy evictionPolicy = new ProjectEventProcessorEvictionPolicy(1, 0, 0, EVICTION_INTERVAL);
+        ProjectEventProcessorRegistry projectEventProcessorRegistry = new ProjectEventProcessorRegistry(projectService, this.getEditingContextManager(events),
+                projectEventProcessorFactory, projectEventScheduler, evictionPolicy);
+
+        UUID projectId = UUID.randomUUID();
+        var optionalProjectEventProcessor = projectEventProcessorRegistry.getOrCreateProjectEventProcessor(projectId);
+        assertThat(optionalProjectEventProcessor).isPresent();
+        ProjectEventProcessor projectEventProcessor = (ProjectEventProcessor) optionalProjectEventProcessor.get();
+
+        // The processor is selected while it is idle and then acquired before being evicted
+        Thread.sleep(2);
+        long evictionTimestamp = System.currentTimeMillis();
+        List<ProjectEventProcessor> processorsToEvict = evictionPolicy.getProcessorsToEvict(List.of(projectEventProcessor), evictionTimestamp);
+        assertThat(processorsToEvict).containsExactly(projectEventProcessor);
+
+        assertThat(projectEventProcessorRegistry.getOrCreateProjectEventProcessor(projectId)).containsSame(projectEventProcessor);
+        projectEventProcessorRegistry.evictProjectEventProcessors(processorsToEvict, evictionTimestamp);
+        assertThat(projectEventProcessorRegistry.getEvictionCount()).isEqualTo(0);
+        assertThat(projectEventProcessorRegistry.getOrCreateProjectEventProcessor(projectId)).containsSame(projectEventProcessor);
+
+        // Once idle again, the processor is evicted and a new one is created for the next acquisition
+        Thread.sleep(2);
+        projectEventProcessorRegistry.evictProjectEventProcessors();
+        assertThat(projectEventProcessorRegistry.getEvictionCount()).isEqualTo(1);
+        assertThat(projectEventProcessorRegistry.getOrCreateProjectEventProcessor(projectId).get()).isNotSameAs(projectEventProcessor);
+
+        projectEventProcessorRegistry.preDestroy();
+        projectEventScheduler.preDestroy();
+
+        assertThat(events).containsExactly(FLUSHED);
+    }
+}
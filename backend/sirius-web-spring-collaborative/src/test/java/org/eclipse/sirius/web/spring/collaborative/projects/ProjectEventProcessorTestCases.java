@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.collaborative.api.dto.BatchInput;
+import org.eclipse.sirius.web.collaborative.api.dto.BatchSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.RepresentationDependencies;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.services.api.Context;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IInput;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+import org.eclipse.sirius.web.services.api.dto.IRepresentationInput;
+import org.eclipse.sirius.web.services.api.monitoring.IStopWatch;
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.RenameObjectInput;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpEditingContext;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpObjectService;
+import org.eclipse.sirius.web.spring.collaborative.representations.SubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.stopwatch.NoOpStopWatch;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests of the project event processor.
+ *
+ * @author sbegaudeau
+ */
+public class ProjectEventProcessorTestCases {
+
+    private static final int INPUT_COUNT = 5;
+
+    private IEditingContextManager getEditingContextManager(IEditingContext editingContext, AtomicInteger persistCount) {
+        return new IEditingContextManager() {
+            @Override
+            public IEditingContext createEditingContext(UUID projectID) {
+                return editingContext;
+            }
+
+            @Override
+            public void persist(UUID projectId, IEditingContext editingContext, IStopWatch stopWatch) {
+                persistCount.incrementAndGet();
+            }
+
+            @Override
+            public void flush(UUID projectId) {
+                // Do nothing
+            }
+
+            @Override
+            public long getEstimatedSize(IEditingContext editingContext) {
+                return 0;
+            }
+        };
+    }
+
+    private IProjectEventHandler getProjectEventHandler(AtomicInteger handledCount, CountDownLatch latch) {
+        return new IProjectEventHandler() {
+            @Override
+            public boolean canHandle(IProjectInput projectInput) {
+                return projectInput instanceof RenameObjectInput;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IProjectInput projectInput, Context context) {
+                try {
+                    latch.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                handledCount.incrementAndGet();
+                return new EventHandlerResponse(true, representation -> true, new IPayload() {
+                    // Empty payload
+                });
+            }
+        };
+    }
+
+    private IRepresentationEventProcessor getRepresentationEventProcessor(UUID representationId, Runnable refreshAction, RepresentationDependencies dependencies) {
+        return this.getRepresentationEventProcessor(representationId, refreshAction, () -> {
+            // Do nothing
+        }, dependencies);
+    }
+
+    private IRepresentationEventProcessor getRepresentationEventProcessor(UUID representationId, Runnable refreshAction, Runnable skipRefreshAction, RepresentationDependencies dependencies) {
+        IRepresentation representation = new IRepresentation() {
+            @Override
+            public UUID getId() {
+                return representationId;
+            }
+
+            @Override
+            public String getLabel() {
+                return "representation"; //$NON-NLS-1$
+            }
+
+            @Override
+            public String getKind() {
+                return "Representation"; //$NON-NLS-1$
+            }
+        };
+
+        return new IRepresentationEventProcessor() {
+            private final ISubscriptionManager subscriptionManager = new SubscriptionManager();
+
+            @Override
+            public IRepresentation getRepresentation() {
+                return representation;
+            }
+
+            @Override
+            public Optional<EventHandlerResponse> handle(IRepresentationInput representationInput, Context context) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void refresh(IStopWatch stopWatch) {
+                refreshAction.run();
+            }
+
+            @Override
+            public void skipRefresh() {
+                skipRefreshAction.run();
+            }
+
+            @Override
+            public Optional<RepresentationDependencies> getDependencies() {
+                return Optional.ofNullable(dependencies);
+            }
+
+            @Override
+            public ISubscriptionManager getSubscriptionManager() {
+                return this.subscriptionManager;
+            }
+
+            @Override
+            public Flux<IPayload> getOutputEvents() {
+                return Flux.empty();
+            }
+
+            @Override
+            public void dispose() {
+                // Do nothing
+            }
+
+            @Override
+            public void preDestroy() {
+                // Do nothing
+            }
+        };
+    }
+
+    private IRepresentationEventProcessorComposedFactory getRepresentationEventProcessorComposedFactory(List<IRepresentationEventProcessor> representationEventProcessors) {
+        return new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass,
+                    IRepresentationConfiguration configuration, IEditingContext editingContext, Context context) {
+                // @formatter:off
+                return representationEventProcessors.stream()
+                        .filter(representationEventProcessor -> representationEventProcessor.getRepresentation().getId().equals(configuration.getId()))
+                        .findFirst()
+                        .filter(representationEventProcessorClass::isInstance)
+                        .map(representationEventProcessorClass::cast);
+                // @formatter:on
+            }
+        };
+    }
+
+    private void acquireRepresentationEventProcessor(ProjectEventProcessor projectEventProcessor, UUID representationId, Context context) {
+        projectEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, () -> representationId,
+                new SubscriptionDescription(context.getPrincipal(), "subscription"), context); //$NON-NLS-1$
+    }
+
+    private ProjectEventProcessor createProjectEventProcessor(UUID projectId, IEditingContextManager editingContextManager, IProjectEventHandler projectEventHandler,
+            List<IRepresentationEventProcessor> representationEventProcessors, RepresentationRefreshPolicy representationRefreshPolicy, ProjectEventScheduler projectEventScheduler) {
+        ProjectEventProcessorFactory projectEventProcessorFactory = new ProjectEventProcessorFactory(editingContextManager, new NoOpApplicationEventPublisher(), new NoOpObjectService(),
+                List.of(projectEventHandler), this.getRepresentationEventProcessorComposedFactory(representationEventProcessors), id -> new NoOpStopWatch(), representationRefreshPolicy);
+        return projectEventProcessorFactory.createProjectEventProcessor(projectId, projectEventScheduler.createSerialExecutor());
+    }
+
+    @Test
+    public void testBatchInputPersistedOnce() {
+        AtomicInteger persistCount = new AtomicInteger();
+        AtomicInteger handledCount = new AtomicInteger();
+        AtomicInteger refreshCount = new AtomicInteger();
+
+        UUID projectId = UUID.randomUUID();
+        UUID representationId = UUID.randomUUID();
+        var representationEventProcessors = List.of(this.getRepresentationEventProcessor(representationId, refreshCount::incrementAndGet, null));
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        RepresentationRefreshPolicy representationRefreshPolicy = new RepresentationRefreshPolicy(false, 0, false);
+        ProjectEventProcessor projectEventProcessor = this.createProjectEventProcessor(projectId, this.getEditingContextManager(new NoOpEditingContext(), persistCount),
+                this.getProjectEventHandler(handledCount, new CountDownLatch(0)), representationEventProcessors, representationRefreshPolicy, projectEventScheduler);
+
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        this.acquireRepresentationEventProcessor(projectEventProcessor, representationId, context);
+
+        List<IInput> inputs = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            inputs.add(new RenameObjectInput(projectId, "object" + i, "Object " + i)); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        IPayload payload = projectEventProcessor.handle(new BatchInput(projectId, inputs), context).block();
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+
+        assertThat(payload).isInstanceOf(BatchSuccessPayload.class);
+        assertThat(((BatchSuccessPayload) payload).getPayloads()).hasSize(INPUT_COUNT).noneMatch(ErrorPayload.class::isInstance);
+        assertThat(handledCount.get()).isEqualTo(INPUT_COUNT);
+        assertThat(persistCount.get()).isEqualTo(1);
+        assertThat(refreshCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRefreshCoalescedWhileInputsAreQueued() throws InterruptedException, ExecutionException {
+        AtomicInteger persistCount = new AtomicInteger();
+        AtomicInteger handledCount = new AtomicInteger();
+        AtomicInteger refreshCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        UUID projectId = UUID.randomUUID();
+        UUID representationId = UUID.randomUUID();
+        var representationEventProcessors = List.of(this.getRepresentationEventProcessor(representationId, refreshCount::incrementAndGet, null));
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        RepresentationRefreshPolicy representationRefreshPolicy = new RepresentationRefreshPolicy(true, 60000, false);
+        ProjectEventProcessor projectEventProcessor = this.createProjectEventProcessor(projectId, this.getEditingContextManager(new NoOpEditingContext(), persistCount),
+                this.getProjectEventHandler(handledCount, latch), representationEventProcessors, representationRefreshPolicy, projectEventScheduler);
+
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        this.acquireRepresentationEventProcessor(projectEventProcessor, representationId, context);
+
+        List<CompletableFuture<IPayload>> futures = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            futures.add(projectEventProcessor.handle(new RenameObjectInput(projectId, "object" + i, "Object " + i), context).toFuture()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        latch.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).get();
+
+        // The empty batch is handled after all the tasks already queued, including the deferred refresh
+        projectEventProcessor.handle(new BatchInput(projectId, List.of()), context).block();
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+
+        assertThat(handledCount.get()).isEqualTo(INPUT_COUNT);
+        assertThat(persistCount.get()).isEqualTo(INPUT_COUNT);
+        assertThat(refreshCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOnlyImpactedRepresentationsRefreshed() {
+        AtomicInteger handledCount = new AtomicInteger();
+        AtomicInteger impactedRefreshCount = new AtomicInteger();
+        AtomicInteger unknownRefreshCount = new AtomicInteger();
+        AtomicInteger notImpactedRefreshCount = new AtomicInteger();
+        AtomicInteger skippedRefreshCount = new AtomicInteger();
+
+        Object rootObject = new Object();
+        Object targetObject = new Object();
+        Object impactedObject = new Object();
+        Object notImpactedObject = new Object();
+
+        UUID projectId = UUID.randomUUID();
+        UUID impactedRepresentationId = UUID.randomUUID();
+        UUID unknownRepresentationId = UUID.randomUUID();
+        UUID notImpactedRepresentationId = UUID.randomUUID();
+        // @formatter:off
+        var representationEventProcessors = List.of(
+                this.getRepresentationEventProcessor(impactedRepresentationId, impactedRefreshCount::incrementAndGet, skippedRefreshCount::incrementAndGet, new RepresentationDependencies(targetObject, Set.of(impactedObject, notImpactedObject))),
+                this.getRepresentationEventProcessor(unknownRepresentationId, unknownRefreshCount::incrementAndGet, skippedRefreshCount::incrementAndGet, null),
+                this.getRepresentationEventProcessor(notImpactedRepresentationId, notImpactedRefreshCount::incrementAndGet, skippedRefreshCount::incrementAndGet, new RepresentationDependencies(targetObject, Set.of(targetObject, notImpactedObject)))
+        );
+        // @formatter:on
+
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        RepresentationRefreshPolicy representationRefreshPolicy = new RepresentationRefreshPolicy(false, 0, true);
+        IEditingContext editingContext = new RecordingEditingContext(Map.of(impactedObject, Set.of(impactedObject, targetObject, rootObject)));
+        ProjectEventProcessor projectEventProcessor = this.createProjectEventProcessor(projectId, this.getEditingContextManager(editingContext, new AtomicInteger()),
+                this.getProjectEventHandler(handledCount, new CountDownLatch(0)), representationEventProcessors, representationRefreshPolicy, projectEventScheduler);
+
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        this.acquireRepresentationEventProcessor(projectEventProcessor, impactedRepresentationId, context);
+        this.acquireRepresentationEventProcessor(projectEventProcessor, unknownRepresentationId, context);
+        this.acquireRepresentationEventProcessor(projectEventProcessor, notImpactedRepresentationId, context);
+
+        projectEventProcessor.handle(new RenameObjectInput(projectId, "object", "Object"), context).block(); //$NON-NLS-1$ //$NON-NLS-2$
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+
+        assertThat(handledCount.get()).isEqualTo(1);
+        assertThat(impactedRefreshCount.get()).isEqualTo(1);
+        assertThat(unknownRefreshCount.get()).isEqualTo(1);
+        assertThat(notImpactedRefreshCount.get()).isEqualTo(0);
+        assertThat(skippedRefreshCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRepresentationsImpactedByChangesOutsideOfTheirTargetObject() {
+        AtomicInteger handledCount = new AtomicInteger();
+        AtomicInteger outsideRefreshCount = new AtomicInteger();
+        AtomicInteger insideRefreshCount = new AtomicInteger();
+
+        Object rootObject = new Object();
+        Object targetObject = new Object();
+        Object containedObject = new Object();
+        Object modifiedObject = new Object();
+
+        UUID projectId = UUID.randomUUID();
+        UUID outsideRepresentationId = UUID.randomUUID();
+        UUID insideRepresentationId = UUID.randomUUID();
+        // @formatter:off
+        var representationEventProcessors = List.of(
+                this.getRepresentationEventProcessor(outsideRepresentationId, outsideRefreshCount::incrementAndGet, new RepresentationDependencies(targetObject, Set.of(containedObject))),
+                this.getRepresentationEventProcessor(insideRepresentationId, insideRefreshCount::incrementAndGet, new RepresentationDependencies(rootObject, Set.of(targetObject)))
+        );
+        // @formatter:on
+
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        RepresentationRefreshPolicy representationRefreshPolicy = new RepresentationRefreshPolicy(false, 0, true);
+        IEditingContext editingContext = new RecordingEditingContext(Map.of(modifiedObject, Set.of(modifiedObject, rootObject)));
+        ProjectEventProcessor projectEventProcessor = this.createProjectEventProcessor(projectId, this.getEditingContextManager(editingContext, new AtomicInteger()),
+                this.getProjectEventHandler(handledCount, new CountDownLatch(0)), representationEventProcessors, representationRefreshPolicy, projectEventScheduler);
+
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        this.acquireRepresentationEventProcessor(projectEventProcessor, outsideRepresentationId, context);
+        this.acquireRepresentationEventProcessor(projectEventProcessor, insideRepresentationId, context);
+
+        projectEventProcessor.handle(new RenameObjectInput(projectId, "object", "Object"), context).block(); //$NON-NLS-1$ //$NON-NLS-2$
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+
+        assertThat(handledCount.get()).isEqualTo(1);
+        assertThat(outsideRefreshCount.get()).isEqualTo(1);
+        assertThat(insideRefreshCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRefreshDurationsRecorded() {
+        AtomicInteger handledCount = new AtomicInteger();
+        AtomicInteger refreshCount = new AtomicInteger();
+
+        UUID projectId = UUID.randomUUID();
+        List<IRepresentationEventProcessor> representationEventProcessors = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            representationEventProcessors.add(this.getRepresentationEventProcessor(UUID.randomUUID(), refreshCount::incrementAndGet, null));
+        }
+
+        ProjectEventScheduler projectEventScheduler = new ProjectEventScheduler(1);
+        RepresentationRefreshPolicy representationRefreshPolicy = new RepresentationRefreshPolicy(false, 0, false);
+        ProjectEventProcessor projectEventProcessor = this.createProjectEventProcessor(projectId, this.getEditingContextManager(new NoOpEditingContext(), new AtomicInteger()),
+                this.getProjectEventHandler(handledCount, new CountDownLatch(0)), representationEventProcessors, representationRefreshPolicy, projectEventScheduler);
+
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+        for (IRepresentationEventProcessor representationEventProcessor : representationEventProcessors) {
+            this.acquireRepresentationEventProcessor(projectEventProcessor, representationEventProcessor.getRepresentation().getId(), context);
+        }
+
+        projectEventProcessor.handle(new RenameObjectInput(projectId, "object", "Object"), context).block(); //$NON-NLS-1$ //$NON-NLS-2$
+        var refreshDurations = projectEventProcessor.getRefreshDurations();
+
+        projectEventProcessor.dispose();
+        projectEventScheduler.preDestroy();
+
+        assertThat(handledCount.get()).isEqualTo(1);
+        assertThat(refreshCount.get()).isEqualTo(INPUT_COUNT);
+        assertThat(refreshDurations).hasSize(INPUT_COUNT);
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextChangeRecorder;
+
+/**
+ * Implementation of the editing context which always reports the same modified objects.
+ *
+ * @author sbegaudeau
+ */
+public class RecordingEditingContext implements IEditingContext, IEditingContextChangeRecorder {
+
+    private final Map<Object, Set<Object>> modifiedObjects;
+
+    private final Set<Object> impactedObjects = new HashSet<>();
+
+    public RecordingEditingContext(Map<Object, Set<Object>> modifiedObjects) {
+        this.modifiedObjects = Objects.requireNonNull(modifiedObjects);
+        this.modifiedObjects.values().forEach(this.impactedObjects::addAll);
+    }
+
+    @Override
+    public UUID getProjectId() {
+        return UUID.randomUUID();
+    }
+
+    @Override
+    public Object getDomain() {
+        return null;
+    }
+
+    @Override
+    public Set<Object> getImpactedObjects() {
+        return this.impactedObjects;
+    }
+
+    @Override
+    public Map<Object, Set<Object>> getModifiedObjects() {
+        return this.modifiedObjects;
+    }
+
+    @Override
+    public boolean hasChanges() {
+        return !this.impactedObjects.isEmpty();
+    }
+
+    @Override
+    public long getGeneration() {
+        return 0;
+    }
+
+    @Override
+    public void clearChanges() {
+        // Do nothing
+    }
+
+}
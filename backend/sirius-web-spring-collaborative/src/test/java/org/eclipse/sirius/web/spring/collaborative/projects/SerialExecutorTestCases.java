@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of the serial executor.
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutorTestCases {
+
+    private static final int TASK_COUNT = 200;
+
+    @Test
+    public void testTasksExecutedInOrderOneAtATime() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        SerialExecutor firstSerialExecutor = new SerialExecutor(executorService);
+        SerialExecutor secondSerialExecutor = new SerialExecutor(executorService);
+
+        List<Integer> firstExecutionOrder = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> secondExecutionOrder = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger runningTaskCount = new AtomicInteger();
+        AtomicInteger maxRunningTaskCount = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                int running = runningTaskCount.incrementAndGet();
+                maxRunningTaskCount.accumulateAndGet(running, Math::max);
+                firstExecutionOrder.add(index);
+                runningTaskCount.decrementAndGet();
+            }, firstSerialExecutor));
+            futures.add(CompletableFuture.runAsync(() -> secondExecutionOrder.add(index), secondSerialExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).get();
+        executorService.shutdown();
+
+        List<Integer> expectedOrder = IntStream.range(0, TASK_COUNT).boxed().collect(Collectors.toList());
+        assertThat(firstExecutionOrder).isEqualTo(expectedOrder);
+        assertThat(secondExecutionOrder).isEqualTo(expectedOrder);
+        assertThat(maxRunningTaskCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testTasksRejectedAfterShutdown() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        SerialExecutor serialExecutor = new SerialExecutor(executorService);
+        serialExecutor.shutdown();
+
+        AtomicInteger executedTaskCount = new AtomicInteger();
+        assertThat(serialExecutor.supply(executedTaskCount::incrementAndGet)).isEmpty();
+        serialExecutor.execute(executedTaskCount::incrementAndGet);
+        executorService.shutdown();
+
+        assertThat(executedTaskCount.get()).isEqualTo(0);
+        assertThat(serialExecutor.hasPendingTasks()).isFalse();
+    }
+
+    @Test
+    public void testWaitingTasksRejectedWithTheSharedExecutor() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        SerialExecutor serialExecutor = new SerialExecutor(executorService);
+
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        AtomicInteger executedTaskCount = new AtomicInteger();
+        Optional<CompletableFuture<Integer>> optionalRunningFuture = serialExecutor.supply(() -> {
+            startedLatch.countDown();
+            this.await(releaseLatch);
+            return executedTaskCount.incrementAndGet();
+        });
+        Optional<CompletableFuture<Integer>> optionalWaitingFuture = serialExecutor.supply(executedTaskCount::incrementAndGet);
+        serialExecutor.execute(executedTaskCount::incrementAndGet);
+        assertThat(optionalRunningFuture).isPresent();
+        assertThat(optionalWaitingFuture).isPresent();
+
+        startedLatch.await();
+        executorService.shutdown();
+        releaseLatch.countDown();
+
+        assertThat(optionalRunningFuture.get().get()).isEqualTo(1);
+        assertThatThrownBy(() -> optionalWaitingFuture.get().get()).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(executorService.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executedTaskCount.get()).isEqualTo(1);
+        assertThat(serialExecutor.isShutdown()).isTrue();
+        assertThat(serialExecutor.hasPendingTasks()).isFalse();
+        assertThat(serialExecutor.shutdownIfIdle()).isTrue();
+        assertThat(serialExecutor.supply(executedTaskCount::incrementAndGet)).isEmpty();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.junit.Test;
+
+/**
+ * Unit tests of the cache of the representation descriptors.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDescriptorCacheTestCases {
+
+    private static final String LABEL = "representation"; //$NON-NLS-1$
+
+    private RepresentationDescriptor createRepresentationDescriptor() {
+        UUID id = UUID.randomUUID();
+        IRepresentation representation = new IRepresentation() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getLabel() {
+                return LABEL;
+            }
+
+            @Override
+            public String getKind() {
+                return "Representation"; //$NON-NLS-1$
+            }
+        };
+
+        // @formatter:off
+        return RepresentationDescriptor.newRepresentationDescriptor(id)
+                .projectId(UUID.randomUUID())
+                .targetObjectId("targetObjectId") //$NON-NLS-1$
+                .label(LABEL)
+                .representation(representation)
+                .build();
+        // @formatter:on
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDescriptorEvicted() {
+        RepresentationDescriptorCache cache = new RepresentationDescriptorCache(2);
+
+        RepresentationDescriptor first = this.createRepresentationDescriptor();
+        RepresentationDescriptor second = this.createRepresentationDescriptor();
+        RepresentationDescriptor third = this.createRepresentationDescriptor();
+
+        cache.put(first);
+        cache.put(second);
+        assertThat(cache.get(first.getId())).contains(first);
+
+        cache.put(third);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first.getId())).contains(first);
+        assertThat(cache.get(second.getId())).isEmpty();
+        assertThat(cache.get(third.getId())).contains(third);
+
+        cache.remove(first.getId());
+        assertThat(cache.get(first.getId())).isEmpty();
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        RepresentationDescriptorCache cache = new RepresentationDescriptorCache(0);
+
+        RepresentationDescriptor representationDescriptor = this.createRepresentationDescriptor();
+        cache.put(representationDescriptor);
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get(representationDescriptor.getId())).isEmpty();
+    }
+}
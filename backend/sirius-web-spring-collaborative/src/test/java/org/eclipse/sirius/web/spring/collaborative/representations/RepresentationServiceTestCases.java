@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
+import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.spring.collaborative.projects.NoOpProjectRepository;
+import org.eclipse.sirius.web.spring.collaborative.stopwatch.NoOpStopWatch;
+import org.junit.Test;
+
+/**
+ * Unit tests of the representation service.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationServiceTestCases {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
+    private static final UUID REPRESENTATION_ID = UUID.randomUUID();
+
+    private static final String TARGET_OBJECT_ID = "targetObjectId"; //$NON-NLS-1$
+
+    private RepresentationDescriptor createRepresentationDescriptor(String label, String kind) {
+        IRepresentation representation = new IRepresentation() {
+            @Override
+            public UUID getId() {
+                return REPRESENTATION_ID;
+            }
+
+            @Override
+            public String getLabel() {
+                return label;
+            }
+
+            @Override
+            public String getKind() {
+                return kind;
+            }
+        };
+
+        // @formatter:off
+        return RepresentationDescriptor.newRepresentationDescriptor(REPRESENTATION_ID)
+                .projectId(PROJECT_ID)
+                .targetObjectId(TARGET_OBJECT_ID)
+                .label(label)
+                .representation(representation)
+                .build();
+        // @formatter:on
+    }
+
+    @Test
+    public void testUnchangedRepresentationNotSavedTwice() {
+        List<String> savedContents = new ArrayList<>();
+        List<UUID> projectIdsFound = new ArrayList<>();
+
+        IProjectRepository projectRepository = new NoOpProjectRepository() {
+            @Override
+            public Optional<ProjectEntity> findById(UUID id) {
+                projectIdsFound.add(id);
+                ProjectEntity projectEntity = new ProjectEntity();
+                projectEntity.setId(id);
+                return Optional.of(projectEntity);
+            }
+        };
+        NoOpRepresentationRepository representationRepository = new NoOpRepresentationRepository() {
+            @Override
+            public <S extends RepresentationEntity> S save(S representationEntity) {
+                savedContents.add(representationEntity.getContent());
+                return representationEntity;
+            }
+        };
+
+        RepresentationService representationService = new RepresentationService(projectRepository, representationRepository, new ObjectMapper(), id -> new NoOpStopWatch(), 100, 100);
+
+        representationService.save(this.createRepresentationDescriptor("Diagram", "Kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        representationService.save(this.createRepresentationDescriptor("Diagram", "Kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedContents).hasSize(1);
+        assertThat(projectIdsFound).containsExactly(PROJECT_ID);
+        assertThat(representationService.getPerformedSaveCount()).isEqualTo(1);
+        assertThat(representationService.getSkippedSaveCount()).isEqualTo(1);
+
+        representationService.save(this.createRepresentationDescriptor("Diagram", "Other kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        representationService.save(this.createRepresentationDescriptor("Renamed diagram", "Other kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedContents).hasSize(3);
+        assertThat(representationService.getPerformedSaveCount()).isEqualTo(3);
+
+        representationService.delete(REPRESENTATION_ID);
+        representationService.save(this.createRepresentationDescriptor("Renamed diagram", "Other kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedContents).hasSize(4);
+        assertThat(representationService.getSkippedSaveCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRepresentationNotPersistedSavedAgain() {
+        List<String> savedContents = new ArrayList<>();
+        AtomicBoolean isProjectFound = new AtomicBoolean(false);
+
+        IProjectRepository projectRepository = new NoOpProjectRepository() {
+            @Override
+            public Optional<ProjectEntity> findById(UUID id) {
+                ProjectEntity projectEntity = new ProjectEntity();
+                projectEntity.setId(id);
+                return Optional.of(projectEntity).filter(entity -> isProjectFound.get());
+            }
+        };
+        NoOpRepresentationRepository representationRepository = new NoOpRepresentationRepository() {
+            @Override
+            public <S extends RepresentationEntity> S save(S representationEntity) {
+                savedContents.add(representationEntity.getContent());
+                return representationEntity;
+            }
+        };
+
+        RepresentationService representationService = new RepresentationService(projectRepository, representationRepository, new ObjectMapper(), id -> new NoOpStopWatch(), 100, 100);
+
+        representationService.save(this.createRepresentationDescriptor("Diagram", "Kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedContents).isEmpty();
+
+        isProjectFound.set(true);
+        representationService.save(this.createRepresentationDescriptor("Diagram", "Kind")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(savedContents).hasSize(1);
+        assertThat(representationService.getPerformedSaveCount()).isEqualTo(1);
+        assertThat(representationService.getSkippedSaveCount()).isEqualTo(0);
+    }
+}
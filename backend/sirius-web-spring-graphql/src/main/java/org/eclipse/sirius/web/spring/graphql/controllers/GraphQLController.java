@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -122,10 +123,16 @@ public class GraphQLController {
         this.graphQL = Objects.requireNonNull(graphQL);
     }
 
+    /**
+     * Handles a POST request with a GraphQL query.
+     *
+     * The query is executed asynchronously in order to release the request thread while the data fetchers are waiting
+     * for their results, such as the mutations waiting for the handling of their input by a project event processor.
+     */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request, Principal principal) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request, Principal principal) {
         if (principal == null) {
-            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
         }
 
         String query = graphQLPayload.getQuery();
@@ -145,10 +152,10 @@ public class GraphQLController {
                 .build();
         // @formatter:on
 
-        ExecutionResult executionResult = this.graphQL.execute(executionInput);
-        this.logErrors(executionResult);
-
-        return new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.OK);
+        return this.graphQL.executeAsync(executionInput).thenApply(executionResult -> {
+            this.logErrors(executionResult);
+            return new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.OK);
+        });
     }
 
     private void logErrors(ExecutionResult executionResult) {
@@ -175,14 +182,14 @@ public class GraphQLController {
      * @see https://github.com/jaydenseric/graphql-multipart-request-spec
      */
     @PostMapping(path = "/upload")
-    public ResponseEntity<Map<String, Object>> uploadDocument(@RequestParam(OPERATIONS) String operations, @RequestParam(MAP) String map, @RequestParam(FIRST_UPLOADED_FILE) MultipartFile file,
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadDocument(@RequestParam(OPERATIONS) String operations, @RequestParam(MAP) String map, @RequestParam(FIRST_UPLOADED_FILE) MultipartFile file,
             Principal principal) {
         Optional<GraphQLPayload> optionalGraphQLPayload = this.getGraphQLPayload(operations);
         Optional<JsonNode> optionalJsonNode = this.getJsonNode(map);
 
-        ResponseEntity<Map<String, Object>> responseEntity = new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        CompletableFuture<ResponseEntity<Map<String, Object>>> responseEntity = CompletableFuture.completedFuture(new ResponseEntity<>(null, HttpStatus.BAD_REQUEST));
         if (principal == null) {
-            responseEntity = new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+            responseEntity = CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
         } else if (optionalGraphQLPayload.isPresent() && optionalJsonNode.isPresent()) {
             GraphQLPayload graphQLPayload = optionalGraphQLPayload.get();
             JsonNode jsonNode = optionalJsonNode.get();
@@ -204,9 +211,7 @@ public class GraphQLController {
                         .build();
                 // @formatter:on
 
-                ExecutionResult executionResult = this.graphQL.execute(executionInput);
-
-                responseEntity = new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.CREATED);
+                responseEntity = this.graphQL.executeAsync(executionInput).thenApply(executionResult -> new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.CREATED));
             }
         }
         return responseEntity;
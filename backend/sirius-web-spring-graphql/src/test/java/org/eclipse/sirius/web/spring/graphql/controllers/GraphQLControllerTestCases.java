@@ -109,28 +109,28 @@ public class GraphQLControllerTestCases {
     @Test
     public void testInvalidOperation() {
         GraphQLController graphQLController = new GraphQLController(new ObjectMapper(), this.getGraphQL());
-        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(null, MAPPING, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object()));
+        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(null, MAPPING, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object())).join();
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
     public void testInvalidMapping() {
         GraphQLController graphQLController = new GraphQLController(new ObjectMapper(), this.getGraphQL());
-        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, null, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object()));
+        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, null, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object())).join();
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
     public void testInvalidMultipartFile() {
         GraphQLController graphQLController = new GraphQLController(new ObjectMapper(), this.getGraphQL());
-        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, MAPPING, null, new UsernamePasswordAuthenticationToken(new Object(), new Object()));
+        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, MAPPING, null, new UsernamePasswordAuthenticationToken(new Object(), new Object())).join();
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
     public void testValidUpload() {
         GraphQLController graphQLController = new GraphQLController(new ObjectMapper(), this.getGraphQL());
-        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, MAPPING, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object()));
+        ResponseEntity<Map<String, Object>> responseEntity = graphQLController.uploadDocument(QUERY, MAPPING, FILE, new UsernamePasswordAuthenticationToken(new Object(), new Object())).join();
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(responseEntity.getBody().toString()).isEqualTo("{data={uploadDocument=DOCUMENT_CREATED}}"); //$NON-NLS-1$
     }